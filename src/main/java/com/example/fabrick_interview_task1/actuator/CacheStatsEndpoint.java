@@ -0,0 +1,96 @@
+package com.example.fabrick_interview_task1.actuator;
+
+import com.example.fabrick_interview_task1.model.CacheStatistics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineStatsCounter;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-cache statistics at {@code /actuator/cachestats}, read from the meters every cache records through a
+ * {@link CaffeineStatsCounter}. Recording stays on the cache hot path as lock-free meter updates; the numbers are
+ * only gathered here, when the endpoint is read.
+ */
+@Component
+@Endpoint(id = "cachestats")
+@RequiredArgsConstructor
+public class CacheStatsEndpoint {
+
+    private final MeterRegistry meterRegistry;
+
+    @ReadOperation
+    public Map<String, CacheStatistics> caches() {
+        Map<String, CacheStatistics> caches = new TreeMap<>();
+        meterRegistry.find("cache.gets").meters().stream()
+                .map(meter -> meter.getId().getTag("cache"))
+                .filter(Objects::nonNull)
+                .distinct()
+                .forEach(name -> caches.put(name, statistics(name)));
+        return caches;
+    }
+
+    @ReadOperation
+    public CacheStatistics cache(@Selector String name) {
+        // null answers 404
+        return meterRegistry.find("cache.gets").tag("cache", name).meter() != null ? statistics(name) : null;
+    }
+
+    private CacheStatistics statistics(String name) {
+        Timer loadSuccesses = meterRegistry.find("cache.loads").tags("cache", name, "result", "success").timer();
+        Timer loadFailures = meterRegistry.find("cache.loads").tags("cache", name, "result", "failure").timer();
+        long successes = loadSuccesses != null ? loadSuccesses.count() : 0;
+        long failures = loadFailures != null ? loadFailures.count() : 0;
+        double totalLoadMillis = (loadSuccesses != null ? loadSuccesses.totalTime(TimeUnit.MILLISECONDS) : 0)
+                + (loadFailures != null ? loadFailures.totalTime(TimeUnit.MILLISECONDS) : 0);
+
+        Map<String, Double> percentiles = new LinkedHashMap<>();
+        if (loadSuccesses != null) {
+            for (ValueAtPercentile percentile : loadSuccesses.takeSnapshot().percentileValues()) {
+                percentiles.put(percentileName(percentile.percentile()), percentile.value(TimeUnit.MILLISECONDS));
+            }
+        }
+
+        Map<String, Long> evictions = new TreeMap<>();
+        for (DistributionSummary summary : meterRegistry.find("cache.evictions").tag("cache", name).summaries()) {
+            String cause = summary.getId().getTag("cause");
+            if (cause != null && summary.count() > 0) {
+                evictions.put(cause.toLowerCase(), summary.count());
+            }
+        }
+
+        Gauge weightedSize = meterRegistry.find("cache.weighted.size").tag("cache", name).gauge();
+        return new CacheStatistics(name, count(name, "hit"), count(name, "miss"), successes, failures,
+                successes + failures > 0 ? totalLoadMillis / (successes + failures) : 0, percentiles, evictions,
+                (long) gaugeValue(meterRegistry.find("cache.size").tag("cache", name).gauge()),
+                weightedSize != null ? (long) weightedSize.value() : null);
+    }
+
+    private long count(String name, String result) {
+        Counter counter = meterRegistry.find("cache.gets").tags("cache", name, "result", result).counter();
+        return counter != null ? (long) counter.count() : 0;
+    }
+
+    private static double gaugeValue(Gauge gauge) {
+        return gauge != null ? gauge.value() : 0;
+    }
+
+    private static String percentileName(double percentile) {
+        // 0.5 -> p50, 0.999 -> p99.9
+        return "p" + BigDecimal.valueOf(percentile).movePointRight(2).stripTrailingZeros().toPlainString();
+    }
+}
@@ -12,11 +12,14 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.Arrays;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @Slf4j
 @Aspect
@@ -56,27 +59,45 @@ public class ControllerLoggingAspect {
             exception = e;
             throw e;
         } finally {
-            long duration = System.currentTimeMillis() - startTime;
-            log.info("Outgoing response in {}", duration);
-
-            if (exception != null) {
-                log.error("Response failed with exception message: {}", exception.getMessage(), exception);
+            if (exception == null && response instanceof CompletableFuture<?> future) {
+                // async handler: log once the response is actually produced
+                future.whenComplete((result, error) -> logResponse(startTime, result, unwrap(error)));
             } else {
-                if (response instanceof ResponseEntity<?> responseEntity) {
-                    log.info("Status: {}", responseEntity.getStatusCode());
-                    try {
-                        String responseBody = objectMapper.writeValueAsString(responseEntity.getBody());
-                        log.info("Response Body: {}", responseBody);
-                    } catch (Exception e) {
-                        log.warn("Unable to serialize response body; Http status {}", responseEntity.getStatusCode(), e);
-                    }
-                } else {
-                    log.info("Response: {}", response);
+                logResponse(startTime, response, exception);
+            }
+        }
+    }
+
+    private void logResponse(long startTime, Object response, Throwable exception) {
+        long duration = System.currentTimeMillis() - startTime;
+        log.info("Outgoing response in {}", duration);
+
+        if (exception != null) {
+            log.error("Response failed with exception message: {}", exception.getMessage(), exception);
+        } else {
+            if (response instanceof ResponseEntity<?> responseEntity) {
+                log.info("Status: {}", responseEntity.getStatusCode());
+                if (responseEntity.getBody() instanceof StreamingResponseBody) {
+                    // written to the client after this point, never held in memory
+                    log.info("Response Body: streamed");
+                    return;
                 }
+                try {
+                    String responseBody = objectMapper.writeValueAsString(responseEntity.getBody());
+                    log.info("Response Body: {}", responseBody);
+                } catch (Exception e) {
+                    log.warn("Unable to serialize response body; Http status {}", responseEntity.getStatusCode(), e);
+                }
+            } else {
+                log.info("Response: {}", response);
             }
         }
     }
 
+    private Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
     private Map<String, String> getRequestHeaders(HttpServletRequest request) {
         Map<String, String> headers = new HashMap<>();
         Enumeration<String> headerNames = request.getHeaderNames();
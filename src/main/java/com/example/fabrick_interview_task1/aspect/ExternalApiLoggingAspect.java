@@ -9,6 +9,8 @@ import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @Slf4j
 @Aspect
@@ -42,23 +44,36 @@ public class ExternalApiLoggingAspect {
             exception = e;
             throw e;
         } finally {
-            long duration = System.currentTimeMillis() - startTime;
-            log.info("Incoming API response in {} ms", duration);
-
-            if (exception != null) {
-                log.error("Response failed with {} message: {}", exception.getClass().getSimpleName(), exception.getMessage(), exception);
+            if (exception == null && response instanceof CompletableFuture<?> future) {
+                // async client call: log once the outbound call has completed
+                future.whenComplete((result, error) -> logResponse(startTime, result, unwrap(error)));
             } else {
-                try {
-                    String responseBody = objectMapper.writeValueAsString(response);
-                    log.info("Response success with Body: {}", responseBody);
-                } catch (Exception e) {
-                    log.info("Response: {}", response);
-                    log.warn("Unable to serialize response body: {}", e.getMessage(), e);
-                }
+                logResponse(startTime, response, exception);
+            }
+        }
+    }
+
+    private void logResponse(long startTime, Object response, Throwable exception) {
+        long duration = System.currentTimeMillis() - startTime;
+        log.info("Incoming API response in {} ms", duration);
+
+        if (exception != null) {
+            log.error("Response failed with {} message: {}", exception.getClass().getSimpleName(), exception.getMessage(), exception);
+        } else {
+            try {
+                String responseBody = objectMapper.writeValueAsString(response);
+                log.info("Response success with Body: {}", responseBody);
+            } catch (Exception e) {
+                log.info("Response: {}", response);
+                log.warn("Unable to serialize response body: {}", e.getMessage(), e);
             }
         }
     }
 
+    private Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
     private String formatArguments(Object[] args) {
         if (args == null || args.length == 0) {
             return "[]";
@@ -1,7 +1,23 @@
 package com.example.fabrick_interview_task1.client;
 
-import com.example.fabrick_interview_task1.model.NasaAsteroidResponse;
+import com.example.fabrick_interview_task1.model.AsteroidRevalidation;
+import com.example.fabrick_interview_task1.model.AsteroidTimeline;
+import com.example.fabrick_interview_task1.model.NasaBrowsePage;
+
+import java.util.concurrent.CompletableFuture;
 
 public interface NasaApiClient {
-    NasaAsteroidResponse getAsteroidData(int asteroidId);
+    AsteroidTimeline getAsteroidData(int asteroidId);
+
+    CompletableFuture<AsteroidTimeline> getAsteroidDataAsync(int asteroidId);
+
+    /**
+     * Same as {@link #getAsteroidData(int)}, with the NASA call made at background priority: for filling the cache
+     * ahead of user requests without spending the interactive rate budget.
+     */
+    AsteroidTimeline preloadAsteroidData(int asteroidId);
+
+    NasaBrowsePage getBrowsePage(int page, int size);
+
+    AsteroidRevalidation revalidateAsteroidData(int asteroidId, AsteroidTimeline cached);
 }
@@ -1,49 +1,208 @@
 package com.example.fabrick_interview_task1.client.impl;
 
 import com.example.fabrick_interview_task1.config.NasaApiProperties;
+import com.example.fabrick_interview_task1.config.cache.CacheConfig;
+import com.example.fabrick_interview_task1.config.cache.CacheProperties;
 import com.example.fabrick_interview_task1.constant.ApplicationError;
 import com.example.fabrick_interview_task1.exception.NasaApiException;
+import com.example.fabrick_interview_task1.client.parser.NasaAsteroidStreamingParser;
+import com.example.fabrick_interview_task1.model.AsteroidApproaches;
+import com.example.fabrick_interview_task1.model.AsteroidRevalidation;
+import com.example.fabrick_interview_task1.model.AsteroidTimeline;
 import com.example.fabrick_interview_task1.model.NasaAsteroidResponse;
+import com.example.fabrick_interview_task1.model.NasaBrowsePage;
+import com.example.fabrick_interview_task1.model.ResponseValidators;
+import com.example.fabrick_interview_task1.resilience.CallPriority;
+import com.example.fabrick_interview_task1.resilience.NasaCircuitBreaker;
+import com.example.fabrick_interview_task1.resilience.NasaRateLimiter;
+import com.example.fabrick_interview_task1.resilience.NasaRetrier;
+import com.example.fabrick_interview_task1.resilience.RequestHedger;
+import com.example.fabrick_interview_task1.support.NegativeCache;
+import com.example.fabrick_interview_task1.support.SingleFlight;
+import com.fasterxml.jackson.core.JsonFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class NasaApiClient implements com.example.fabrick_interview_task1.client.NasaApiClient {
 
     static final String ASTEROID_ID_PLACE_HOLDER = "{asteroidId}";
+    static final String BROWSE_PATH = "browse";
     private final RestClient restClient;
     private final NasaApiProperties nasaApiProperties;
+    private final SingleFlight<Integer, AsteroidTimeline> asteroidLoads;
+    private final NegativeCache<Integer> asteroidNotFound;
+    private final Executor nasaApiExecutor;
+    private final NasaRateLimiter nasaRateLimiter;
+    private final NasaCircuitBreaker nasaCircuitBreaker;
+    private final RequestHedger nasaRequestHedger;
+    private final NasaRetrier nasaRetrier;
+    private final CacheProperties cacheProperties;
+    private final NasaAsteroidStreamingParser revalidationParser = new NasaAsteroidStreamingParser(new JsonFactory());
 
-    @Cacheable(value = "asteroid", key = "#asteroidId")
-    public NasaAsteroidResponse getAsteroidData(int asteroidId) {
-        log.info("Retrieving asteroid data from NASA API for asteroidId: {}", asteroidId);
+    // sync: a miss loads through the cache, which times the load for the cache statistics, rather than calling the
+    // method and putting its result
+    @Cacheable(value = CacheConfig.ASTEROID_CACHE, key = "#asteroidId", sync = true)
+    public AsteroidTimeline getAsteroidData(int asteroidId) {
+        // concurrent cache misses for the same asteroid share a single outbound call
+        return asteroidLoads.execute(asteroidId, () -> fetchAsteroidData(asteroidId, CallPriority.INTERACTIVE));
+    }
 
-        String url = UriComponentsBuilder.fromUriString(nasaApiProperties.getBaseUrl()).pathSegment(ASTEROID_ID_PLACE_HOLDER)
+    @Cacheable(value = CacheConfig.ASTEROID_CACHE, key = "#asteroidId", sync = true)
+    public CompletableFuture<AsteroidTimeline> getAsteroidDataAsync(int asteroidId) {
+        return CompletableFuture.supplyAsync(() -> asteroidLoads.execute(asteroidId,
+                () -> fetchAsteroidData(asteroidId, CallPriority.INTERACTIVE)), nasaApiExecutor);
+    }
+
+    @Cacheable(value = CacheConfig.ASTEROID_CACHE, key = "#asteroidId", sync = true)
+    public AsteroidTimeline preloadAsteroidData(int asteroidId) {
+        return asteroidLoads.execute(asteroidId, () -> fetchAsteroidData(asteroidId, CallPriority.BACKGROUND));
+    }
+
+    public NasaBrowsePage getBrowsePage(int page, int size) {
+        log.info("Retrieving NEO browse page {} (size {}) from NASA API", page, size);
+
+        String url = UriComponentsBuilder.fromUriString(nasaApiProperties.getBaseUrl()).pathSegment(BROWSE_PATH)
+                .queryParam("page", page)
+                .queryParam("size", size)
                 .queryParam("api_key", nasaApiProperties.getApiKey())
-                .buildAndExpand(asteroidId)
                 .toUriString();
 
         log.debug("NASA API URL: {}", url);
 
+        NasaBrowsePage browsePage = call("browse page " + page, CallPriority.BACKGROUND, () -> restClient.get()
+                .uri(url)
+                .retrieve()
+                .body(NasaBrowsePage.class));
+        log.info("Successfully fetched browse page {} from NASA API", page);
+        return browsePage;
+    }
+
+    public AsteroidRevalidation revalidateAsteroidData(int asteroidId, AsteroidTimeline cached) {
+        log.info("Revalidating cached asteroid data with NASA API for asteroidId: {}", asteroidId);
+
+        String url = asteroidUrl(asteroidId);
+        ResponseValidators validators = cached != null ? cached.getValidators() : null;
+
+        ResponseEntity<byte[]> entity = call("asteroidId " + asteroidId, CallPriority.BACKGROUND, () -> restClient.get()
+                .uri(url)
+                .headers(headers -> addConditions(headers, validators))
+                .retrieve()
+                .toEntity(byte[].class));
+
+        if (entity.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+            log.info("Cached data for asteroidId {} not modified", asteroidId);
+            // a fresh copy, so the confirmation restarts the time to live of the entry in both tiers
+            return new AsteroidRevalidation(cached != null ? cached.withValidators(validators) : null,
+                    AsteroidRevalidation.Outcome.NOT_MODIFIED, 0);
+        }
+
+        byte[] body = entity.getBody() != null ? entity.getBody() : new byte[0];
+        ResponseValidators freshValidators = new ResponseValidators(entity.getHeaders().getETag(),
+                entity.getHeaders().getFirst(HttpHeaders.LAST_MODIFIED), contentHash(body));
+
+        if (validators != null && freshValidators.getContentHash().equals(validators.getContentHash())) {
+            log.info("Cached data for asteroidId {} unchanged", asteroidId);
+            return new AsteroidRevalidation(cached.withValidators(freshValidators),
+                    AsteroidRevalidation.Outcome.UNCHANGED, body.length);
+        }
+
+        AsteroidTimeline response = parseAsteroid(asteroidId, body, freshValidators, cached);
+        log.info("Refreshed cached data for asteroidId {} from NASA API", asteroidId);
+        return new AsteroidRevalidation(response, AsteroidRevalidation.Outcome.CHANGED, body.length);
+    }
+
+    private AsteroidTimeline fetchAsteroidData(int asteroidId, CallPriority priority) {
+        if (asteroidNotFound.isMissing(asteroidId)) {
+            // not worth an outbound call and a rate limit token until the negative entry expires
+            log.info("AsteroidId {} was recently not found by NASA API, skipping the call", asteroidId);
+            throw new NasaApiException(null, HttpStatus.NOT_FOUND, ApplicationError.NASA_ASTEROID_NOT_FOUND);
+        }
+        log.info("Retrieving asteroid data from NASA API for asteroidId: {}", asteroidId);
+
+        String url = asteroidUrl(asteroidId);
+
+        AsteroidTimeline response;
+        try {
+            response = call("asteroidId " + asteroidId, priority, () -> {
+                RestClient.ResponseSpec responseSpec = restClient.get()
+                        .uri(url)
+                        .retrieve();
+                // the validators come with the headers, so the first revalidation of the entry is conditional too
+                if (nasaApiProperties.isStreamingParser()) {
+                    ResponseEntity<AsteroidApproaches> entity = responseSpec.toEntity(AsteroidApproaches.class);
+                    return toTimeline(entity.getBody(), validatorsOf(entity.getHeaders()));
+                }
+                ResponseEntity<NasaAsteroidResponse> entity = responseSpec.toEntity(NasaAsteroidResponse.class);
+                return toTimeline(entity.getBody(), validatorsOf(entity.getHeaders()));
+            });
+        } catch (NasaApiException e) {
+            if (e.getError() == ApplicationError.NASA_ASTEROID_NOT_FOUND) {
+                asteroidNotFound.recordMissing(asteroidId);
+            }
+            throw e;
+        }
+        log.info("Successfully fetched data from NASA API for asteroidId: {}", asteroidId);
+        return response;
+    }
+
+    private <T> T call(String target, CallPriority priority, Supplier<T> request) {
+        // every retry goes through the circuit breaker and the rate limiter again
+        return nasaRetrier.execute(target, () -> attempt(target, priority, request));
+    }
+
+    private <T> T attempt(String target, CallPriority priority, Supplier<T> request) {
+        nasaCircuitBreaker.acquirePermission();
+        try {
+            nasaRateLimiter.acquire(priority);
+        } catch (NasaApiException e) {
+            nasaCircuitBreaker.releasePermission();
+            throw e;
+        }
+
+        long startTime = System.nanoTime();
         try {
-            NasaAsteroidResponse response = restClient.get()
-                    .uri(url)
-                    .retrieve()
-                    .body(NasaAsteroidResponse.class);
-            log.info("Successfully fetched data from NASA API for asteroidId: {}", asteroidId);
-            return response;
+            // only user lookups are worth a duplicate call, background work can absorb the tail
+            T result = priority == CallPriority.INTERACTIVE
+                    ? nasaRequestHedger.execute(() -> send(target, request))
+                    : send(target, request);
+            nasaCircuitBreaker.onSuccess(System.nanoTime() - startTime);
+            return result;
+        } catch (NasaApiException e) {
+            nasaCircuitBreaker.onError(System.nanoTime() - startTime, e);
+            throw e;
+        } catch (RuntimeException e) {
+            nasaCircuitBreaker.releasePermission();
+            throw e;
+        }
+    }
+
+    private <T> T send(String target, Supplier<T> request) {
+        try {
+            return request.get();
 
         } catch (HttpClientErrorException e) {
-            log.error("NASA API client error for asteroidId {}: {} - {}", asteroidId, e.getStatusCode(), e.getMessage(), e);
+            log.error("NASA API client error for {}: {} - {}", target, e.getStatusCode(), e.getMessage(), e);
 
             if (e.getStatusCode() == HttpStatus.NOT_FOUND) {
                 throw new NasaApiException(e, HttpStatus.NOT_FOUND, ApplicationError.NASA_ASTEROID_NOT_FOUND);
@@ -53,11 +212,71 @@ public class NasaApiClient implements com.example.fabrick_interview_task1.client
                 throw new NasaApiException(e, HttpStatus.BAD_GATEWAY, ApplicationError.NASA_UNABLE_TO_RETRIEVE_DATA);
             }
         } catch (HttpServerErrorException e) {
-            log.error("NASA API server error for asteroidId {}: {} - {}", asteroidId, e.getStatusCode(), e.getMessage(), e);
+            log.error("NASA API server error for {}: {} - {}", target, e.getStatusCode(), e.getMessage(), e);
             throw new NasaApiException(e, HttpStatus.INTERNAL_SERVER_ERROR, ApplicationError.GENERIC_ERROR);
         } catch (Exception e) {
-            log.error("Unexpected error calling NASA API for asteroidId: {}", asteroidId, e);
+            log.error("Unexpected error calling NASA API for {}", target, e);
+            throw new NasaApiException(e, HttpStatus.INTERNAL_SERVER_ERROR, ApplicationError.GENERIC_ERROR);
+        }
+    }
+
+    private String asteroidUrl(int asteroidId) {
+        String url = UriComponentsBuilder.fromUriString(nasaApiProperties.getBaseUrl()).pathSegment(ASTEROID_ID_PLACE_HOLDER)
+                .queryParam("api_key", nasaApiProperties.getApiKey())
+                .buildAndExpand(asteroidId)
+                .toUriString();
+
+        log.debug("NASA API URL: {}", url);
+        return url;
+    }
+
+    private static void addConditions(HttpHeaders headers, ResponseValidators validators) {
+        if (validators == null) {
+            return;
+        }
+        if (validators.getEtag() != null) {
+            headers.setIfNoneMatch(validators.getEtag());
+        }
+        if (validators.getLastModified() != null) {
+            headers.set(HttpHeaders.IF_MODIFIED_SINCE, validators.getLastModified());
+        }
+    }
+
+    private AsteroidTimeline parseAsteroid(int asteroidId, byte[] body, ResponseValidators validators,
+                                           AsteroidTimeline cached) {
+        try {
+            AsteroidApproaches approaches = revalidationParser.parse(new ByteArrayInputStream(body));
+            // NASA mostly appends approaches: only those past the cached ones are sorted and scanned for paths
+            return cached != null && cacheProperties.isIncrementalMerge()
+                    ? cached.mergedWith(approaches, validators)
+                    : AsteroidTimeline.of(approaches, validators);
+        } catch (IOException | RuntimeException e) {
+            log.error("Unable to parse NASA API payload for asteroidId {}", asteroidId, e);
             throw new NasaApiException(e, HttpStatus.INTERNAL_SERVER_ERROR, ApplicationError.GENERIC_ERROR);
         }
     }
-}
\ No newline at end of file
+
+    private static String contentHash(byte[] body) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static ResponseValidators validatorsOf(HttpHeaders headers) {
+        // the body went straight to the converter: without a content hash, a response lacking both headers leaves
+        // nothing to revalidate with
+        String etag = headers.getETag();
+        String lastModified = headers.getFirst(HttpHeaders.LAST_MODIFIED);
+        return etag != null || lastModified != null ? new ResponseValidators(etag, lastModified, null) : null;
+    }
+
+    private AsteroidTimeline toTimeline(AsteroidApproaches approaches, ResponseValidators validators) {
+        return approaches != null ? AsteroidTimeline.of(approaches, validators) : null;
+    }
+
+    private AsteroidTimeline toTimeline(NasaAsteroidResponse response, ResponseValidators validators) {
+        return response != null ? AsteroidTimeline.of(response, validators) : null;
+    }
+}
@@ -0,0 +1,221 @@
+package com.example.fabrick_interview_task1.client.parser;
+
+import com.example.fabrick_interview_task1.model.AsteroidApproaches;
+import com.example.fabrick_interview_task1.model.NasaBrowsePage;
+import com.example.fabrick_interview_task1.model.PlanetDictionary;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Token-streaming extractor for the NASA NEO lookup and browse payloads.
+ * Reads {@code id}, {@code name} and the {@code close_approach_date}/{@code orbiting_body} pair of every
+ * {@code close_approach_data} element; every other subtree (orbital_data, miss_distance, relative_velocity, ...)
+ * is skipped without being bound.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class NasaAsteroidStreamingParser {
+
+    private static final String ID = "id";
+    private static final String NAME = "name";
+    private static final String CLOSE_APPROACH_DATA = "close_approach_data";
+    private static final String CLOSE_APPROACH_DATE = "close_approach_date";
+    private static final String ORBITING_BODY = "orbiting_body";
+    private static final String PAGE = "page";
+    private static final String NEAR_EARTH_OBJECTS = "near_earth_objects";
+    private static final String PAGE_NUMBER = "number";
+    private static final String PAGE_TOTAL_PAGES = "total_pages";
+    private static final String PAGE_TOTAL_ELEMENTS = "total_elements";
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int NO_DATE = Integer.MIN_VALUE;
+    private static final int NO_PLANET = -1;
+    private static final long DAYS_0000_TO_1970 = 719528L;
+
+    private final JsonFactory jsonFactory;
+
+    public AsteroidApproaches parse(InputStream inputStream) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(inputStream)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected NEO object at document root");
+            }
+            return readNeo(parser);
+        }
+    }
+
+    public NasaBrowsePage parseBrowsePage(InputStream inputStream) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(inputStream)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected browse page object at document root");
+            }
+
+            int number = 0;
+            int totalPages = 0;
+            long totalElements = 0;
+            List<AsteroidApproaches> nearEarthObjects = new ArrayList<>();
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+
+                if (PAGE.equals(field) && value == JsonToken.START_OBJECT) {
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        String pageField = parser.currentName();
+                        parser.nextToken();
+                        if (PAGE_NUMBER.equals(pageField)) {
+                            number = parser.getValueAsInt();
+                        } else if (PAGE_TOTAL_PAGES.equals(pageField)) {
+                            totalPages = parser.getValueAsInt();
+                        } else if (PAGE_TOTAL_ELEMENTS.equals(pageField)) {
+                            totalElements = parser.getValueAsLong();
+                        } else {
+                            parser.skipChildren();
+                        }
+                    }
+                } else if (NEAR_EARTH_OBJECTS.equals(field) && value == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        nearEarthObjects.add(readNeo(parser));
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+
+            long payloadBytes = parser.currentLocation().getByteOffset();
+            return new NasaBrowsePage(number, totalPages, totalElements, nearEarthObjects, payloadBytes);
+        }
+    }
+
+    private AsteroidApproaches readNeo(JsonParser parser) throws IOException {
+        String id = null;
+        String name = null;
+        ApproachBuffer approaches = new ApproachBuffer();
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+
+            if (ID.equals(field)) {
+                id = parser.getValueAsString();
+            } else if (NAME.equals(field)) {
+                name = parser.getValueAsString();
+            } else if (CLOSE_APPROACH_DATA.equals(field) && value == JsonToken.START_ARRAY) {
+                readApproaches(parser, approaches);
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        return new AsteroidApproaches(id, name, approaches.epochDays(), approaches.planetCodes());
+    }
+
+    private void readApproaches(JsonParser parser, ApproachBuffer approaches) throws IOException {
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            int epochDay = NO_DATE;
+            int planetCode = NO_PLANET;
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+
+                if (CLOSE_APPROACH_DATE.equals(field) && value == JsonToken.VALUE_STRING) {
+                    epochDay = parseEpochDay(parser);
+                } else if (ORBITING_BODY.equals(field) && value == JsonToken.VALUE_STRING) {
+                    planetCode = PlanetDictionary.codeOf(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+                } else {
+                    parser.skipChildren();
+                }
+            }
+
+            if (epochDay == NO_DATE || planetCode == NO_PLANET) {
+                log.debug("Skipping close approach without date or orbiting body");
+                continue;
+            }
+            approaches.add(epochDay, (byte) planetCode);
+        }
+    }
+
+    /**
+     * Converts a {@code yyyy-MM-dd} value to its epoch day straight from the token buffer, without creating
+     * an intermediate {@link String} or {@link LocalDate}. Any other shape goes through {@link LocalDate#parse}.
+     */
+    private static int parseEpochDay(JsonParser parser) throws IOException {
+        char[] chars = parser.getTextCharacters();
+        int offset = parser.getTextOffset();
+
+        if (parser.getTextLength() != 10 || chars[offset + 4] != '-' || chars[offset + 7] != '-') {
+            return (int) LocalDate.parse(parser.getText()).toEpochDay();
+        }
+
+        int year = digits(chars, offset, 4);
+        int month = digits(chars, offset + 5, 2);
+        int day = digits(chars, offset + 8, 2);
+        // every month has 28 days, LocalDate checks the later ones against the month length
+        if (year < 0 || month < 1 || month > 12 || day < 1 || day > 28) {
+            return (int) LocalDate.parse(parser.getText()).toEpochDay();
+        }
+        return (int) toEpochDay(year, month, day);
+    }
+
+    private static int digits(char[] chars, int offset, int length) {
+        int value = 0;
+        for (int i = offset; i < offset + length; i++) {
+            int digit = chars[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    // same arithmetic as LocalDate.toEpochDay, for non-negative years
+    private static long toEpochDay(long year, long month, long day) {
+        long total = 365 * year + (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+        total += (367 * month - 362) / 12;
+        total += day - 1;
+        if (month > 2) {
+            total--;
+            boolean leapYear = (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+            if (!leapYear) {
+                total--;
+            }
+        }
+        return total - DAYS_0000_TO_1970;
+    }
+
+    private static final class ApproachBuffer {
+        private int[] epochDays = new int[INITIAL_CAPACITY];
+        private byte[] planetCodes = new byte[INITIAL_CAPACITY];
+        private int size;
+
+        void add(int epochDay, byte planetCode) {
+            if (size == epochDays.length) {
+                epochDays = Arrays.copyOf(epochDays, size * 2);
+                planetCodes = Arrays.copyOf(planetCodes, size * 2);
+            }
+            epochDays[size] = epochDay;
+            planetCodes[size] = planetCode;
+            size++;
+        }
+
+        int[] epochDays() {
+            return Arrays.copyOf(epochDays, size);
+        }
+
+        byte[] planetCodes() {
+            return Arrays.copyOf(planetCodes, size);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.fabrick_interview_task1.client.parser;
+
+import com.example.fabrick_interview_task1.model.AsteroidApproaches;
+import com.example.fabrick_interview_task1.model.NasaBrowsePage;
+import com.fasterxml.jackson.core.JsonFactory;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+import java.io.IOException;
+
+/**
+ * Read-only converter that lets {@code RestClient} extract {@link AsteroidApproaches} and {@link NasaBrowsePage}
+ * with the {@link NasaAsteroidStreamingParser} instead of databinding the whole NEO documents.
+ */
+public class NasaStreamingHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+    private final NasaAsteroidStreamingParser parser;
+
+    public NasaStreamingHttpMessageConverter(JsonFactory jsonFactory) {
+        super(MediaType.APPLICATION_JSON, new MediaType("application", "*+json"));
+        this.parser = new NasaAsteroidStreamingParser(jsonFactory);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return AsteroidApproaches.class == clazz || NasaBrowsePage.class == clazz;
+    }
+
+    @Override
+    protected boolean canWrite(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        try {
+            return NasaBrowsePage.class == clazz
+                    ? parser.parseBrowsePage(inputMessage.getBody())
+                    : parser.parse(inputMessage.getBody());
+        } catch (IOException | RuntimeException e) {
+            throw new HttpMessageNotReadableException("Unable to parse NASA NEO payload: " + e.getMessage(), e, inputMessage);
+        }
+    }
+
+    @Override
+    protected void writeInternal(Object object, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        throw new HttpMessageNotWritableException("NASA payloads are read-only");
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.fabrick_interview_task1.client.transport;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Negotiates gzip/deflate for the NASA calls and decodes the body while it is read, so the message converters
+ * stream straight out of the decompressor and the full body is never buffered.
+ * <p>
+ * Wire and decoded sizes of every response are recorded when the response is closed, which shows the bandwidth
+ * saved per asteroid. The HTTP engine must not decode on its own, otherwise only decoded bytes are seen here.
+ */
+public class CompressedTransferInterceptor implements ClientHttpRequestInterceptor {
+
+    static final String ACCEPTED_ENCODINGS = "gzip, deflate";
+
+    private final DistributionSummary wireBytes;
+    private final DistributionSummary decodedBytes;
+
+    public CompressedTransferInterceptor(MeterRegistry meterRegistry) {
+        this.wireBytes = responseBytes(meterRegistry, "wire");
+        this.decodedBytes = responseBytes(meterRegistry, "decoded");
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        if (!request.getHeaders().containsKey(HttpHeaders.ACCEPT_ENCODING)) {
+            request.getHeaders().set(HttpHeaders.ACCEPT_ENCODING, ACCEPTED_ENCODINGS);
+        }
+        return new DecodingResponse(execution.execute(request, body));
+    }
+
+    private class DecodingResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse response;
+        private HttpHeaders headers;
+        private CountingInputStream wire;
+        private CountingInputStream decoded;
+        private boolean closed;
+
+        private DecodingResponse(ClientHttpResponse response) {
+            this.response = response;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return response.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return response.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            if (headers == null) {
+                HttpHeaders original = response.getHeaders();
+                if (contentEncoding() == null) {
+                    headers = original;
+                } else {
+                    // the body handed out is decoded: its encoding and length no longer apply
+                    HttpHeaders decodedHeaders = new HttpHeaders();
+                    decodedHeaders.putAll(original);
+                    decodedHeaders.remove(HttpHeaders.CONTENT_ENCODING);
+                    decodedHeaders.remove(HttpHeaders.CONTENT_LENGTH);
+                    headers = HttpHeaders.readOnlyHttpHeaders(decodedHeaders);
+                }
+            }
+            return headers;
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            if (decoded == null) {
+                wire = new CountingInputStream(response.getBody());
+                String encoding = hasBody() ? contentEncoding() : null;
+                InputStream body = "gzip".equals(encoding) ? new GZIPInputStream(wire, 8192)
+                        : "deflate".equals(encoding) ? new InflaterInputStream(wire)
+                        : wire;
+                decoded = body == wire ? wire : new CountingInputStream(body);
+            }
+            return decoded;
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                if (wire != null) {
+                    wireBytes.record(wire.getCount());
+                    decodedBytes.record(decoded.getCount());
+                }
+            }
+            response.close();
+        }
+
+        private String contentEncoding() {
+            String encoding = response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING);
+            if (encoding == null) {
+                return null;
+            }
+            encoding = encoding.trim().toLowerCase();
+            return encoding.equals("gzip") || encoding.equals("x-gzip") ? "gzip"
+                    : encoding.equals("deflate") ? "deflate"
+                    : null;
+        }
+
+        private boolean hasBody() throws IOException {
+            HttpStatusCode status = response.getStatusCode();
+            return !status.isSameCodeAs(HttpStatus.NO_CONTENT) && !status.isSameCodeAs(HttpStatus.NOT_MODIFIED);
+        }
+    }
+
+    private static DistributionSummary responseBytes(MeterRegistry meterRegistry, String stage) {
+        return DistributionSummary.builder("nasa.response.bytes")
+                .description("NASA response body size, on the wire and once decoded")
+                .baseUnit("bytes")
+                .tag("stage", stage)
+                .register(meterRegistry);
+    }
+}
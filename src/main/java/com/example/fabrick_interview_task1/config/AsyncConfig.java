@@ -0,0 +1,23 @@
+package com.example.fabrick_interview_task1.config;
+
+import com.example.fabrick_interview_task1.support.MdcTaskDecorator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+@Configuration
+public class AsyncConfig {
+
+    /**
+     * Runs outbound NASA calls on virtual threads: a call waiting on the network parks its virtual thread
+     * instead of holding a platform thread.
+     */
+    @Bean
+    public AsyncTaskExecutor nasaApiExecutor(MdcTaskDecorator mdcTaskDecorator) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("nasa-api-");
+        executor.setVirtualThreads(true);
+        executor.setTaskDecorator(mdcTaskDecorator);
+        return executor;
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.fabrick_interview_task1.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "application.cache-admin")
+public class CacheAdminProperties {
+
+    private int concurrency = 4; // NASA calls in flight per job, made at background priority
+    private int maxAsteroidsPerJob = 10000; // longest id list or range a single job accepts
+    private int maxRunningJobs = 1; // jobs running at once, further submissions are refused
+    private int retainedJobs = 20; // finished jobs kept for status queries
+    private int maxReportedErrors = 100; // failed asteroids listed in a job status, the rest are only counted
+}
@@ -0,0 +1,19 @@
+package com.example.fabrick_interview_task1.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "application.ingestion")
+public class IngestionProperties {
+
+    private boolean enabled = false;
+    private long initialDelay = 60000; // default: 1 minute in milliseconds
+    private long interval = 21600000; // default: 6 hours in milliseconds between runs
+    private int pageSize = 20; // NASA browse maximum
+    private int concurrency = 4; // browse pages fetched and parsed in parallel
+    private int maxRequestsPerRun = 200; // NASA calls a single run may spend
+    private String progressFile = "data/ingestion-progress";
+}
@@ -10,4 +10,5 @@ import org.springframework.stereotype.Component;
 public class NasaApiProperties {
     private String baseUrl;
     private String apiKey;
+    private boolean streamingParser = false; // extract only id, name and close approaches instead of databinding the whole payload
 }
\ No newline at end of file
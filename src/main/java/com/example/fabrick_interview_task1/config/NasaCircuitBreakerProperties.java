@@ -0,0 +1,24 @@
+package com.example.fabrick_interview_task1.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Thresholds of the circuit breaker guarding the outbound NASA calls.
+ * Rates are evaluated over the last {@code window-size} calls, once at least {@code minimum-calls} were recorded.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "application.nasa.circuit-breaker")
+public class NasaCircuitBreakerProperties {
+
+    private boolean enabled = true;
+    private int windowSize = 50;
+    private int minimumCalls = 20;
+    private int failureRateThreshold = 50; // percent of failed calls that opens the circuit
+    private int slowCallRateThreshold = 80; // percent of slow calls that opens the circuit
+    private long slowCallDuration = 3000; // default: 3 seconds in milliseconds
+    private long openDuration = 30000; // default: 30 seconds in milliseconds before trial calls
+    private int halfOpenCalls = 5; // trial calls that must succeed to close the circuit
+}
@@ -0,0 +1,20 @@
+package com.example.fabrick_interview_task1.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hedged NASA lookups: when the first attempt is slower than the observed p95, a duplicate is sent and the
+ * first answer wins. Hedges are only sent while the rate limit budget has a spare token.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "application.nasa.hedging")
+public class NasaHedgingProperties {
+
+    private boolean enabled = false;
+    private int latencyWindow = 200; // recent attempts the p95 is computed over
+    private int minimumSamples = 20; // attempts observed before the first hedge
+    private long minimumDelay = 50; // default: never hedge earlier than 50 milliseconds
+}
@@ -0,0 +1,28 @@
+package com.example.fabrick_interview_task1.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tuning of the HTTP engine used for the outbound NASA calls.
+ * By default a pooled HTTP/1.1 engine (Apache HttpClient 5) keeps connections to api.nasa.gov alive between calls;
+ * with {@code http2} enabled the JDK client is used instead and multiplexes every call on a single connection,
+ * so the pool settings do not apply.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "application.nasa.http-client")
+public class NasaHttpClientProperties {
+
+    private boolean http2 = false;
+    private boolean compression = true; // negotiate gzip/deflate and decode while the body is parsed
+    private int maxConnectionsTotal = 50;
+    private int maxConnectionsPerRoute = 20;
+    private long connectTimeout = 2000; // default: 2 seconds in milliseconds
+    private long connectionRequestTimeout = 1000; // default: max wait for a pooled connection, in milliseconds
+    private long readTimeout = 5000; // default: 5 seconds in milliseconds
+    private long connectionTimeToLive = 300000; // default: 5 minutes in milliseconds
+    private long idleEvictionTimeout = 30000; // default: 30 seconds in milliseconds
+    private long validateAfterInactivity = 2000; // default: 2 seconds in milliseconds
+}
@@ -0,0 +1,22 @@
+package com.example.fabrick_interview_task1.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Client-side pacing of the outbound NASA calls.
+ * The hourly limit is only a starting point: it is replaced by the {@code X-RateLimit-Limit} header of the first response.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "application.nasa.rate-limit")
+public class NasaRateLimitProperties {
+
+    private boolean enabled = true;
+    private int hourlyLimit = 1000; // default: NASA quota for a personal api key
+    private int burst = 20; // calls allowed back to back before pacing kicks in
+    private int interactiveReserve = 100; // remaining calls background work may not spend
+    private long interactiveMaxWait = 1000; // default: 1 second in milliseconds
+    private long backgroundMaxWait = 30000; // default: 30 seconds in milliseconds
+}
@@ -0,0 +1,26 @@
+package com.example.fabrick_interview_task1.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Retries of failed NASA calls. Every call is a GET and therefore safe to repeat; only transient failures are retried,
+ * and retries are capped by a budget earning {@code budget-ratio} tokens per call.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "application.nasa.retry")
+public class NasaRetryProperties {
+
+    private boolean enabled = true;
+    private int maxAttempts = 3; // first call included
+    private long initialBackoff = 100; // default: 100 milliseconds
+    private long maxBackoff = 2000; // default: 2 seconds in milliseconds
+    private double multiplier = 2.0;
+    private List<Integer> retryableStatuses = List.of(502, 503, 504);
+    private double budgetRatio = 0.1; // retries allowed per call, 0.1 caps retries at 10% of the traffic
+    private int budgetMaxTokens = 20; // retries that can be saved up for a burst of failures
+}
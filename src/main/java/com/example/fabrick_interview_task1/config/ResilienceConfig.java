@@ -0,0 +1,38 @@
+package com.example.fabrick_interview_task1.config;
+
+import com.example.fabrick_interview_task1.resilience.NasaCircuitBreaker;
+import com.example.fabrick_interview_task1.resilience.NasaRateLimiter;
+import com.example.fabrick_interview_task1.resilience.NasaRetrier;
+import com.example.fabrick_interview_task1.resilience.RequestHedger;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.Executor;
+
+@Configuration
+public class ResilienceConfig {
+
+    @Bean
+    public NasaRateLimiter nasaRateLimiter(NasaRateLimitProperties nasaRateLimitProperties, MeterRegistry meterRegistry) {
+        return new NasaRateLimiter(nasaRateLimitProperties, meterRegistry);
+    }
+
+    @Bean
+    public NasaCircuitBreaker nasaCircuitBreaker(NasaCircuitBreakerProperties nasaCircuitBreakerProperties,
+                                                 MeterRegistry meterRegistry) {
+        return new NasaCircuitBreaker(nasaCircuitBreakerProperties, meterRegistry);
+    }
+
+    @Bean
+    public RequestHedger nasaRequestHedger(NasaHedgingProperties nasaHedgingProperties, NasaRateLimiter nasaRateLimiter,
+                                           Executor nasaApiExecutor, MeterRegistry meterRegistry) {
+        // a hedge is a spare call: it only goes out when the bucket has a token to give right now
+        return new RequestHedger(nasaHedgingProperties, nasaRateLimiter::tryAcquire, nasaApiExecutor, meterRegistry);
+    }
+
+    @Bean
+    public NasaRetrier nasaRetrier(NasaRetryProperties nasaRetryProperties, MeterRegistry meterRegistry) {
+        return new NasaRetrier(nasaRetryProperties, meterRegistry);
+    }
+}
@@ -1,13 +1,101 @@
 package com.example.fabrick_interview_task1.config;
 
+import com.example.fabrick_interview_task1.client.parser.NasaStreamingHttpMessageConverter;
+import com.example.fabrick_interview_task1.client.transport.CompressedTransferInterceptor;
+import com.example.fabrick_interview_task1.resilience.NasaRateLimiter;
+import com.fasterxml.jackson.core.JsonFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+@Slf4j
 @Configuration
+@RequiredArgsConstructor
 public class RestClientConfig {
+
+    private final NasaHttpClientProperties httpClientProperties;
+
     @Bean
-    public RestClient restClient() {
-        return RestClient.create();
+    public RestClient restClient(ClientHttpRequestFactory nasaRequestFactory, NasaRateLimiter nasaRateLimiter,
+                                 MeterRegistry meterRegistry) {
+        RestClient.Builder builder = RestClient.builder()
+                .requestFactory(nasaRequestFactory)
+                .requestInterceptor((request, body, execution) -> {
+                    ClientHttpResponse response = execution.execute(request, body);
+                    nasaRateLimiter.onResponse(response.getStatusCode(), response.getHeaders());
+                    return response;
+                })
+                .messageConverters(converters -> converters.add(0, new NasaStreamingHttpMessageConverter(new JsonFactory())));
+        if (httpClientProperties.isCompression()) {
+            builder.requestInterceptor(new CompressedTransferInterceptor(meterRegistry));
+        }
+        return builder.build();
+    }
+
+    @Bean
+    public ClientHttpRequestFactory nasaRequestFactory() {
+        if (httpClientProperties.isHttp2()) {
+            log.info("Using JDK HTTP/2 engine for NASA API calls");
+            return http2RequestFactory();
+        }
+        log.info("Using pooled HTTP/1.1 engine for NASA API calls (max {} connections, {} per route)",
+                httpClientProperties.getMaxConnectionsTotal(), httpClientProperties.getMaxConnectionsPerRoute());
+        return pooledRequestFactory();
+    }
+
+    private ClientHttpRequestFactory pooledRequestFactory() {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(httpClientProperties.getMaxConnectionsTotal())
+                .setMaxConnPerRoute(httpClientProperties.getMaxConnectionsPerRoute())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(httpClientProperties.getConnectTimeout()))
+                        .setSocketTimeout(Timeout.ofMilliseconds(httpClientProperties.getReadTimeout()))
+                        .setTimeToLive(TimeValue.ofMilliseconds(httpClientProperties.getConnectionTimeToLive()))
+                        .setValidateAfterInactivity(TimeValue.ofMilliseconds(httpClientProperties.getValidateAfterInactivity()))
+                        .build())
+                .build();
+
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(httpClientProperties.getConnectionRequestTimeout()))
+                        .setResponseTimeout(Timeout.ofMilliseconds(httpClientProperties.getReadTimeout()))
+                        .build())
+                // compression is negotiated and decoded by CompressedTransferInterceptor, which also counts the wire bytes
+                .disableContentCompression()
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(httpClientProperties.getIdleEvictionTimeout()))
+                .build();
+
+        return new HttpComponentsClientHttpRequestFactory(httpClient);
+    }
+
+    private ClientHttpRequestFactory http2RequestFactory() {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofMillis(httpClientProperties.getConnectTimeout()))
+                .build();
+
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(httpClientProperties.getReadTimeout()));
+        return requestFactory;
     }
 }
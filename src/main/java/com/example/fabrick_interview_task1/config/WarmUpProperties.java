@@ -0,0 +1,22 @@
+package com.example.fabrick_interview_task1.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "application.warm-up")
+public class WarmUpProperties {
+
+    private boolean enabled = false;
+    private List<Integer> asteroidIds = new ArrayList<>(); // always warmed, ahead of the recorded hot keys
+    private String hotKeysFile = "data/warm-up-keys"; // hottest cached asteroids, recorded on shutdown
+    private int maxKeys = 500; // asteroids a single warm-up may load
+    private int concurrency = 4; // NASA calls in flight at once
+    private double readyFraction = 0.9; // share of the keys to load before the instance reports ready
+    private long deadline = 60000; // default: 1 minute in milliseconds, the instance reports ready after it regardless
+}
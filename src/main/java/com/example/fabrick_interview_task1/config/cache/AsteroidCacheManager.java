@@ -0,0 +1,153 @@
+package com.example.fabrick_interview_task1.config.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Policy;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineStatsCounter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caffeine cache manager that adds revalidation and, when a {@link CacheStore} is given, a second tier to the
+ * {@code asteroid} cache; other caches are plain Caffeine caches. Every cache is bounded by its own
+ * {@link CacheProperties.Spec}, by entry count or by weight.
+ * <p>
+ * Entries evicted from the in-heap tier for size are demoted to the store, revalidated entries are written to it, and
+ * on shutdown the in-heap content is written down as well, so the next start finds the whole cache in the store. The
+ * manager owns the store and closes it.
+ */
+@Slf4j
+public class AsteroidCacheManager extends CaffeineCacheManager implements DisposableBean {
+
+    private final CacheProperties cacheProperties;
+    private final AsteroidCacheRevalidator revalidator;
+    private final Executor revalidationExecutor;
+    private final CacheStore l2Store;
+    private final MeterRegistry meterRegistry;
+    private volatile TieredCache tieredCache;
+
+    public AsteroidCacheManager(CacheProperties cacheProperties, AsteroidCacheRevalidator revalidator,
+                                Executor revalidationExecutor, CacheStore l2Store, MeterRegistry meterRegistry) {
+        this.cacheProperties = cacheProperties;
+        this.revalidator = revalidator;
+        this.revalidationExecutor = revalidationExecutor;
+        this.l2Store = l2Store;
+        this.meterRegistry = meterRegistry;
+
+        // async mode backs both the blocking and the CompletableFuture based @Cacheable methods
+        setAsyncCacheMode(true);
+    }
+
+    @Override
+    protected AsyncCache<Object, Object> createAsyncCaffeineCache(String name) {
+        CaffeineStatsCounter stats = new CaffeineStatsCounter(meterRegistry, name);
+        AsyncCache<Object, Object> cache = caffeine(name).recordStats(() -> stats).buildAsync();
+        registerSizeMetrics(name, stats, cache.synchronous());
+        return cache;
+    }
+
+    @Override
+    protected com.github.benmanes.caffeine.cache.Cache<Object, Object> createNativeCaffeineCache(String name) {
+        CaffeineStatsCounter stats = new CaffeineStatsCounter(meterRegistry, name);
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> cache = caffeine(name).recordStats(() -> stats).build();
+        registerSizeMetrics(name, stats, cache);
+        return cache;
+    }
+
+    @Override
+    protected Cache adaptCaffeineCache(String name, AsyncCache<Object, Object> cache) {
+        if (!CacheConfig.ASTEROID_CACHE.equals(name)) {
+            return super.adaptCaffeineCache(name, cache);
+        }
+        // refresh-ahead: reads past refresh-after-write are served and trigger a background revalidation, so hot
+        // entries are renewed before they expire and no request waits for NASA on their account
+        long expireAfterWrite = cacheProperties.specFor(name).getExpireAfterWrite();
+        long refreshAfterWrite = Math.min(cacheProperties.getRefreshAfterWrite(), expireAfterWrite);
+        boolean refreshes = cacheProperties.isRevalidate() || refreshAfterWrite < expireAfterWrite;
+        Cache l1 = refreshes
+                ? new RevalidatingCaffeineCache(name, cache, isAllowNullValues(),
+                        Duration.ofMillis(refreshAfterWrite), this::revalidate, revalidationExecutor)
+                : super.adaptCaffeineCache(name, cache);
+        if (l2Store == null) {
+            return l1;
+        }
+        tieredCache = new TieredCache(l1, l2Store, meterRegistry);
+        l2Store.setInvalidationListener(tieredCache);
+        return tieredCache;
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        if (l2Store == null) {
+            return;
+        }
+        TieredCache cache = tieredCache;
+        if (cache != null) {
+            com.github.benmanes.caffeine.cache.Cache<?, ?> l1 =
+                    (com.github.benmanes.caffeine.cache.Cache<?, ?>) cache.getNativeCache();
+            l1.asMap().forEach(cache::demote);
+            log.info("Wrote {} {} entries down to L2 on shutdown", l1.estimatedSize(), cache.getName());
+        }
+        l2Store.close();
+    }
+
+    private Caffeine<Object, Object> caffeine(String name) {
+        CacheProperties.Spec spec = cacheProperties.specFor(name);
+        Caffeine<Object, Object> builder = Caffeine.newBuilder();
+        if (spec.getMaximumWeight() != null) {
+            // bounded by what the entries weigh, not how many there are: asteroids range from a few approaches to
+            // hundreds, so the heap stays bounded whatever the mix
+            builder.maximumWeight(spec.getMaximumWeight()).weigher(spec.getWeigher());
+        } else {
+            builder.maximumSize(spec.getMaximumSize());
+        }
+        if (!CacheConfig.ASTEROID_CACHE.equals(name)) {
+            return builder.expireAfterWrite(spec.getExpireAfterWrite(), TimeUnit.MILLISECONDS);
+        }
+        // with revalidation, entries past expire-after-write are kept until they are confirmed or replaced
+        long expireAfterWrite = cacheProperties.isRevalidate()
+                ? Math.max(cacheProperties.getMaximumStaleness(), spec.getExpireAfterWrite())
+                : spec.getExpireAfterWrite();
+        return builder.expireAfterWrite(expireAfterWrite, TimeUnit.MILLISECONDS)
+                .evictionListener(this::onEviction);
+    }
+
+    private void registerSizeMetrics(String name, CaffeineStatsCounter stats,
+                                     com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+        stats.registerSizeMetric(cache);
+        cache.policy().eviction()
+                .filter(Policy.Eviction::isWeighted)
+                .ifPresent(eviction -> Gauge.builder("cache.weighted.size", eviction,
+                                weighted -> weighted.weightedSize().orElse(0))
+                        .description("Total weight of the cache entries, bounded by the maximum weight")
+                        .tag("cache", name)
+                        .register(meterRegistry));
+    }
+
+    private Object revalidate(Object key, Object cached) {
+        Object revalidated = revalidator.apply(key, cached);
+        TieredCache cache = tieredCache;
+        if (cache != null) {
+            cache.revalidated(key, cached, revalidated);
+        }
+        return revalidated;
+    }
+
+    private void onEviction(Object key, Object value, RemovalCause cause) {
+        // expired entries are too old to be worth keeping anywhere
+        TieredCache cache = tieredCache;
+        if (cause == RemovalCause.SIZE && cache != null) {
+            cache.demote(key, value);
+        }
+    }
+}
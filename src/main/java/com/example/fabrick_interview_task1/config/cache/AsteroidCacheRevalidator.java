@@ -0,0 +1,49 @@
+package com.example.fabrick_interview_task1.config.cache;
+
+import com.example.fabrick_interview_task1.client.NasaApiClient;
+import com.example.fabrick_interview_task1.model.AsteroidRevalidation;
+import com.example.fabrick_interview_task1.model.AsteroidTimeline;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+/**
+ * Revalidates stale {@code asteroid} cache entries with a conditional GET instead of downloading them again.
+ */
+public class AsteroidCacheRevalidator implements BiFunction<Object, Object, Object> {
+
+    private final NasaApiClient nasaApiClient;
+    private final Map<AsteroidRevalidation.Outcome, Counter> revalidations = new EnumMap<>(AsteroidRevalidation.Outcome.class);
+    private final Counter bytesRead;
+
+    public AsteroidCacheRevalidator(NasaApiClient nasaApiClient, MeterRegistry meterRegistry) {
+        this.nasaApiClient = nasaApiClient;
+        for (AsteroidRevalidation.Outcome outcome : AsteroidRevalidation.Outcome.values()) {
+            revalidations.put(outcome, Counter.builder("cache.revalidations")
+                    .description("Stale cache entries revalidated with NASA by outcome")
+                    .tag("cache", CacheConfig.ASTEROID_CACHE)
+                    .tag("outcome", outcome.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+        this.bytesRead = Counter.builder("cache.revalidation.bytes")
+                .description("Payload bytes downloaded by cache revalidations")
+                .baseUnit("bytes")
+                .tag("cache", CacheConfig.ASTEROID_CACHE)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Object apply(Object key, Object cached) {
+        if (!(key instanceof Integer asteroidId) || !(cached instanceof AsteroidTimeline timeline)) {
+            // cached nulls have nothing to revalidate against
+            return cached;
+        }
+        AsteroidRevalidation revalidation = nasaApiClient.revalidateAsteroidData(asteroidId, timeline);
+        revalidations.get(revalidation.getOutcome()).increment();
+        bytesRead.increment(revalidation.getBytesRead());
+        return revalidation.getResponse();
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.fabrick_interview_task1.config.cache;
+
+import com.example.fabrick_interview_task1.model.AsteroidApproaches;
+import com.example.fabrick_interview_task1.model.AsteroidTimeline;
+import com.example.fabrick_interview_task1.model.PlanetDictionary;
+import com.example.fabrick_interview_task1.model.ResponseValidators;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+
+/**
+ * Binary form of an {@link AsteroidTimeline} for cache tiers outside the heap.
+ * <p>
+ * {@link PlanetDictionary} codes of bodies registered at runtime differ between processes, so every record carries
+ * the names of the bodies it uses and stores each approach as an epoch day plus an index into that list.
+ */
+public final class AsteroidTimelineCodec {
+
+    private static final byte VERSION = 1;
+
+    private AsteroidTimelineCodec() {
+    }
+
+    public static byte[] encode(AsteroidTimeline timeline) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + timeline.size() * 5);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            out.writeLong(timeline.getLoadedAt());
+            writeNullable(out, timeline.getId());
+            writeNullable(out, timeline.getName());
+            ResponseValidators validators = timeline.getValidators();
+            out.writeBoolean(validators != null);
+            if (validators != null) {
+                writeNullable(out, validators.getEtag());
+                writeNullable(out, validators.getLastModified());
+                writeNullable(out, validators.getContentHash());
+            }
+
+            // record-local dictionary: position in bodies -> process-wide code
+            byte[] bodies = new byte[Byte.MAX_VALUE + 1];
+            byte[] localCodes = new byte[Byte.MAX_VALUE + 1];
+            Arrays.fill(localCodes, (byte) -1);
+            int bodyCount = 0;
+            for (int i = 0; i < timeline.size(); i++) {
+                byte code = timeline.planetCodeAt(i);
+                if (localCodes[code] < 0) {
+                    localCodes[code] = (byte) bodyCount;
+                    bodies[bodyCount++] = code;
+                }
+            }
+            out.writeByte(bodyCount);
+            for (int i = 0; i < bodyCount; i++) {
+                out.writeUTF(PlanetDictionary.nameOf(bodies[i]));
+            }
+
+            out.writeInt(timeline.size());
+            for (int i = 0; i < timeline.size(); i++) {
+                out.writeInt(timeline.epochDayAt(i));
+                out.writeByte(localCodes[timeline.planetCodeAt(i)]);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static AsteroidTimeline decode(byte[] encoded) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(encoded))) {
+            byte version = in.readByte();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("Unsupported asteroid timeline encoding version " + version);
+            }
+            long loadedAt = in.readLong();
+            String id = readNullable(in);
+            String name = readNullable(in);
+            ResponseValidators validators = in.readBoolean()
+                    ? new ResponseValidators(readNullable(in), readNullable(in), readNullable(in))
+                    : null;
+
+            byte[] bodies = new byte[in.readUnsignedByte()];
+            for (int i = 0; i < bodies.length; i++) {
+                bodies[i] = PlanetDictionary.codeOf(in.readUTF());
+            }
+
+            int size = in.readInt();
+            int[] epochDays = new int[size];
+            byte[] planetCodes = new byte[size];
+            for (int i = 0; i < size; i++) {
+                epochDays[i] = in.readInt();
+                planetCodes[i] = bodies[in.readUnsignedByte()];
+            }
+            return AsteroidTimeline.of(new AsteroidApproaches(id, name, epochDays, planetCodes), validators, loadedAt);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeNullable(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullable(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
@@ -1,29 +1,69 @@
 package com.example.fabrick_interview_task1.config.cache;
 
-import com.github.benmanes.caffeine.cache.Caffeine;
+import com.example.fabrick_interview_task1.client.NasaApiClient;
+import com.example.fabrick_interview_task1.model.AsteroidTimeline;
+import com.example.fabrick_interview_task1.support.NegativeCache;
+import com.example.fabrick_interview_task1.support.SingleFlight;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import java.util.concurrent.TimeUnit;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.Executor;
 
+@Slf4j
 @Configuration
 @EnableCaching
 @RequiredArgsConstructor
 public class CacheConfig {
 
+    public static final String ASTEROID_CACHE = "asteroid";
+    public static final String ASTEROID_NOT_FOUND_CACHE = "asteroidNotFound";
+
     private final CacheProperties cacheProperties;
+    private final L2CacheProperties l2CacheProperties;
+    private final NegativeCacheProperties negativeCacheProperties;
 
     @Bean
-    public CacheManager cacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
-        cacheManager.setCaffeine(Caffeine.newBuilder()
-                .maximumSize(cacheProperties.getMaximumSize())
-                .expireAfterWrite(cacheProperties.getExpireAfterWrite(), TimeUnit.MILLISECONDS)
-                .recordStats());
-        return cacheManager;
+    public CacheManager cacheManager(NasaApiClient nasaApiClient, Executor nasaApiExecutor, MeterRegistry meterRegistry) {
+        AsteroidCacheRevalidator revalidator = new AsteroidCacheRevalidator(nasaApiClient, meterRegistry);
+        return new AsteroidCacheManager(cacheProperties, revalidator, nasaApiExecutor, openL2Store(meterRegistry),
+                meterRegistry);
+    }
+
+    @Bean
+    public SingleFlight<Integer, AsteroidTimeline> asteroidLoads(MeterRegistry meterRegistry) {
+        return new SingleFlight<>(ASTEROID_CACHE, meterRegistry);
+    }
+
+    @Bean
+    public NegativeCache<Integer> asteroidNotFound(MeterRegistry meterRegistry) {
+        return new NegativeCache<>(ASTEROID_NOT_FOUND_CACHE, negativeCacheProperties.isEnabled(),
+                negativeCacheProperties.getMaximumSize(),
+                Duration.ofMillis(negativeCacheProperties.getExpireAfterWrite()), meterRegistry);
+    }
+
+    private CacheStore openL2Store(MeterRegistry meterRegistry) {
+        if (!l2CacheProperties.isEnabled()) {
+            return null;
+        }
+        if (l2CacheProperties.getStore() == L2CacheProperties.Store.REDIS) {
+            // connects lazily, an unreachable server makes L2 lookups miss until it is back
+            return new RedisCacheStore(ASTEROID_CACHE, l2CacheProperties, meterRegistry);
+        }
+        Path file = Path.of(l2CacheProperties.getDirectory(), ASTEROID_CACHE + ".l2");
+        try {
+            return new MappedCacheStore(ASTEROID_CACHE, file, l2CacheProperties.getMaximumBytes(),
+                    l2CacheProperties.getMaximumSize(), l2CacheProperties.getExpireAfterWrite(), meterRegistry);
+        } catch (IOException e) {
+            log.warn("Unable to open the L2 cache store {}, caching in memory only", file, e);
+            return null;
+        }
     }
-}
\ No newline at end of file
+}
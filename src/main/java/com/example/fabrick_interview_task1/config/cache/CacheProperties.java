@@ -4,6 +4,9 @@ import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.util.HashMap;
+import java.util.Map;
+
 @Data
 @Component
 @ConfigurationProperties(prefix = "spring.cache.caffeine")
@@ -11,4 +14,31 @@ public class CacheProperties {
 
     private long maximumSize = 1000; // default num of entry
     private long expireAfterWrite = 86400000; // default: 24 hours in milliseconds
-}
\ No newline at end of file
+    private long refreshAfterWrite = 72000000; // default: 20 hours in milliseconds, reads past it refresh in the background
+    private boolean revalidate = true; // revalidate expired entries with a conditional GET instead of dropping them
+    private long maximumStaleness = 604800000; // default: 7 days in milliseconds before an entry is dropped anyway
+    private boolean incrementalMerge = true; // merge changed revalidated documents into the cached timeline instead of rebuilding it
+    private Map<String, Spec> specs = new HashMap<>(); // per-cache bounds by cache name, overriding the ones above
+
+    /**
+     * Bounds of the named cache: those of its spec where set, the global ones otherwise.
+     */
+    public Spec specFor(String name) {
+        Spec spec = specs.getOrDefault(name, new Spec());
+        Spec resolved = new Spec();
+        resolved.setMaximumSize(spec.getMaximumSize() != null ? spec.getMaximumSize() : maximumSize);
+        resolved.setMaximumWeight(spec.getMaximumWeight());
+        resolved.setWeigher(spec.getWeigher());
+        resolved.setExpireAfterWrite(spec.getExpireAfterWrite() != null ? spec.getExpireAfterWrite() : expireAfterWrite);
+        return resolved;
+    }
+
+    @Data
+    public static class Spec {
+
+        private Long maximumSize; // default num of entry
+        private Long maximumWeight; // total weight of the entries, replaces maximum-size when set
+        private CacheWeigher weigher = CacheWeigher.BYTES; // how much an entry weighs against maximum-weight
+        private Long expireAfterWrite; // milliseconds
+    }
+}
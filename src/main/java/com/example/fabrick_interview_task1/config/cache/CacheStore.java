@@ -0,0 +1,52 @@
+package com.example.fabrick_interview_task1.config.cache;
+
+import java.io.Closeable;
+
+/**
+ * {@code int} key to {@code byte[]} store behind the in-heap cache, the second tier of a {@link TieredCache}.
+ * <p>
+ * A store is either private to this instance, like {@link MappedCacheStore}, or shared by every instance of the
+ * application, like {@link RedisCacheStore}. A shared store also carries invalidations: when an instance replaces or
+ * removes an entry, the others are told to drop their in-heap copy. Failures of the store surface as unchecked
+ * exceptions, which the cache treats as misses.
+ */
+public interface CacheStore extends Closeable {
+
+    /**
+     * The stored value, or {@code null} when the key is absent or its value has expired.
+     */
+    byte[] get(int key);
+
+    /**
+     * Stores the value, replacing any previous one; {@code loadedAt} is when the value was obtained from its source,
+     * in epoch millis, and starts its time to live.
+     */
+    void put(int key, byte[] value, long loadedAt);
+
+    boolean remove(int key);
+
+    int clear();
+
+    /**
+     * Tells the other instances sharing this store that their in-heap copy of the entry is outdated. A store private
+     * to this instance has no one to tell.
+     */
+    default void invalidate(int key) {
+    }
+
+    /**
+     * Registers the listener of the invalidations sent by the other instances sharing this store.
+     */
+    default void setInvalidationListener(InvalidationListener listener) {
+    }
+
+    interface InvalidationListener {
+
+        void invalidated(int key);
+
+        /**
+         * Every entry is outdated, after a clear or when invalidations may have been missed.
+         */
+        void cleared();
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.fabrick_interview_task1.config.cache;
+
+import com.example.fabrick_interview_task1.model.AsteroidTimeline;
+import com.github.benmanes.caffeine.cache.Weigher;
+
+/**
+ * Weight of a cache entry against a cache's {@code maximum-weight}. Values other than {@link AsteroidTimeline}, such
+ * as cached nulls, weigh as a small fixed-size entry.
+ */
+public enum CacheWeigher implements Weigher<Object, Object> {
+
+    /** One per entry, the same as a maximum size. */
+    ENTRIES {
+        @Override
+        public int weigh(Object key, Object value) {
+            return 1;
+        }
+    },
+    /** Close approaches of the asteroid, plus one for the entry itself. */
+    APPROACHES {
+        @Override
+        public int weigh(Object key, Object value) {
+            return value instanceof AsteroidTimeline timeline ? timeline.size() + 1 : 1;
+        }
+    },
+    /** Estimated retained heap in bytes. */
+    BYTES {
+        @Override
+        public int weigh(Object key, Object value) {
+            return value instanceof AsteroidTimeline timeline
+                    ? (int) Math.min(timeline.estimatedBytes(), Integer.MAX_VALUE)
+                    : SMALL_ENTRY_BYTES;
+        }
+    };
+
+    private static final int SMALL_ENTRY_BYTES = 64;
+}
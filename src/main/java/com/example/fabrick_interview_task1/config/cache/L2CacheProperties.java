@@ -0,0 +1,38 @@
+package com.example.fabrick_interview_task1.config.cache;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "application.cache.l2")
+public class L2CacheProperties {
+
+    private boolean enabled = true; // keep asteroid entries in a second tier behind the in-heap cache
+    private Store store = Store.MAPPED; // mapped: a file private to this instance, redis: shared by every instance
+    private String directory = "data/cache"; // one file per cache, locked by the running instance
+    private long maximumSize = 100000; // default num of entry
+    private int maximumBytes = 268435456; // default: 256 MB file, entries are evicted oldest first beyond it
+    private long expireAfterWrite = 604800000; // default: 7 days in milliseconds since the entry was loaded from NASA
+    private Redis redis = new Redis();
+
+    public enum Store {
+        MAPPED,
+        REDIS
+    }
+
+    @Data
+    public static class Redis {
+
+        private String host = "localhost";
+        private int port = 6379;
+        private String password; // sent with AUTH when set
+        private int database = 0;
+        private String keyPrefix = "fabrick:"; // keys are <prefix><cache>:<id>, invalidations go to <prefix><cache>:invalidations
+        private int maxIdleConnections = 16; // connections kept open for reuse
+        private int connectTimeout = 500; // milliseconds
+        private int readTimeout = 500; // milliseconds
+        private long reconnectDelay = 5000; // 5 seconds in milliseconds the store is skipped after a failed connection
+    }
+}
@@ -0,0 +1,384 @@
+package com.example.fabrick_interview_task1.config.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongSupplier;
+import java.util.zip.CRC32;
+
+/**
+ * Persistent {@code int} key to {@code byte[]} store in one memory-mapped file, used as the second cache tier.
+ * <p>
+ * Records are appended to the file and located through an in-memory index, which is rebuilt by scanning the file on
+ * startup, so the content survives restarts. Removed and replaced records are flagged in place and their space is
+ * reclaimed by compacting the file when an append no longer fits. Entries are bounded by count and by file size,
+ * evicting the oldest written first, and expire a fixed time after the value was loaded from its source.
+ * The file is locked, a second process cannot open the same store.
+ */
+@Slf4j
+public class MappedCacheStore implements CacheStore {
+
+    private static final int MAGIC = 0x4D435331; // "MCS1"
+    // magic, write position
+    private static final int FILE_HEADER_BYTES = 8;
+    // payload length (negative once removed), key, loaded at, payload CRC32
+    private static final int RECORD_HEADER_BYTES = 20;
+
+    private final String name;
+    private final FileChannel channel;
+    private final FileLock fileLock;
+    private final MappedByteBuffer buffer;
+    private final long maximumEntries;
+    private final long expireAfterWriteMillis;
+    private final LongSupplier clock;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // insertion order is write order, the head is the next entry to evict
+    private final LinkedHashMap<Integer, Slot> index = new LinkedHashMap<>();
+    private int writePosition = FILE_HEADER_BYTES;
+    private long liveBytes;
+
+    private final Counter sizeEvictions;
+    private final Counter expiredEvictions;
+    private final Counter compactions;
+
+    public MappedCacheStore(String name, Path file, int capacityBytes, long maximumEntries, long expireAfterWriteMillis,
+                            MeterRegistry meterRegistry) throws IOException {
+        this(name, file, capacityBytes, maximumEntries, expireAfterWriteMillis, meterRegistry, System::currentTimeMillis);
+    }
+
+    MappedCacheStore(String name, Path file, int capacityBytes, long maximumEntries, long expireAfterWriteMillis,
+                     MeterRegistry meterRegistry, LongSupplier clock) throws IOException {
+        if (capacityBytes <= FILE_HEADER_BYTES + RECORD_HEADER_BYTES) {
+            throw new IllegalArgumentException("Store capacity too small: " + capacityBytes);
+        }
+        this.name = name;
+        this.maximumEntries = maximumEntries;
+        this.expireAfterWriteMillis = expireAfterWriteMillis;
+        this.clock = clock;
+
+        Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.fileLock = tryLock(channel);
+        if (fileLock == null) {
+            channel.close();
+            throw new IOException("Cache store " + file + " is in use by another store");
+        }
+        this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacityBytes);
+        recover(file);
+
+        this.sizeEvictions = evictions(meterRegistry, "size");
+        this.expiredEvictions = evictions(meterRegistry, "expired");
+        this.compactions = Counter.builder("cache.l2.compactions")
+                .description("Times the second tier file was compacted to reclaim removed records")
+                .tag("cache", name)
+                .register(meterRegistry);
+        Gauge.builder("cache.l2.entries", this, MappedCacheStore::size)
+                .description("Entries in the second tier")
+                .tag("cache", name)
+                .register(meterRegistry);
+        Gauge.builder("cache.l2.bytes", this, MappedCacheStore::getLiveBytes)
+                .description("Bytes of live records in the second tier file")
+                .baseUnit("bytes")
+                .tag("cache", name)
+                .register(meterRegistry);
+        Gauge.builder("cache.l2.capacity", buffer, MappedByteBuffer::capacity)
+                .baseUnit("bytes")
+                .tag("cache", name)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public byte[] get(int key) {
+        lock.readLock().lock();
+        try {
+            Slot slot = index.get(key);
+            if (slot == null) {
+                return null;
+            }
+            if (!isExpired(slot)) {
+                byte[] value = new byte[slot.length];
+                buffer.get(slot.offset + RECORD_HEADER_BYTES, value);
+                return value;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        removeExpired(key);
+        return null;
+    }
+
+    /**
+     * Values that cannot fit in the file at all are not stored.
+     */
+    @Override
+    public void put(int key, byte[] value, long loadedAt) {
+        int recordBytes = RECORD_HEADER_BYTES + value.length;
+        if (FILE_HEADER_BYTES + recordBytes > buffer.capacity() || clock.getAsLong() - loadedAt >= expireAfterWriteMillis) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            Slot previous = index.remove(key);
+            if (previous != null) {
+                markRemoved(previous);
+            }
+            while (!index.isEmpty() && index.size() >= maximumEntries) {
+                evictEldest();
+            }
+            if (writePosition + recordBytes > buffer.capacity()) {
+                makeRoom(recordBytes);
+            }
+            index.put(key, append(key, value, loadedAt));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean remove(int key) {
+        lock.writeLock().lock();
+        try {
+            Slot slot = index.remove(key);
+            if (slot == null) {
+                return false;
+            }
+            markRemoved(slot);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public int clear() {
+        lock.writeLock().lock();
+        try {
+            int removed = index.size();
+            index.clear();
+            liveBytes = 0;
+            setWritePosition(FILE_HEADER_BYTES);
+            return removed;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return index.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long getLiveBytes() {
+        lock.readLock().lock();
+        try {
+            return liveBytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.writeLock().lock();
+        try {
+            buffer.force();
+            fileLock.release();
+            channel.close();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static FileLock tryLock(FileChannel channel) throws IOException {
+        try {
+            return channel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            // already locked by a store in this JVM
+            return null;
+        }
+    }
+
+    private void recover(Path file) {
+        if (buffer.getInt(0) != MAGIC) {
+            buffer.putInt(0, MAGIC);
+            setWritePosition(FILE_HEADER_BYTES);
+            return;
+        }
+        int end = buffer.getInt(4);
+        if (end < FILE_HEADER_BYTES || end > buffer.capacity()) {
+            log.warn("Cache store {} has an invalid write position, starting empty", file);
+            setWritePosition(FILE_HEADER_BYTES);
+            return;
+        }
+
+        int position = FILE_HEADER_BYTES;
+        int expired = 0;
+        while (position + RECORD_HEADER_BYTES <= end) {
+            int length = buffer.getInt(position);
+            int payloadLength = Math.abs(length);
+            if (position + RECORD_HEADER_BYTES + payloadLength > end) {
+                break;
+            }
+            Slot slot = new Slot(position, payloadLength, buffer.getLong(position + 8));
+            if (length >= 0) {
+                if (buffer.getInt(position + 16) != crc(slot)) {
+                    // torn write, the rest of the file cannot be trusted
+                    break;
+                }
+                if (isExpired(slot)) {
+                    buffer.putInt(position, -payloadLength);
+                    expired++;
+                } else {
+                    Slot previous = index.put(buffer.getInt(position + 4), slot);
+                    if (previous != null) {
+                        markRemoved(previous);
+                    }
+                    liveBytes += RECORD_HEADER_BYTES + payloadLength;
+                }
+            }
+            position += RECORD_HEADER_BYTES + payloadLength;
+        }
+        setWritePosition(position);
+        log.info("Cache store {} recovered {} entries from {} ({} expired)", name, index.size(), file, expired);
+    }
+
+    private void removeExpired(int key) {
+        lock.writeLock().lock();
+        try {
+            Slot slot = index.get(key);
+            if (slot != null && isExpired(slot)) {
+                index.remove(key);
+                markRemoved(slot);
+                expiredEvictions.increment();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void evictEldest() {
+        Iterator<Slot> eldest = index.values().iterator();
+        Slot slot = eldest.next();
+        eldest.remove();
+        markRemoved(slot);
+        if (isExpired(slot)) {
+            expiredEvictions.increment();
+        } else {
+            sizeEvictions.increment();
+        }
+    }
+
+    private void makeRoom(int recordBytes) {
+        // drop expired entries first, then the oldest ones until the live records and the new one fit
+        index.values().removeIf(slot -> {
+            if (isExpired(slot)) {
+                markRemoved(slot);
+                expiredEvictions.increment();
+                return true;
+            }
+            return false;
+        });
+        while (!index.isEmpty() && FILE_HEADER_BYTES + liveBytes + recordBytes > buffer.capacity()) {
+            evictEldest();
+        }
+        compact();
+    }
+
+    private void compact() {
+        List<Map.Entry<Integer, Slot>> live = new ArrayList<>(index.entrySet());
+        live.sort(Comparator.comparingInt(entry -> entry.getValue().offset));
+        int position = FILE_HEADER_BYTES;
+        for (Map.Entry<Integer, Slot> entry : live) {
+            Slot slot = entry.getValue();
+            int recordBytes = RECORD_HEADER_BYTES + slot.length;
+            if (slot.offset != position) {
+                // records only move towards the start of the file, in offset order, so nothing is overwritten early
+                byte[] record = new byte[recordBytes];
+                buffer.get(slot.offset, record);
+                buffer.put(position, record);
+                entry.setValue(new Slot(position, slot.length, slot.loadedAt));
+            }
+            position += recordBytes;
+        }
+        setWritePosition(position);
+        compactions.increment();
+        log.debug("Compacted cache store {} to {} entries, {} bytes", name, live.size(), position);
+    }
+
+    private Slot append(int key, byte[] value, long loadedAt) {
+        Slot slot = new Slot(writePosition, value.length, loadedAt);
+        buffer.putInt(slot.offset + 4, key);
+        buffer.putLong(slot.offset + 8, loadedAt);
+        buffer.put(slot.offset + RECORD_HEADER_BYTES, value);
+        buffer.putInt(slot.offset + 16, crc(slot));
+        // the length goes last: a record is only complete once its length and checksum are both written
+        buffer.putInt(slot.offset, value.length);
+        liveBytes += RECORD_HEADER_BYTES + value.length;
+        setWritePosition(slot.offset + RECORD_HEADER_BYTES + value.length);
+        return slot;
+    }
+
+    private void markRemoved(Slot slot) {
+        buffer.putInt(slot.offset, -slot.length);
+        liveBytes -= RECORD_HEADER_BYTES + slot.length;
+    }
+
+    private void setWritePosition(int position) {
+        writePosition = position;
+        buffer.putInt(4, position);
+    }
+
+    private int crc(Slot slot) {
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(slot.offset + 4, 12));
+        crc.update(buffer.slice(slot.offset + RECORD_HEADER_BYTES, slot.length));
+        return (int) crc.getValue();
+    }
+
+    private boolean isExpired(Slot slot) {
+        return clock.getAsLong() - slot.loadedAt >= expireAfterWriteMillis;
+    }
+
+    private Counter evictions(MeterRegistry meterRegistry, String cause) {
+        return Counter.builder("cache.l2.evictions")
+                .description("Entries dropped from the second tier by cause")
+                .tag("cache", name)
+                .tag("cause", cause)
+                .register(meterRegistry);
+    }
+
+    private static final class Slot {
+
+        private final int offset;
+        private final int length;
+        private final long loadedAt;
+
+        private Slot(int offset, int length, long loadedAt) {
+            this.offset = offset;
+            this.length = length;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.fabrick_interview_task1.config.cache;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "application.cache.negative")
+public class NegativeCacheProperties {
+
+    private boolean enabled = true; // answer lookups of asteroids NASA just reported missing without calling it again
+    private long maximumSize = 10000; // default num of entry
+    private long expireAfterWrite = 600000; // default: 10 minutes in milliseconds, an asteroid may be added meanwhile
+}
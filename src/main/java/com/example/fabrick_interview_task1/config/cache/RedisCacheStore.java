@@ -0,0 +1,282 @@
+package com.example.fabrick_interview_task1.config.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.LongSupplier;
+
+/**
+ * {@link CacheStore} on a Redis server, shared by every instance of the application.
+ * <p>
+ * Each entry is one key, {@code <prefix><cache>:<id>}, written with {@code SET ... PX} so that the server expires it
+ * when its time to live since {@code loadedAt} runs out; the size of the store is bounded by the server's
+ * {@code maxmemory} policy. Commands go over a small pool of {@link RespConnection}s. After a failed connection the
+ * store is skipped for {@code reconnect-delay}, every call failing fast, so a server outage costs one connect timeout
+ * rather than one per lookup.
+ * <p>
+ * Invalidations are published on {@code <prefix><cache>:invalidations} as {@code <node>:<id>}, or {@code <node>:*}
+ * after a clear, and a daemon thread subscribed to the channel passes those of the other instances to the
+ * {@link CacheStore.InvalidationListener}. When the subscription breaks, invalidations may be lost in between, so
+ * the listener is told that everything is outdated once it is back.
+ */
+@Slf4j
+public class RedisCacheStore implements CacheStore {
+
+    private static final String CLEARED = "*";
+    private static final int SCAN_COUNT = 1000;
+
+    private final String name;
+    private final L2CacheProperties.Redis redis;
+    private final long expireAfterWriteMillis;
+    private final LongSupplier clock;
+    private final String keyPrefix;
+    private final String channel;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final BlockingQueue<RespConnection> idle;
+    private final Thread subscriber;
+    private volatile RespConnection subscription;
+    private volatile boolean subscribed;
+    private volatile InvalidationListener listener;
+    private volatile long unavailableUntil;
+    private volatile boolean closed;
+
+    private final Counter failures;
+    private final Counter invalidationsSent;
+    private final Counter invalidationsReceived;
+
+    public RedisCacheStore(String name, L2CacheProperties properties, MeterRegistry meterRegistry) {
+        this(name, properties, meterRegistry, System::currentTimeMillis);
+    }
+
+    RedisCacheStore(String name, L2CacheProperties properties, MeterRegistry meterRegistry, LongSupplier clock) {
+        this.name = name;
+        this.redis = properties.getRedis();
+        this.expireAfterWriteMillis = properties.getExpireAfterWrite();
+        this.clock = clock;
+        this.keyPrefix = redis.getKeyPrefix() + name + ":";
+        this.channel = keyPrefix + "invalidations";
+        this.idle = new ArrayBlockingQueue<>(Math.max(1, redis.getMaxIdleConnections()));
+
+        this.failures = Counter.builder("cache.l2.failures")
+                .description("Second tier commands that failed, treated as cache misses")
+                .tag("cache", name)
+                .register(meterRegistry);
+        this.invalidationsSent = invalidations(meterRegistry, "sent");
+        this.invalidationsReceived = invalidations(meterRegistry, "received");
+
+        this.subscriber = new Thread(this::subscribe, "cache-invalidations-" + name);
+        subscriber.setDaemon(true);
+        subscriber.start();
+    }
+
+    @Override
+    public byte[] get(int key) {
+        return (byte[]) execute("GET", key(key));
+    }
+
+    @Override
+    public void put(int key, byte[] value, long loadedAt) {
+        long timeToLive = loadedAt + expireAfterWriteMillis - clock.getAsLong();
+        if (timeToLive > 0) {
+            execute("SET", key(key), value, "PX", timeToLive);
+        }
+    }
+
+    @Override
+    public boolean remove(int key) {
+        boolean removed = (Long) execute("DEL", key(key)) > 0;
+        publish(Integer.toString(key));
+        return removed;
+    }
+
+    @Override
+    public int clear() {
+        // SCAN rather than KEYS, the server keeps answering the other instances while the keys are collected
+        int removed = 0;
+        String cursor = "0";
+        do {
+            List<?> page = (List<?>) execute("SCAN", cursor, "MATCH", keyPrefix + "*", "COUNT", SCAN_COUNT);
+            cursor = RespConnection.text(page.get(0));
+            List<?> keys = (List<?>) page.get(1);
+            if (!keys.isEmpty()) {
+                List<Object> command = new ArrayList<>(keys.size() + 1);
+                command.add("DEL");
+                command.addAll(keys);
+                removed += ((Long) execute(command.toArray())).intValue();
+            }
+        } while (!"0".equals(cursor));
+        publish(CLEARED);
+        return removed;
+    }
+
+    @Override
+    public void invalidate(int key) {
+        publish(Integer.toString(key));
+    }
+
+    @Override
+    public void setInvalidationListener(InvalidationListener listener) {
+        this.listener = listener;
+    }
+
+    boolean isSubscribed() {
+        return subscribed;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        subscriber.interrupt();
+        closeQuietly(subscription);
+        RespConnection connection;
+        while ((connection = idle.poll()) != null) {
+            closeQuietly(connection);
+        }
+    }
+
+    private void publish(String target) {
+        execute("PUBLISH", channel, nodeId + ":" + target);
+        invalidationsSent.increment();
+    }
+
+    private Object execute(Object... command) {
+        if (clock.getAsLong() < unavailableUntil) {
+            failures.increment();
+            throw new UncheckedIOException(new IOException("Cache store " + name + " is unavailable, "
+                    + "next connection attempt in " + (unavailableUntil - clock.getAsLong()) + " ms"));
+        }
+        RespConnection connection = idle.poll();
+        if (connection == null) {
+            try {
+                connection = connect(redis.getReadTimeout());
+            } catch (IOException e) {
+                unavailableUntil = clock.getAsLong() + redis.getReconnectDelay();
+                failures.increment();
+                log.warn("Unable to connect to the {} cache store at {}:{}, skipping it for {} ms: {}", name,
+                        redis.getHost(), redis.getPort(), redis.getReconnectDelay(), e.getMessage());
+                throw new UncheckedIOException(e);
+            }
+        }
+        try {
+            Object reply = connection.call(command);
+            if (!idle.offer(connection)) {
+                closeQuietly(connection);
+            }
+            return reply;
+        } catch (IOException e) {
+            // the reply may be half read, the connection cannot be reused
+            closeQuietly(connection);
+            failures.increment();
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private RespConnection connect(int readTimeoutMillis) throws IOException {
+        RespConnection connection = new RespConnection(redis.getHost(), redis.getPort(), redis.getConnectTimeout(),
+                readTimeoutMillis);
+        try {
+            if (redis.getPassword() != null && !redis.getPassword().isBlank()) {
+                connection.call("AUTH", redis.getPassword());
+            }
+            if (redis.getDatabase() != 0) {
+                connection.call("SELECT", redis.getDatabase());
+            }
+            return connection;
+        } catch (IOException e) {
+            connection.close();
+            throw e;
+        }
+    }
+
+    private void subscribe() {
+        boolean resubscribing = false;
+        while (!closed) {
+            // no read timeout: the subscription is idle until someone publishes
+            try (RespConnection connection = connect(0)) {
+                subscription = connection;
+                connection.call("SUBSCRIBE", channel);
+                subscribed = true;
+                if (resubscribing) {
+                    log.info("Resubscribed to the {} cache invalidations, dropping the in-heap entries", name);
+                    notifyListener(CLEARED);
+                }
+                resubscribing = true;
+                while (!closed) {
+                    if (connection.read() instanceof List<?> message && message.size() == 3
+                            && "message".equals(RespConnection.text(message.get(0)))) {
+                        received(RespConnection.text(message.get(2)));
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                subscribed = false;
+                if (closed) {
+                    return;
+                }
+                log.warn("Lost the {} cache invalidations subscription, retrying in {} ms: {}", name,
+                        redis.getReconnectDelay(), e.getMessage());
+                resubscribing = true;
+                try {
+                    Thread.sleep(redis.getReconnectDelay());
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void received(String message) {
+        int separator = message.lastIndexOf(':');
+        if (separator < 0 || message.substring(0, separator).equals(nodeId)) {
+            return;
+        }
+        invalidationsReceived.increment();
+        notifyListener(message.substring(separator + 1));
+    }
+
+    private void notifyListener(String target) {
+        InvalidationListener current = listener;
+        if (current == null) {
+            return;
+        }
+        try {
+            if (CLEARED.equals(target)) {
+                current.cleared();
+            } else {
+                current.invalidated(Integer.parseInt(target));
+            }
+        } catch (RuntimeException e) {
+            log.warn("Unable to apply the {} cache invalidation {}", name, target, e);
+        }
+    }
+
+    private String key(int key) {
+        return keyPrefix + key;
+    }
+
+    private Counter invalidations(MeterRegistry meterRegistry, String direction) {
+        return Counter.builder("cache.l2.invalidations")
+                .description("Invalidations of in-heap entries exchanged with the other instances")
+                .tag("cache", name)
+                .tag("direction", direction)
+                .register(meterRegistry);
+    }
+
+    private static void closeQuietly(RespConnection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (IOException e) {
+            // nothing left to release
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.fabrick_interview_task1.config.cache;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Blocking connection speaking the Redis serialization protocol (RESP2), enough for the commands of
+ * {@link RedisCacheStore}.
+ * <p>
+ * Arguments are sent as bulk strings, {@code byte[]} as is and anything else as its UTF-8 text. Replies are read as
+ * {@link String} (simple string), {@link Long} (integer), {@code byte[]} (bulk string), {@link List} (array) or
+ * {@code null}; an error reply is thrown as an {@link IOException}. Not thread safe.
+ */
+final class RespConnection implements Closeable {
+
+    private static final byte[] CRLF = {'\r', '\n'};
+
+    private final Socket socket;
+    private final InputStream in;
+    private final OutputStream out;
+
+    RespConnection(String host, int port, int connectTimeoutMillis, int readTimeoutMillis) throws IOException {
+        this.socket = new Socket();
+        try {
+            socket.connect(new InetSocketAddress(host, port), connectTimeoutMillis);
+            socket.setSoTimeout(readTimeoutMillis);
+            socket.setTcpNoDelay(true);
+            this.in = new BufferedInputStream(socket.getInputStream());
+            this.out = new BufferedOutputStream(socket.getOutputStream());
+        } catch (IOException e) {
+            socket.close();
+            throw e;
+        }
+    }
+
+    Object call(Object... command) throws IOException {
+        send(command);
+        return read();
+    }
+
+    void send(Object... command) throws IOException {
+        out.write('*');
+        writeLine(Integer.toString(command.length));
+        for (Object argument : command) {
+            byte[] bytes = argument instanceof byte[] raw
+                    ? raw
+                    : String.valueOf(argument).getBytes(StandardCharsets.UTF_8);
+            out.write('$');
+            writeLine(Integer.toString(bytes.length));
+            out.write(bytes);
+            out.write(CRLF);
+        }
+        out.flush();
+    }
+
+    Object read() throws IOException {
+        int type = in.read();
+        if (type < 0) {
+            throw new EOFException("Connection closed by the server");
+        }
+        String line = readLine();
+        switch (type) {
+            case '+':
+                return line;
+            case '-':
+                throw new IOException("Server error: " + line);
+            case ':':
+                return Long.parseLong(line);
+            case '$':
+                return readBulk(Integer.parseInt(line));
+            case '*':
+                int count = Integer.parseInt(line);
+                if (count < 0) {
+                    return null;
+                }
+                List<Object> elements = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    elements.add(read());
+                }
+                return elements;
+            default:
+                throw new IOException("Unexpected reply type '" + (char) type + "'");
+        }
+    }
+
+    static String text(Object reply) {
+        return reply instanceof byte[] bytes ? new String(bytes, StandardCharsets.UTF_8) : String.valueOf(reply);
+    }
+
+    @Override
+    public void close() throws IOException {
+        socket.close();
+    }
+
+    private byte[] readBulk(int length) throws IOException {
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = in.readNBytes(length);
+        if (bytes.length < length || in.read() != '\r' || in.read() != '\n') {
+            throw new EOFException("Truncated bulk string");
+        }
+        return bytes;
+    }
+
+    private String readLine() throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream(16);
+        int b;
+        while ((b = in.read()) != '\r') {
+            if (b < 0) {
+                throw new EOFException("Connection closed by the server");
+            }
+            line.write(b);
+        }
+        if (in.read() != '\n') {
+            throw new IOException("Malformed reply line");
+        }
+        return line.toString(StandardCharsets.UTF_8);
+    }
+
+    private void writeLine(String line) throws IOException {
+        out.write(line.getBytes(StandardCharsets.US_ASCII));
+        out.write(CRLF);
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.fabrick_interview_task1.config.cache;
+
+import com.example.fabrick_interview_task1.model.AsteroidTimeline;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+/**
+ * Caffeine cache that serves entries older than {@code revalidateAfter} while revalidating them in the background.
+ * <p>
+ * With {@code revalidateAfter} below the native expire-after-write this is refresh-ahead: an entry read in between is
+ * renewed before it expires. Past expire-after-write, when the native cache keeps entries longer, it is
+ * stale-while-revalidate. Either way the read returns the cached value without waiting for the revalidation.
+ * The age of an {@link AsteroidTimeline} is counted from its {@code loadedAt} when that is older than its write to
+ * this cache, so an entry promoted from L2 is revalidated as soon as it is stored.
+ * <p>
+ * The revalidator receives the cached value and returns the value to keep; returning the same instance just extends
+ * the entry. One revalidation at most runs per key, and a failed one leaves the stale entry in place until the
+ * native cache expires it.
+ */
+@Slf4j
+public class RevalidatingCaffeineCache extends CaffeineCache {
+
+    private final Duration revalidateAfter;
+    private final BiFunction<Object, Object, Object> revalidator;
+    private final Executor executor;
+    private final Set<Object> revalidating = ConcurrentHashMap.newKeySet();
+
+    public RevalidatingCaffeineCache(String name, AsyncCache<Object, Object> cache, boolean allowNullValues,
+                                     Duration revalidateAfter, BiFunction<Object, Object, Object> revalidator,
+                                     Executor executor) {
+        super(name, cache, allowNullValues);
+        this.revalidateAfter = revalidateAfter;
+        this.revalidator = revalidator;
+        this.executor = executor;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        Object value = super.lookup(key);
+        if (value != null) {
+            revalidateIfStale(key);
+        }
+        return value;
+    }
+
+    @Override
+    public CompletableFuture<?> retrieve(Object key) {
+        CompletableFuture<?> result = super.retrieve(key);
+        if (result != null) {
+            revalidateIfStale(key);
+        }
+        return result;
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        T value = super.get(key, valueLoader);
+        revalidateIfStale(key);
+        return value;
+    }
+
+    @Override
+    public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+        CompletableFuture<T> result = super.retrieve(key, valueLoader);
+        result.thenRun(() -> revalidateIfStale(key));
+        return result;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        super.put(key, value);
+        // a value loaded earlier, such as one promoted from L2, may be stale already
+        revalidateIfStale(key);
+    }
+
+    private void revalidateIfStale(Object key) {
+        Object cached = getNativeCache().policy().getIfPresentQuietly(key);
+        if (cached == null || ageOf(key, cached).compareTo(revalidateAfter) < 0 || !revalidating.add(key)) {
+            return;
+        }
+        try {
+            executor.execute(() -> revalidate(key, cached));
+        } catch (RejectedExecutionException e) {
+            revalidating.remove(key);
+            log.warn("Unable to schedule revalidation of {} entry {}", getName(), key, e);
+        }
+    }
+
+    private Duration ageOf(Object key, Object cached) {
+        Duration age = getNativeCache().policy().expireAfterWrite()
+                .flatMap(policy -> policy.ageOf(key))
+                .orElse(Duration.ZERO);
+        if (cached instanceof AsteroidTimeline timeline) {
+            // the native write age restarts when an entry is promoted from L2, the timeline knows when it was loaded
+            Duration loadedAge = Duration.ofMillis(System.currentTimeMillis() - timeline.getLoadedAt());
+            return loadedAge.compareTo(age) > 0 ? loadedAge : age;
+        }
+        return age;
+    }
+
+    private void revalidate(Object key, Object cached) {
+        try {
+            put(key, revalidator.apply(key, cached));
+        } catch (RuntimeException e) {
+            log.warn("Revalidation of {} entry {} failed, keeping the cached value: {}", getName(), key, e.getMessage());
+        } finally {
+            revalidating.remove(key);
+        }
+    }
+}
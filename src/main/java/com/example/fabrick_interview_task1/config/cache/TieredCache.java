@@ -0,0 +1,318 @@
+package com.example.fabrick_interview_task1.config.cache;
+
+import com.example.fabrick_interview_task1.model.AsteroidTimeline;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.NullValue;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Two-tier {@code asteroid} cache: an in-heap Caffeine cache (L1) in front of a {@link CacheStore} (L2), either a
+ * {@link MappedCacheStore} on local disk or a {@link RedisCacheStore} shared by every instance.
+ * <p>
+ * L1 misses read through to L2 and promote what they find; values are written to both tiers, and
+ * {@link #demote(Object, Object)} moves entries evicted from L1 down to L2. Only {@link AsteroidTimeline} values under
+ * {@code Integer} keys reach L2, anything else lives in L1 only. L2 failures are logged and treated as misses, the
+ * cache keeps working from L1 and NASA.
+ * <p>
+ * With a shared L2, an entry revalidated or evicted here is invalidated in the L1 of the other instances, which read
+ * the new value back from L2 on their next lookup. Loads of missing entries are not announced, the other instances
+ * have no copy to drop or one that is just as fresh.
+ */
+@Slf4j
+public class TieredCache implements Cache, CacheStore.InvalidationListener {
+
+    private final Cache l1;
+    private final CacheStore l2;
+    private final Counter l1Hits;
+    private final Counter l1Misses;
+    private final Counter l2Hits;
+    private final Counter l2Misses;
+    private final Counter demotions;
+
+    public TieredCache(Cache l1, CacheStore l2, MeterRegistry meterRegistry) {
+        this.l1 = l1;
+        this.l2 = l2;
+        this.l1Hits = gets(meterRegistry, "l1", "hit");
+        this.l1Misses = gets(meterRegistry, "l1", "miss");
+        this.l2Hits = gets(meterRegistry, "l2", "hit");
+        this.l2Misses = gets(meterRegistry, "l2", "miss");
+        this.demotions = Counter.builder("cache.tier.demotions")
+                .description("Entries evicted from L1 and written down to L2")
+                .tag("cache", l1.getName())
+                .register(meterRegistry);
+    }
+
+    /**
+     * The value of the key in the cache, read without side effects: a value found in L2 is not promoted, and an L1
+     * read is neither counted nor starts a revalidation. {@code null} when the key is absent.
+     */
+    @SuppressWarnings("unchecked")
+    public static Object peek(Cache cache, Object key) {
+        if (cache instanceof TieredCache tiered) {
+            Object value = peek(tiered.l1, key);
+            return value != null ? value : tiered.readL2(key);
+        }
+        if (cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> caffeine) {
+            Object value = ((com.github.benmanes.caffeine.cache.Cache<Object, Object>) caffeine).policy()
+                    .getIfPresentQuietly(key);
+            return value instanceof NullValue ? null : value;
+        }
+        ValueWrapper wrapper = cache.get(key);
+        return wrapper != null ? wrapper.get() : null;
+    }
+
+    @Override
+    public String getName() {
+        return l1.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return l1.getNativeCache();
+    }
+
+    public Cache getL1() {
+        return l1;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper value = l1.get(key);
+        if (value != null) {
+            l1Hits.increment();
+            return value;
+        }
+        l1Misses.increment();
+        AsteroidTimeline promoted = readL2(key);
+        if (promoted == null) {
+            return null;
+        }
+        l1.put(key, promoted);
+        return new SimpleValueWrapper(promoted);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        // straight to the loading read, so that L1 counts a single miss and times the load
+        AtomicBoolean missed = new AtomicBoolean();
+        T value = l1.get(key, () -> {
+            missed.set(true);
+            AsteroidTimeline promoted = readL2(key);
+            if (promoted != null) {
+                return (T) promoted;
+            }
+            T loaded = valueLoader.call();
+            writeL2(key, loaded);
+            return loaded;
+        });
+        (missed.get() ? l1Misses : l1Hits).increment();
+        return value;
+    }
+
+    @Override
+    public CompletableFuture<?> retrieve(Object key) {
+        CompletableFuture<?> result = l1.retrieve(key);
+        if (result != null) {
+            l1Hits.increment();
+            return result;
+        }
+        l1Misses.increment();
+        AsteroidTimeline promoted = readL2(key);
+        if (promoted == null) {
+            return null;
+        }
+        l1.put(key, promoted);
+        // read back from L1 so the future has the shape of an L1 hit
+        return l1.retrieve(key);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+        AtomicBoolean missed = new AtomicBoolean();
+        CompletableFuture<T> result = l1.retrieve(key, () -> {
+            missed.set(true);
+            AsteroidTimeline promoted = readL2(key);
+            if (promoted != null) {
+                return CompletableFuture.completedFuture((T) promoted);
+            }
+            return valueLoader.get().thenApply(loaded -> {
+                writeL2(key, loaded);
+                return loaded;
+            });
+        });
+        // the loader runs on this thread when the key is absent
+        (missed.get() ? l1Misses : l1Hits).increment();
+        return result;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        l1.put(key, value);
+        writeL2(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = l1.putIfAbsent(key, value);
+        if (existing == null) {
+            writeL2(key, value);
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        l1.evict(key);
+        removeL2(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = l1.evictIfPresent(key);
+        return removeL2(key) || evicted;
+    }
+
+    @Override
+    public void clear() {
+        l1.clear();
+        clearL2();
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = l1.invalidate();
+        return clearL2() > 0 || invalidated;
+    }
+
+    /**
+     * Writes an entry evicted from L1 down to L2.
+     */
+    public void demote(Object key, Object value) {
+        if (writeL2(key, value)) {
+            demotions.increment();
+        }
+    }
+
+    /**
+     * Stores the result of a revalidation of an entry held in L1: a replaced value is written to L2 and invalidated
+     * in the L1 of the other instances. A confirmed value only restarts its time to live in L2, the copies held by
+     * the other instances are still current. Called before the value replaces the one in L1.
+     */
+    public void revalidated(Object key, Object previous, Object revalidated) {
+        if (revalidated == previous || !writeL2(key, revalidated)) {
+            return;
+        }
+        if (previous instanceof AsteroidTimeline timeline && revalidated instanceof AsteroidTimeline confirmed
+                && timeline.hasSameContentAs(confirmed)) {
+            return;
+        }
+        try {
+            l2.invalidate((Integer) key);
+        } catch (RuntimeException e) {
+            log.warn("Unable to invalidate {} entry {} on the other instances: {}", getName(), key, e.getMessage());
+        }
+    }
+
+    @Override
+    public void invalidated(int key) {
+        // another instance replaced or removed the entry, the next lookup reads it back from L2
+        l1.evict(key);
+    }
+
+    @Override
+    public void cleared() {
+        l1.clear();
+    }
+
+    private AsteroidTimeline readL2(Object key) {
+        if (!(key instanceof Integer asteroidId)) {
+            return null;
+        }
+        byte[] encoded;
+        try {
+            encoded = l2.get(asteroidId);
+        } catch (RuntimeException e) {
+            log.warn("Unable to read {} entry {} from L2: {}", getName(), key, e.getMessage());
+            l2Misses.increment();
+            return null;
+        }
+        if (encoded == null) {
+            l2Misses.increment();
+            return null;
+        }
+        try {
+            AsteroidTimeline timeline = AsteroidTimelineCodec.decode(encoded);
+            l2Hits.increment();
+            return timeline;
+        } catch (RuntimeException e) {
+            log.warn("Unable to decode {} entry {} from L2, dropping it", getName(), key, e);
+            removeL2(key);
+            l2Misses.increment();
+            return null;
+        }
+    }
+
+    private boolean writeL2(Object key, Object value) {
+        if (!(key instanceof Integer asteroidId) || !(value instanceof AsteroidTimeline timeline)) {
+            return false;
+        }
+        try {
+            l2.put(asteroidId, AsteroidTimelineCodec.encode(timeline), timeline.getLoadedAt());
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("Unable to write {} entry {} to L2: {}", getName(), key, e.getMessage());
+            return false;
+        }
+    }
+
+    private boolean removeL2(Object key) {
+        if (!(key instanceof Integer asteroidId)) {
+            return false;
+        }
+        try {
+            return l2.remove(asteroidId);
+        } catch (RuntimeException e) {
+            log.warn("Unable to remove {} entry {} from L2: {}", getName(), key, e.getMessage());
+            return false;
+        }
+    }
+
+    private int clearL2() {
+        try {
+            return l2.clear();
+        } catch (RuntimeException e) {
+            log.warn("Unable to clear {} L2: {}", getName(), e.getMessage());
+            return 0;
+        }
+    }
+
+    private Counter gets(MeterRegistry meterRegistry, String tier, String result) {
+        return Counter.builder("cache.tier.gets")
+                .description("Cache lookups by tier and result")
+                .tag("cache", l1.getName())
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -10,6 +10,10 @@ public enum ApplicationError {
     NASA_ASTEROID_NOT_FOUND("Asteroid not found", 4001)
     ,NASA_RATE_LIMITER_EXCEEDED("Service rate limit exceeded", 4002)
     ,NASA_UNABLE_TO_RETRIEVE_DATA("Unable to retrieve asteroid data", 4003)
+    ,NASA_SERVICE_UNAVAILABLE("NASA API temporarily unavailable", 4004)
+    //Cache admin Errors
+    ,CACHE_JOB_NOT_FOUND("Cache job not found", 5001)
+    ,CACHE_JOBS_LIMIT_EXCEEDED("Too many cache jobs running", 5002)
     //Generic Errors
     ,VALIDATION_ERROR("Validation error", 9998)
     ,GENERIC_ERROR("Generic error", 9999);
@@ -2,9 +2,13 @@ package com.example.fabrick_interview_task1.controller;
 
 import com.example.fabrick_interview_task1.constant.Status;
 import com.example.fabrick_interview_task1.model.AsteroidPath;
+import com.example.fabrick_interview_task1.model.AsteroidPathsResponse;
 import com.example.fabrick_interview_task1.model.ErrorResponse;
-import com.example.fabrick_interview_task1.model.GenericResponse;
+import com.example.fabrick_interview_task1.model.PathCursor;
 import com.example.fabrick_interview_task1.service.AsteroidService;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.StreamWriteFeature;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
@@ -16,11 +20,14 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @RestController
@@ -30,7 +37,13 @@ public class AsteroidController {
 
     private final AsteroidService asteroidService;
 
-    private static class SuccessfulResponse extends GenericResponse<List<AsteroidPath>> {}
+    static final int DEFAULT_PAGE_SIZE = 100;
+    static final int MAX_PAGE_SIZE = 1000;
+    // paths written between two flushes of a streamed response
+    static final int STREAM_FLUSH_EVERY = 64;
+    private static final JsonFactory NDJSON_FACTORY = JsonFactory.builder()
+            .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+            .build();
 
     @Autowired
     public AsteroidController(AsteroidService asteroidService) {
@@ -41,7 +54,8 @@ public class AsteroidController {
             summary = "Get asteroid paths",
             description = "Given an asteroid id, retrieves paths between two dates. " +
                     "If fromDate is not provided, default value is 100 years ago. " +
-                    "If toDate is not provided, default value is today."
+                    "If toDate is not provided, default value is today. " +
+                    "With a limit, paths are returned a page at a time: pass the nextCursor of a page to get the next one."
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -49,7 +63,7 @@ public class AsteroidController {
                     description = "Asteroid paths successfully retrieved.",
                     content = @Content(
                             mediaType = "application/json",
-                            array = @ArraySchema(schema = @Schema(implementation = SuccessfulResponse.class))
+                            array = @ArraySchema(schema = @Schema(implementation = AsteroidPathsResponse.class))
                     )
             ),
             @ApiResponse(
@@ -94,16 +108,26 @@ public class AsteroidController {
             )
     })
     @GetMapping("/asteroids/{asteroidId}/paths")
-    public ResponseEntity<GenericResponse<List<AsteroidPath>>> getAsteroidPaths(
+    public CompletableFuture<ResponseEntity<AsteroidPathsResponse>> getAsteroidPaths(
             @Parameter(description = "Asteroid ID", required = true, example = "1234567")
             @PathVariable int asteroidId,
             @Parameter(description = "From date for path search (format: yyyy-MM-dd). Default is 100 years ago if not provided.", example = "1925-11-26")
             @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate fromDate,
             @Parameter(description = "To date for path search (format: yyyy-MM-dd). Default is today if not provided.", example = "2025-11-26")
-            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate toDate) {
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate toDate,
+            @Parameter(description = "Maximum number of paths per page, from 1 to " + MAX_PAGE_SIZE + ". All paths in one response if neither limit nor cursor is provided, " + DEFAULT_PAGE_SIZE + " if only the cursor is.", example = "100")
+            @RequestParam(required = false) Integer limit,
+            @Parameter(description = "nextCursor of the previous page. It keeps the date range of the first page, fromDate and toDate can be omitted.")
+            @RequestParam(required = false) String cursor) {
+
+        log.info("Fetching asteroid paths for asteroidId: {}, fromDate: {}, toDate: {}, limit: {}, cursor: {}",
+                asteroidId, fromDate, toDate, limit, cursor);
 
-        log.info("Fetching asteroid paths for asteroidId: {}, fromDate: {}, toDate: {}",
-                asteroidId, fromDate, toDate);
+        if (cursor != null) {
+            PathCursor position = PathCursor.decode(cursor);
+            validateCursorRange(position, fromDate, toDate);
+            return getPage(asteroidId, position, limit != null ? limit : DEFAULT_PAGE_SIZE);
+        }
 
         // Apply default values as per requirements
         LocalDate actualFromDate = (fromDate != null) ? fromDate : LocalDate.now().minusYears(100);
@@ -114,17 +138,80 @@ public class AsteroidController {
 
         log.info("Using date range - From: {}, To: {}", actualFromDate, actualToDate);
 
-        List<AsteroidPath> result = asteroidService.getAsteroidPaths(asteroidId, actualFromDate, actualToDate);
+        if (limit != null) {
+            return getPage(asteroidId, PathCursor.first(actualFromDate.toEpochDay(), actualToDate.toEpochDay()), limit);
+        }
+
+        // the request thread is released while NASA data is loaded, the response is written on completion
+        return asteroidService.getAsteroidPathsAsync(asteroidId, actualFromDate, actualToDate)
+                .thenApply(result -> toResponse(result, null));
+    }
+
+    @Operation(
+            summary = "Stream asteroid paths",
+            description = "Same paths as the JSON variant, for long histories and bulk consumers: selected by " +
+                    "Accept: application/x-ndjson, one path per line, written to the response as they are read " +
+                    "from the cached timeline."
+    )
+    @ApiResponse(responseCode = "200", description = "Asteroid paths streamed, one JSON object per line.",
+            content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = AsteroidPath.class)))
+    @GetMapping(value = "/asteroids/{asteroidId}/paths", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public CompletableFuture<ResponseEntity<StreamingResponseBody>> streamAsteroidPaths(
+            @Parameter(description = "Asteroid ID", required = true, example = "1234567")
+            @PathVariable int asteroidId,
+            @Parameter(description = "From date for path search (format: yyyy-MM-dd). Default is 100 years ago if not provided.", example = "1925-11-26")
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate fromDate,
+            @Parameter(description = "To date for path search (format: yyyy-MM-dd). Default is today if not provided.", example = "2025-11-26")
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate toDate) {
+
+        log.info("Streaming asteroid paths for asteroidId: {}, fromDate: {}, toDate: {}", asteroidId, fromDate, toDate);
+
+        LocalDate actualFromDate = (fromDate != null) ? fromDate : LocalDate.now().minusYears(100);
+        LocalDate actualToDate = (toDate != null) ? toDate : LocalDate.now();
+        validateDateRange(actualFromDate, actualToDate);
+
+        // no list is built: the body writes from the timeline on the MVC task executor, blocking while the client
+        // does not read, and flushes every few paths so the first ones go out at once
+        return asteroidService.getAsteroidPathViewAsync(asteroidId, actualFromDate, actualToDate)
+                .thenApply(paths -> ResponseEntity.ok()
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .body(outputStream -> {
+                            try (JsonGenerator generator = NDJSON_FACTORY.createGenerator(outputStream)) {
+                                paths.writeLines(generator, STREAM_FLUSH_EVERY);
+                            }
+                        }));
+    }
 
+    private CompletableFuture<ResponseEntity<AsteroidPathsResponse>> getPage(int asteroidId, PathCursor position, int limit) {
+        validateLimit(limit);
+        return asteroidService.getAsteroidPathPageAsync(asteroidId, position, limit)
+                .thenApply(page -> toResponse(page.getPaths(), page.getNext() != null ? page.getNext().encode() : null));
+    }
+
+    private ResponseEntity<AsteroidPathsResponse> toResponse(List<AsteroidPath> result, String nextCursor) {
         log.info("Result size: {}", result.size());
 
-        GenericResponse<List<AsteroidPath>> response = new GenericResponse<>();
+        AsteroidPathsResponse response = new AsteroidPathsResponse();
         response.setData(result);
+        response.setNextCursor(nextCursor);
         response.setErrorCode(0);
         response.setStatus(Status.SUCCESS);
         return ResponseEntity.ok().body(response);
     }
 
+    private void validateLimit(int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+    }
+
+    private void validateCursorRange(PathCursor position, LocalDate fromDate, LocalDate toDate) {
+        if ((fromDate != null && fromDate.toEpochDay() != position.getFromEpochDay())
+                || (toDate != null && toDate.toEpochDay() != position.getToEpochDay())) {
+            throw new IllegalArgumentException("fromDate and toDate must match the ones of the cursor");
+        }
+    }
+
     private void validateDateRange(LocalDate fromDate, LocalDate toDate) {
         if (fromDate.isAfter(toDate)) {
             throw new IllegalArgumentException("fromDate cannot be greater than toDate");
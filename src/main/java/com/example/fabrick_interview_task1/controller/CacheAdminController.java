@@ -0,0 +1,147 @@
+package com.example.fabrick_interview_task1.controller;
+
+import com.example.fabrick_interview_task1.constant.Status;
+import com.example.fabrick_interview_task1.model.CacheJob;
+import com.example.fabrick_interview_task1.model.CacheJobRequest;
+import com.example.fabrick_interview_task1.model.ErrorResponse;
+import com.example.fabrick_interview_task1.model.GenericResponse;
+import com.example.fabrick_interview_task1.service.CacheAdminService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Runtime management of the {@code asteroid} cache, for incidents and data corrections. Kept under its own path,
+ * apart from the public API, so that it can be restricted at the gateway.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/admin/fabrick/v1.0/cache")
+@Tag(name = "Cache Admin API", description = "Bulk preload, refresh and eviction of the asteroid cache, run as background jobs")
+public class CacheAdminController {
+
+    private final CacheAdminService cacheAdminService;
+
+    private static class JobResponse extends GenericResponse<CacheJob> {}
+
+    private static class JobListResponse extends GenericResponse<List<CacheJob>> {}
+
+    @Autowired
+    public CacheAdminController(CacheAdminService cacheAdminService) {
+        this.cacheAdminService = cacheAdminService;
+    }
+
+    @Operation(
+            summary = "Preload asteroids",
+            description = "Starts a job loading the given asteroids, a list of ids or an id range, into the cache. " +
+                    "Cached asteroids are left as they are. NASA calls run in parallel at background priority."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Job started.",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = JobResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Bad request - Neither or both of ids and range, or too many asteroids",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "429", description = "Too Many Requests - Another cache job is running",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PostMapping("/preload")
+    public ResponseEntity<GenericResponse<CacheJob>> preload(@RequestBody CacheJobRequest request) {
+        return submit(CacheJob.Operation.PRELOAD, request);
+    }
+
+    @Operation(
+            summary = "Refresh asteroids",
+            description = "Starts a job revalidating the given asteroids with NASA, a list of ids or an id range. " +
+                    "Changed asteroids are replaced, asteroids NASA no longer has are evicted, missing ones are loaded."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Job started.",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = JobResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Bad request - Neither or both of ids and range, or too many asteroids",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "429", description = "Too Many Requests - Another cache job is running",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PostMapping("/refresh")
+    public ResponseEntity<GenericResponse<CacheJob>> refresh(@RequestBody CacheJobRequest request) {
+        return submit(CacheJob.Operation.REFRESH, request);
+    }
+
+    @Operation(
+            summary = "Evict asteroids",
+            description = "Starts a job dropping the given asteroids, a list of ids or an id range, from the cache " +
+                    "and from the cache of asteroids NASA reported missing."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Job started.",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = JobResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Bad request - Neither or both of ids and range, or too many asteroids",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "429", description = "Too Many Requests - Another cache job is running",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PostMapping("/evict")
+    public ResponseEntity<GenericResponse<CacheJob>> evict(@RequestBody CacheJobRequest request) {
+        return submit(CacheJob.Operation.EVICT, request);
+    }
+
+    @Operation(summary = "List cache jobs", description = "Running jobs and the most recent finished ones, newest first.")
+    @ApiResponse(responseCode = "200", description = "Jobs successfully retrieved.",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = JobListResponse.class)))
+    @GetMapping("/jobs")
+    public ResponseEntity<GenericResponse<List<CacheJob>>> getJobs() {
+        return ResponseEntity.ok(toResponse(cacheAdminService.getJobs()));
+    }
+
+    @Operation(summary = "Get a cache job", description = "Progress of a running job or the outcome of a finished one.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Job successfully retrieved.",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = JobResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Not Found - Unknown or expired job",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<GenericResponse<CacheJob>> getJob(
+            @Parameter(description = "Job ID", required = true, example = "1") @PathVariable long jobId) {
+        return ResponseEntity.ok(toResponse(cacheAdminService.getJob(jobId)));
+    }
+
+    @Operation(summary = "Cancel a cache job", description = "Stops the job after the asteroids in progress, the others are skipped.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Job cancelled.",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = JobResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Not Found - Unknown or expired job",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @DeleteMapping("/jobs/{jobId}")
+    public ResponseEntity<GenericResponse<CacheJob>> cancel(
+            @Parameter(description = "Job ID", required = true, example = "1") @PathVariable long jobId) {
+        return ResponseEntity.ok(toResponse(cacheAdminService.cancel(jobId)));
+    }
+
+    private ResponseEntity<GenericResponse<CacheJob>> submit(CacheJob.Operation operation, CacheJobRequest request) {
+        log.info("Cache {} requested for {} asteroidIds, range: {}-{}", operation,
+                request.getAsteroidIds() != null ? request.getAsteroidIds().size() : 0, request.getFromId(),
+                request.getToId());
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(toResponse(cacheAdminService.submit(operation, request)));
+    }
+
+    private static <T> GenericResponse<T> toResponse(T data) {
+        GenericResponse<T> response = new GenericResponse<>();
+        response.setData(data);
+        response.setErrorCode(0);
+        response.setStatus(Status.SUCCESS);
+        return response;
+    }
+}
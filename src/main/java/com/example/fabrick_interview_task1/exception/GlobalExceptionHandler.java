@@ -6,6 +6,7 @@ import com.example.fabrick_interview_task1.model.ErrorResponse;
 import io.swagger.v3.oas.annotations.Hidden;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -33,7 +34,7 @@ public class GlobalExceptionHandler {
                 .path(request.getDescription(false).replace("uri=", ""))
                 .build();
 
-        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+        return toResponse(errorResponse, HttpStatus.BAD_REQUEST);
     }
 
     @ExceptionHandler(IllegalArgumentException.class)
@@ -50,7 +51,7 @@ public class GlobalExceptionHandler {
                 .path(request.getDescription(false).replace("uri=", ""))
                 .build();
 
-        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+        return toResponse(errorResponse, HttpStatus.BAD_REQUEST);
     }
 
 
@@ -68,7 +69,7 @@ public class GlobalExceptionHandler {
                 .message(ex.getError().getMessage())
                 .path(request.getDescription(false).replace("uri=", ""))
                 .build();
-        return new ResponseEntity<>(errorResponse, status);
+        return toResponse(errorResponse, status);
     }
 
 
@@ -86,7 +87,7 @@ public class GlobalExceptionHandler {
                 .message(ex.getError().getMessage())
                 .path(request.getDescription(false).replace("uri=", ""))
                 .build();
-        return new ResponseEntity<>(errorResponse, status);
+        return toResponse(errorResponse, status);
     }
 
     @ExceptionHandler(Exception.class)
@@ -103,6 +104,12 @@ public class GlobalExceptionHandler {
                 .path(request.getDescription(false).replace("uri=", ""))
                 .build();
 
-        return new ResponseEntity<>(errorResponse, HttpStatus.INTERNAL_SERVER_ERROR);
+        return toResponse(errorResponse, HttpStatus.INTERNAL_SERVER_ERROR);
     }
-}
\ No newline at end of file
+
+    private static ResponseEntity<ErrorResponse> toResponse(ErrorResponse errorResponse, HttpStatus status) {
+        // always JSON, also for handlers producing another media type such as the NDJSON paths stream, which could
+        // not carry an ErrorResponse
+        return ResponseEntity.status(status).contentType(MediaType.APPLICATION_JSON).body(errorResponse);
+    }
+}
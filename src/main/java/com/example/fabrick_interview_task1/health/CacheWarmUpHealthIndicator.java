@@ -0,0 +1,32 @@
+package com.example.fabrick_interview_task1.health;
+
+import com.example.fabrick_interview_task1.model.WarmUpReport;
+import com.example.fabrick_interview_task1.service.CacheWarmUpService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Out of service while the startup cache warm-up is short of its target, so the readiness probe keeps traffic away
+ * from a cold instance.
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheWarmUpHealthIndicator implements HealthIndicator {
+
+    private final CacheWarmUpService cacheWarmUpService;
+
+    @Override
+    public Health health() {
+        Health.Builder health = cacheWarmUpService.isReady() ? Health.up() : Health.outOfService();
+        WarmUpReport progress = cacheWarmUpService.getProgress();
+        if (progress != null) {
+            health.withDetail("keys", progress.getKeysRequested())
+                    .withDetail("loaded", progress.getAsteroidsLoaded())
+                    .withDetail("failed", progress.getAsteroidsFailed())
+                    .withDetail("durationMillis", progress.getDurationMillis());
+        }
+        return health.build();
+    }
+}
@@ -4,32 +4,45 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.MDC;
 import org.springframework.stereotype.Component;
-import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
 
 import java.util.UUID;
 
 @Component
-public class CorrelationIdInterceptor implements HandlerInterceptor {
+public class CorrelationIdInterceptor implements AsyncHandlerInterceptor {
 
     public static final String CORRELATION_ID_KEY = "correlationId";
     public static final String CORRELATION_ID_HEADER = "X-Correlation-ID";
+    static final String CORRELATION_ID_ATTRIBUTE = CorrelationIdInterceptor.class.getName() + ".correlationId";
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
-        String correlationId = request.getHeader(CORRELATION_ID_HEADER);
+        // an async dispatch re-enters preHandle: keep the id assigned on the initial dispatch
+        String correlationId = (String) request.getAttribute(CORRELATION_ID_ATTRIBUTE);
+
+        if (correlationId == null) {
+            correlationId = request.getHeader(CORRELATION_ID_HEADER);
+        }
 
         if (correlationId == null || correlationId.isBlank()) {
             correlationId = UUID.randomUUID().toString();
         }
 
+        request.setAttribute(CORRELATION_ID_ATTRIBUTE, correlationId);
         MDC.put(CORRELATION_ID_KEY, correlationId);
         response.setHeader(CORRELATION_ID_HEADER, correlationId);
 
         return true;
     }
 
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // the request thread goes back to the pool while the async result is produced elsewhere
+        MDC.remove(CORRELATION_ID_KEY);
+    }
+
     @Override
     public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
         MDC.remove(CORRELATION_ID_KEY);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,42 @@
+package com.example.fabrick_interview_task1.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compact view of a NASA NEO document: only the fields used to build paths, with the close approaches kept as
+ * parallel primitive arrays (epoch day and {@link PlanetDictionary} code) in document order.
+ */
+@Getter
+@RequiredArgsConstructor
+public class AsteroidApproaches {
+
+    private final String id;
+    private final String name;
+    private final int[] epochDays;
+    private final byte[] planetCodes;
+
+    public int size() {
+        return epochDays.length;
+    }
+
+    public NasaAsteroidResponse toNasaAsteroidResponse() {
+        List<CloseApproachData> closeApproachData = new ArrayList<>(epochDays.length);
+        for (int i = 0; i < epochDays.length; i++) {
+            CloseApproachData approach = new CloseApproachData();
+            approach.setCloseApproachDate(LocalDate.ofEpochDay(epochDays[i]));
+            approach.setOrbitingBody(PlanetDictionary.nameOf(planetCodes[i]));
+            closeApproachData.add(approach);
+        }
+
+        NasaAsteroidResponse response = new NasaAsteroidResponse();
+        response.setId(id);
+        response.setName(name);
+        response.setCloseApproachData(closeApproachData);
+        return response;
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.fabrick_interview_task1.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * A page of asteroid paths and the position of the next one, {@code null} on the last page.
+ */
+@Getter
+@RequiredArgsConstructor
+public class AsteroidPathPage {
+
+    private final List<AsteroidPath> paths;
+    private final PathCursor next;
+
+    public static AsteroidPathPage empty() {
+        return new AsteroidPathPage(List.of(), null);
+    }
+
+    /**
+     * Up to {@code limit} paths of the timeline from the position on. Two binary searches find the page, so its cost
+     * depends on the limit only.
+     */
+    public static AsteroidPathPage of(AsteroidTimeline timeline, PathCursor position, int limit) {
+        int first = timeline.firstPathFrom(position.getStartEpochDay());
+        // skip the paths starting on the same day returned by the previous page, never past that day; the cursor comes
+        // from the client, so the sum is taken in long to stay in range whatever its skip
+        first = (int) Math.min((long) first + position.getSkip(), timeline.firstPathFrom(position.getStartEpochDay() + 1));
+        int rangeEnd = timeline.pathsEndingBy(position.getToEpochDay());
+        int end = first + Math.max(0, Math.min(rangeEnd - first, limit));
+
+        PathCursor next = null;
+        if (end < rangeEnd) {
+            int nextDay = timeline.pathFromEpochDay(end);
+            next = position.at(nextDay, end - timeline.firstPathFrom(nextDay));
+        }
+        return new AsteroidPathPage(AsteroidPaths.range(timeline, first, end), next);
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.fabrick_interview_task1.model;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * The paths of an {@link AsteroidTimeline} within a date range, as a read-only view on the timeline arrays.
+ * <p>
+ * Nothing is copied when a request is answered: the view holds the index range of the paths, and the
+ * {@link Serializer} writes them to the response straight from the epoch days and {@link PlanetDictionary} codes.
+ * {@link AsteroidPath} objects are only built when an element is read through the {@link java.util.List} API.
+ */
+@JsonSerialize(using = AsteroidPaths.Serializer.class)
+public final class AsteroidPaths extends AbstractList<AsteroidPath> implements RandomAccess {
+
+    private final AsteroidTimeline timeline;
+    private final int first;
+    private final int end;
+
+    private AsteroidPaths(AsteroidTimeline timeline, int first, int end) {
+        this.timeline = timeline;
+        this.first = first;
+        this.end = end;
+    }
+
+    /**
+     * Paths starting on or after {@code fromEpochDay} and ending on or before {@code toEpochDay}.
+     */
+    public static AsteroidPaths within(AsteroidTimeline timeline, long fromEpochDay, long toEpochDay) {
+        int first = timeline.firstPathFrom(fromEpochDay);
+        int end = timeline.pathsEndingBy(toEpochDay);
+        return range(timeline, first, Math.max(first, end));
+    }
+
+    static AsteroidPaths range(AsteroidTimeline timeline, int first, int end) {
+        return new AsteroidPaths(timeline, first, end);
+    }
+
+    public static AsteroidPaths empty() {
+        return new AsteroidPaths(null, 0, 0);
+    }
+
+    /**
+     * Writes the paths as newline-delimited JSON, one object per line, flushing every {@code flushEvery} lines so the
+     * client gets the first ones while the others are written. Writes block while the client does not read.
+     */
+    public void writeLines(JsonGenerator generator, int flushEvery) throws IOException {
+        char[] date = new char[10];
+        // lines are separated by the newline written after each of them only
+        generator.setRootValueSeparator(null);
+        for (int path = first; path < end; path++) {
+            Serializer.writePath(generator, timeline, path, date);
+            generator.writeRaw('\n');
+            if ((path - first + 1) % flushEvery == 0) {
+                generator.flush();
+            }
+        }
+        generator.flush();
+    }
+
+    @Override
+    public AsteroidPath get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size());
+        }
+        return timeline.toPath(first + index);
+    }
+
+    @Override
+    public int size() {
+        return end - first;
+    }
+
+    /**
+     * Writes the same JSON as a list of {@link AsteroidPath}, without building one.
+     */
+    public static final class Serializer extends StdSerializer<AsteroidPaths> {
+
+        private static final SerializedString FROM_PLANET = new SerializedString("fromPlanet");
+        private static final SerializedString TO_PLANET = new SerializedString("toPlanet");
+        private static final SerializedString FROM_DATE = new SerializedString("fromDate");
+        private static final SerializedString TO_DATE = new SerializedString("toDate");
+
+        public Serializer() {
+            super(AsteroidPaths.class);
+        }
+
+        @Override
+        public void serialize(AsteroidPaths paths, JsonGenerator generator, SerializerProvider provider)
+                throws IOException {
+            AsteroidTimeline timeline = paths.timeline;
+            // one buffer per response for the yyyy-MM-dd dates
+            char[] date = new char[10];
+            generator.writeStartArray(paths, paths.size());
+            for (int path = paths.first; path < paths.end; path++) {
+                writePath(generator, timeline, path, date);
+            }
+            generator.writeEndArray();
+        }
+
+        static void writePath(JsonGenerator generator, AsteroidTimeline timeline, int path, char[] date)
+                throws IOException {
+            generator.writeStartObject();
+            generator.writeFieldName(FROM_PLANET);
+            generator.writeString(PlanetDictionary.nameOf(timeline.pathFromPlanetCode(path)));
+            generator.writeFieldName(TO_PLANET);
+            generator.writeString(PlanetDictionary.nameOf(timeline.pathToPlanetCode(path)));
+            generator.writeFieldName(FROM_DATE);
+            writeDate(generator, timeline.pathFromEpochDay(path), date);
+            generator.writeFieldName(TO_DATE);
+            writeDate(generator, timeline.pathToEpochDay(path), date);
+            generator.writeEndObject();
+        }
+
+        static void writeDate(JsonGenerator generator, int epochDay, char[] date) throws IOException {
+            // civil date of the day, as in LocalDate.ofEpochDay: 400 year eras of 146097 days starting on March 1st
+            int zeroDay = epochDay + 719468;
+            int era = Math.floorDiv(zeroDay, 146097);
+            int dayOfEra = zeroDay - era * 146097;
+            int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+            int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+            int marchMonth = (5 * dayOfYear + 2) / 153;
+            int day = dayOfYear - (153 * marchMonth + 2) / 5 + 1;
+            int month = marchMonth < 10 ? marchMonth + 3 : marchMonth - 9;
+            int year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+            if (year < 0 || year > 9999) {
+                generator.writeString(LocalDate.ofEpochDay(epochDay).toString());
+                return;
+            }
+            writeDigits(date, 0, year, 4);
+            date[4] = '-';
+            writeDigits(date, 5, month, 2);
+            date[7] = '-';
+            writeDigits(date, 8, day, 2);
+            generator.writeString(date, 0, date.length);
+        }
+
+        private static void writeDigits(char[] buffer, int offset, int value, int digits) {
+            for (int i = offset + digits - 1; i >= offset; i--) {
+                buffer[i] = (char) ('0' + value % 10);
+                value /= 10;
+            }
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.fabrick_interview_task1.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+@Schema(description = "Asteroid paths, the whole date range or one page of it")
+public class AsteroidPathsResponse extends GenericResponse<List<AsteroidPath>> {
+
+    @Schema(description = "Cursor of the next page, absent on the last page and when no limit is given",
+            example = "Af_______8EVAAAAAAAAT8IAAAAAAAAciQAAAAA")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+}
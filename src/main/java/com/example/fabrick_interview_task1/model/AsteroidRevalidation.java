@@ -0,0 +1,22 @@
+package com.example.fabrick_interview_task1.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class AsteroidRevalidation {
+
+    public enum Outcome {
+        /** NASA answered 304, nothing was downloaded. */
+        NOT_MODIFIED,
+        /** The document was downloaded but its content hash matches the cached copy, nothing was parsed. */
+        UNCHANGED,
+        /** The document changed and was parsed again. */
+        CHANGED
+    }
+
+    private final AsteroidTimeline response;
+    private final Outcome outcome;
+    private final long bytesRead;
+}
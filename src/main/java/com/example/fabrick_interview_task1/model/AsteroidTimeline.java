@@ -0,0 +1,340 @@
+package com.example.fabrick_interview_task1.model;
+
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Immutable form of a NASA NEO document kept in the {@code asteroid} cache.
+ * <p>
+ * Close approaches are sorted by date and stored as parallel primitive arrays (epoch day and {@link PlanetDictionary}
+ * code), and the approaches where the orbiting body changes are found once, when the entry is built. A cached
+ * asteroid costs a few small arrays instead of one {@link CloseApproachData}, {@link LocalDate} and {@link String}
+ * per approach, and a request only reads the paths back. Paths start and end in date order, so those within a date
+ * range are found by binary search. {@link #toNasaAsteroidResponse()} rebuilds the NASA view.
+ */
+public final class AsteroidTimeline {
+
+    private static final int[] NO_TRANSITIONS = new int[0];
+    // header, six references and a long
+    private static final long OBJECT_BYTES = 48;
+    private static final long STRING_BYTES = 24;
+    private static final long VALIDATORS_BYTES = 24;
+
+    @Getter
+    private final String id;
+    @Getter
+    private final String name;
+    private final int[] epochDays;
+    private final byte[] planetCodes;
+    // index i of every approach followed by an approach to a different body: path k goes from transitions[k] to +1
+    private final int[] transitions;
+    @Getter
+    private final ResponseValidators validators;
+    // epoch millis at which the content was loaded from NASA or last confirmed by a revalidation
+    @Getter
+    private final long loadedAt;
+
+    private AsteroidTimeline(String id, String name, int[] epochDays, byte[] planetCodes, int[] transitions,
+                             ResponseValidators validators, long loadedAt) {
+        this.id = id;
+        this.name = name;
+        this.epochDays = epochDays;
+        this.planetCodes = planetCodes;
+        this.transitions = transitions;
+        this.validators = validators;
+        this.loadedAt = loadedAt;
+    }
+
+    public static AsteroidTimeline of(AsteroidApproaches approaches, ResponseValidators validators) {
+        return of(approaches, validators, System.currentTimeMillis());
+    }
+
+    public static AsteroidTimeline of(AsteroidApproaches approaches, ResponseValidators validators, long loadedAt) {
+        int size = approaches.size();
+        int[] epochDays = new int[size];
+        byte[] planetCodes = new byte[size];
+        int[] order = sortedOrder(approaches.getEpochDays());
+        for (int i = 0; i < size; i++) {
+            epochDays[i] = approaches.getEpochDays()[order[i]];
+            planetCodes[i] = approaches.getPlanetCodes()[order[i]];
+        }
+        return new AsteroidTimeline(approaches.getId(), approaches.getName(), epochDays, planetCodes,
+                transitions(planetCodes), validators, loadedAt);
+    }
+
+    public static AsteroidTimeline of(NasaAsteroidResponse response, ResponseValidators validators) {
+        List<CloseApproachData> closeApproachData = response.getCloseApproachData() != null
+                ? response.getCloseApproachData()
+                : List.of();
+        int[] epochDays = new int[closeApproachData.size()];
+        byte[] planetCodes = new byte[closeApproachData.size()];
+        for (int i = 0; i < epochDays.length; i++) {
+            CloseApproachData approach = closeApproachData.get(i);
+            epochDays[i] = Math.toIntExact(approach.getCloseApproachDate().toEpochDay());
+            planetCodes[i] = PlanetDictionary.codeOf(approach.getOrbitingBody());
+        }
+        return of(new AsteroidApproaches(response.getId(), response.getName(), epochDays, planetCodes), validators);
+    }
+
+    /**
+     * Timeline of a refreshed NASA document, reusing this one up to the first changed approach.
+     * <p>
+     * NASA usually only appends approaches to a document: the approaches matching the start of this timeline are
+     * copied as they are, only the others are sorted, and of the transitions only those from the last kept approach
+     * on are looked for again. The result is the one {@link #of(AsteroidApproaches, ResponseValidators)} builds, at
+     * a cost proportional to the change rather than to the history length.
+     */
+    public AsteroidTimeline mergedWith(AsteroidApproaches refreshed, ResponseValidators validators) {
+        int[] refreshedDays = refreshed.getEpochDays();
+        byte[] refreshedCodes = refreshed.getPlanetCodes();
+        int size = refreshed.size();
+
+        int kept = 0;
+        int common = Math.min(size, epochDays.length);
+        while (kept < common && refreshedDays[kept] == epochDays[kept] && refreshedCodes[kept] == planetCodes[kept]) {
+            kept++;
+        }
+        if (kept == size && size == epochDays.length) {
+            return new AsteroidTimeline(refreshed.getId(), refreshed.getName(), epochDays, planetCodes, transitions,
+                    validators, System.currentTimeMillis());
+        }
+        // an added approach dated before kept ones sorts ahead of them: keep only the approaches up to its day
+        int earliestAdded = Integer.MAX_VALUE;
+        for (int i = kept; i < size; i++) {
+            earliestAdded = Math.min(earliestAdded, refreshedDays[i]);
+        }
+        kept = Math.min(kept, approachesUpTo(earliestAdded, kept));
+
+        int[] mergedDays = Arrays.copyOf(epochDays, size);
+        byte[] mergedCodes = Arrays.copyOf(planetCodes, size);
+        int[] order = sortedOrder(Arrays.copyOfRange(refreshedDays, kept, size));
+        for (int i = 0; i < order.length; i++) {
+            mergedDays[kept + i] = refreshedDays[kept + order[i]];
+            mergedCodes[kept + i] = refreshedCodes[kept + order[i]];
+        }
+        return new AsteroidTimeline(refreshed.getId(), refreshed.getName(), mergedDays, mergedCodes,
+                patchedTransitions(mergedCodes, kept), validators, System.currentTimeMillis());
+    }
+
+    /**
+     * Same timeline with new validators, used when a revalidation confirms the cached content.
+     */
+    public AsteroidTimeline withValidators(ResponseValidators validators) {
+        return new AsteroidTimeline(id, name, epochDays, planetCodes, transitions, validators,
+                System.currentTimeMillis());
+    }
+
+    /**
+     * Whether the other timeline is a copy of this one made by {@link #withValidators(ResponseValidators)}, holding
+     * the same approaches.
+     */
+    public boolean hasSameContentAs(AsteroidTimeline other) {
+        return other != null && epochDays == other.epochDays && planetCodes == other.planetCodes;
+    }
+
+    public int size() {
+        return epochDays.length;
+    }
+
+    public int epochDayAt(int index) {
+        return epochDays[index];
+    }
+
+    public byte planetCodeAt(int index) {
+        return planetCodes[index];
+    }
+
+    /**
+     * Approximate retained heap of this entry in bytes, with compressed object pointers and Latin-1 strings.
+     */
+    public long estimatedBytes() {
+        long bytes = OBJECT_BYTES + arrayBytes(4L * epochDays.length) + arrayBytes(planetCodes.length)
+                + stringBytes(id) + stringBytes(name);
+        if (transitions != NO_TRANSITIONS) {
+            bytes += arrayBytes(4L * transitions.length);
+        }
+        if (validators != null) {
+            bytes += VALIDATORS_BYTES + stringBytes(validators.getEtag()) + stringBytes(validators.getLastModified())
+                    + stringBytes(validators.getContentHash());
+        }
+        return bytes;
+    }
+
+    public int getPathCount() {
+        return transitions.length;
+    }
+
+    public int pathFromEpochDay(int path) {
+        return epochDays[transitions[path]];
+    }
+
+    public int pathToEpochDay(int path) {
+        return epochDays[transitions[path] + 1];
+    }
+
+    public byte pathFromPlanetCode(int path) {
+        return planetCodes[transitions[path]];
+    }
+
+    public byte pathToPlanetCode(int path) {
+        return planetCodes[transitions[path] + 1];
+    }
+
+    /**
+     * Index of the first path starting on or after the day, {@link #getPathCount()} when none does.
+     */
+    public int firstPathFrom(long epochDay) {
+        // paths start in date order: a lower bound on the start days
+        int low = 0;
+        int high = transitions.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (pathFromEpochDay(middle) < epochDay) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Number of leading paths ending on or before the day. Paths end in date order as well, so together with
+     * {@link #firstPathFrom(long)} this bounds the paths within a date range.
+     */
+    public int pathsEndingBy(long epochDay) {
+        int low = 0;
+        int high = transitions.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (pathToEpochDay(middle) <= epochDay) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    public AsteroidPath toPath(int path) {
+        int from = transitions[path];
+        return new AsteroidPath(
+                PlanetDictionary.nameOf(planetCodes[from]),
+                PlanetDictionary.nameOf(planetCodes[from + 1]),
+                LocalDate.ofEpochDay(epochDays[from]),
+                LocalDate.ofEpochDay(epochDays[from + 1]));
+    }
+
+    /**
+     * Rebuilds the NASA document, with the close approaches in date order.
+     */
+    public NasaAsteroidResponse toNasaAsteroidResponse() {
+        List<CloseApproachData> closeApproachData = new ArrayList<>(epochDays.length);
+        for (int i = 0; i < epochDays.length; i++) {
+            CloseApproachData approach = new CloseApproachData();
+            approach.setCloseApproachDate(LocalDate.ofEpochDay(epochDays[i]));
+            approach.setOrbitingBody(PlanetDictionary.nameOf(planetCodes[i]));
+            closeApproachData.add(approach);
+        }
+
+        NasaAsteroidResponse response = new NasaAsteroidResponse();
+        response.setId(id);
+        response.setName(name);
+        response.setCloseApproachData(closeApproachData);
+        return response;
+    }
+
+    private static long arrayBytes(long payloadBytes) {
+        // 16 byte array header, then padding to the 8 byte object alignment
+        return (16 + payloadBytes + 7) & ~7L;
+    }
+
+    private static long stringBytes(String value) {
+        return value != null ? STRING_BYTES + arrayBytes(value.length()) : 0;
+    }
+
+    private static int[] sortedOrder(int[] epochDays) {
+        int[] order = new int[epochDays.length];
+        boolean sorted = true;
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+            sorted &= i == 0 || epochDays[i - 1] <= epochDays[i];
+        }
+        if (sorted) {
+            // NASA lists approaches in date order already
+            return order;
+        }
+        // day in the high bits, document position in the low bits: a primitive sort that keeps ties in order
+        long[] keys = new long[epochDays.length];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = ((long) epochDays[i] << 32) | i;
+        }
+        Arrays.sort(keys);
+        for (int i = 0; i < keys.length; i++) {
+            order[i] = (int) keys[i];
+        }
+        return order;
+    }
+
+    private int approachesUpTo(int epochDay, int limit) {
+        int low = 0;
+        int high = limit;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (epochDays[middle] <= epochDay) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private int[] patchedTransitions(byte[] mergedCodes, int kept) {
+        // transitions between two kept approaches still hold, the ones from the last kept approach on are found again
+        int from = Math.max(0, kept - 1);
+        int found = Arrays.binarySearch(transitions, from);
+        int reused = found >= 0 ? found : -found - 1;
+        int count = reused;
+        for (int i = from; i < mergedCodes.length - 1; i++) {
+            if (mergedCodes[i] != mergedCodes[i + 1]) {
+                count++;
+            }
+        }
+        if (count == 0) {
+            return NO_TRANSITIONS;
+        }
+        int[] patched = Arrays.copyOf(transitions, count);
+        int next = reused;
+        for (int i = from; i < mergedCodes.length - 1; i++) {
+            if (mergedCodes[i] != mergedCodes[i + 1]) {
+                patched[next++] = i;
+            }
+        }
+        return patched;
+    }
+
+    private static int[] transitions(byte[] planetCodes) {
+        int count = 0;
+        for (int i = 0; i < planetCodes.length - 1; i++) {
+            if (planetCodes[i] != planetCodes[i + 1]) {
+                count++;
+            }
+        }
+        if (count == 0) {
+            return NO_TRANSITIONS;
+        }
+        int[] transitions = new int[count];
+        int next = 0;
+        for (int i = 0; i < planetCodes.length - 1; i++) {
+            if (planetCodes[i] != planetCodes[i + 1]) {
+                transitions[next++] = i;
+            }
+        }
+        return transitions;
+    }
+}
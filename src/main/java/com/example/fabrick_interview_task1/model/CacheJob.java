@@ -0,0 +1,64 @@
+package com.example.fabrick_interview_task1.model;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Snapshot of a bulk operation on the {@code asteroid} cache, run in the background by the cache admin API.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class CacheJob {
+
+    public enum Operation {
+        /** Loads the asteroids that are not cached yet. */
+        PRELOAD,
+        /** Revalidates cached asteroids with NASA and loads the others. */
+        REFRESH,
+        /** Drops the asteroids from the cache and from the negative cache. */
+        EVICT
+    }
+
+    public enum State {
+        RUNNING,
+        COMPLETED,
+        /** Stopped on request, the asteroids not reached are skipped. */
+        CANCELLED,
+        /** Stopped because the background rate budget ran out, the asteroids not reached are skipped. */
+        ABORTED
+    }
+
+    @Schema(description = "Job id", example = "1")
+    private final long id;
+    @Schema(description = "Operation", example = "PRELOAD")
+    private final Operation operation;
+    @Schema(description = "State", example = "RUNNING")
+    private final State state;
+    @Schema(description = "Asteroids requested", example = "500")
+    private final int requested;
+    @Schema(description = "Asteroids processed successfully", example = "120")
+    private final long succeeded;
+    @Schema(description = "Asteroids that failed", example = "2")
+    private final long failed;
+    @Schema(description = "Asteroids not processed because the job was stopped", example = "0")
+    private final long skipped;
+    @Schema(description = "Error by asteroid id, for the first failures")
+    private final Map<Integer, String> errors;
+    @Schema(description = "Start time", example = "2024-01-15T10:30:45")
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private final LocalDateTime startedAt;
+    @Schema(description = "Duration so far, or total once finished, in milliseconds", example = "5300")
+    private final long durationMillis;
+
+    @Schema(description = "Share of the requested asteroids processed", example = "0.244")
+    public double getProgress() {
+        return requested > 0 ? (double) (succeeded + failed + skipped) / requested : 1;
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.fabrick_interview_task1.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class CacheJobRequest {
+    @Schema(description = "Asteroid ids, alternative to the fromId/toId range", example = "[3542519, 2000433]")
+    private List<Integer> asteroidIds;
+    @Schema(description = "First asteroid id of the range, inclusive", example = "2000001")
+    private Integer fromId;
+    @Schema(description = "Last asteroid id of the range, inclusive", example = "2000500")
+    private Integer toId;
+}
@@ -0,0 +1,32 @@
+package com.example.fabrick_interview_task1.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.Map;
+
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class CacheStatistics {
+
+    private final String name;
+    private final long hits;
+    private final long misses;
+    private final long loadSuccesses;
+    private final long loadFailures;
+    private final double averageLoadMillis;
+    // successful load penalty by percentile, e.g. "p99", when percentiles are configured for cache.loads
+    private final Map<String, Double> loadPercentilesMillis;
+    // evicted entries by removal cause
+    private final Map<String, Long> evictions;
+    private final long estimatedSize;
+    // total entry weight, null for caches bounded by entry count
+    private final Long weightedSize;
+
+    public double getHitRate() {
+        long requests = hits + misses;
+        return requests > 0 ? (double) hits / requests : 0;
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.fabrick_interview_task1.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class IngestionReport {
+
+    private final int startPage;
+    private final int nextPage;
+    private final int totalPages;
+    private final long pagesLoaded;
+    private final long pagesFailed;
+    private final long asteroidsLoaded;
+    private final long bytesRead;
+    private final long durationMillis;
+
+    public double getAsteroidsPerSecond() {
+        return perSecond(asteroidsLoaded);
+    }
+
+    public double getBytesPerSecond() {
+        return perSecond(bytesRead);
+    }
+
+    private double perSecond(long count) {
+        return durationMillis > 0 ? count * 1000.0 / durationMillis : 0;
+    }
+}
@@ -16,4 +16,4 @@ public class NasaAsteroidResponse {
 
     @JsonProperty("close_approach_data")
     private List<CloseApproachData> closeApproachData;
-}
\ No newline at end of file
+}
@@ -0,0 +1,20 @@
+package com.example.fabrick_interview_task1.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of the NASA NEO browse listing, with each near earth object reduced to its {@link AsteroidApproaches}.
+ */
+@Getter
+@RequiredArgsConstructor
+public class NasaBrowsePage {
+
+    private final int number;
+    private final int totalPages;
+    private final long totalElements;
+    private final List<AsteroidApproaches> nearEarthObjects;
+    private final long payloadBytes;
+}
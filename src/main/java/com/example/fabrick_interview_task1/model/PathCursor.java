@@ -0,0 +1,80 @@
+package com.example.fabrick_interview_task1.model;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+
+/**
+ * Position of a page of asteroid paths, handed to clients as an opaque string.
+ * <p>
+ * The position is the start day of the next path and how many paths starting on that day were already returned,
+ * rather than an index: paths added by a cache refresh after it show up on the following pages, and paths before it
+ * are neither repeated nor skipped. The date range of the first page is kept too, so that the defaults of a
+ * request without dates do not move while a client pages.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+public final class PathCursor {
+
+    private static final byte VERSION = 1;
+    private static final int ENCODED_BYTES = 1 + 3 * Long.BYTES + Integer.BYTES;
+
+    private final long fromEpochDay;
+    private final long toEpochDay;
+    private final long startEpochDay;
+    private final int skip;
+
+    private PathCursor(long fromEpochDay, long toEpochDay, long startEpochDay, int skip) {
+        this.fromEpochDay = fromEpochDay;
+        this.toEpochDay = toEpochDay;
+        this.startEpochDay = startEpochDay;
+        this.skip = skip;
+    }
+
+    /**
+     * Position of the first page of the range.
+     */
+    public static PathCursor first(long fromEpochDay, long toEpochDay) {
+        return new PathCursor(fromEpochDay, toEpochDay, fromEpochDay, 0);
+    }
+
+    /**
+     * Position of the path starting on {@code startEpochDay} after {@code skip} others starting that day.
+     */
+    public PathCursor at(long startEpochDay, int skip) {
+        return new PathCursor(fromEpochDay, toEpochDay, startEpochDay, skip);
+    }
+
+    public String encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(ENCODED_BYTES)
+                .put(VERSION)
+                .putLong(fromEpochDay)
+                .putLong(toEpochDay)
+                .putLong(startEpochDay)
+                .putInt(skip);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    public static PathCursor decode(String cursor) {
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        if (bytes.length != ENCODED_BYTES || bytes[0] != VERSION) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, 1, ENCODED_BYTES - 1);
+        PathCursor decoded = new PathCursor(buffer.getLong(), buffer.getLong(), buffer.getLong(), buffer.getInt());
+        if (decoded.fromEpochDay > decoded.startEpochDay || decoded.startEpochDay > decoded.toEpochDay
+                || decoded.skip < 0) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        return decoded;
+    }
+}
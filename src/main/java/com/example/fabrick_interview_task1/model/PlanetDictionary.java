@@ -0,0 +1,67 @@
+package com.example.fabrick_interview_task1.model;
+
+import java.util.Arrays;
+
+/**
+ * Interned dictionary of NASA {@code orbiting_body} names, so approaches can be stored as one byte per planet.
+ * The bodies NASA reports today have fixed codes; any other name is registered on first sight.
+ */
+public final class PlanetDictionary {
+
+    private static final String[] KNOWN_BODIES = {"Merc", "Venus", "Earth", "Mars", "Juptr", "Satrn", "Urnus", "Neptn", "Moon"};
+
+    private static volatile String[] names = KNOWN_BODIES.clone();
+
+    private PlanetDictionary() {
+    }
+
+    public static byte codeOf(String name) {
+        String[] current = names;
+        for (int code = 0; code < current.length; code++) {
+            if (current[code].equals(name)) {
+                return (byte) code;
+            }
+        }
+        return register(name);
+    }
+
+    public static byte codeOf(char[] chars, int offset, int length) {
+        String[] current = names;
+        for (int code = 0; code < current.length; code++) {
+            if (matches(current[code], chars, offset, length)) {
+                return (byte) code;
+            }
+        }
+        return register(new String(chars, offset, length));
+    }
+
+    public static String nameOf(byte code) {
+        return names[code];
+    }
+
+    private static boolean matches(String name, char[] chars, int offset, int length) {
+        if (name.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (name.charAt(i) != chars[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static synchronized byte register(String name) {
+        int existing = Arrays.asList(names).indexOf(name);
+        if (existing >= 0) {
+            return (byte) existing;
+        }
+        if (names.length > Byte.MAX_VALUE) {
+            throw new IllegalStateException("Too many distinct orbiting bodies, cannot register: " + name);
+        }
+        String[] extended = Arrays.copyOf(names, names.length + 1);
+        extended[names.length] = name;
+        names = extended;
+        return (byte) (extended.length - 1);
+    }
+}
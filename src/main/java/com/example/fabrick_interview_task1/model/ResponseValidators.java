@@ -0,0 +1,20 @@
+package com.example.fabrick_interview_task1.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * HTTP validators of a NASA response, used to revalidate a cached copy with a conditional GET.
+ * The content hash covers servers that send neither an ETag nor a Last-Modified date; it is only known once a
+ * revalidation has read the raw payload, the first fetch keeps the headers alone.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class ResponseValidators {
+
+    private final String etag;
+    private final String lastModified;
+    private final String contentHash;
+}
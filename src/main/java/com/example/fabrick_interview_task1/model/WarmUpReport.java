@@ -0,0 +1,20 @@
+package com.example.fabrick_interview_task1.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class WarmUpReport {
+
+    private final int keysRequested;
+    private final long asteroidsLoaded;
+    private final long asteroidsFailed;
+    private final long durationMillis;
+
+    public double getCoverage() {
+        return keysRequested > 0 ? (double) asteroidsLoaded / keysRequested : 1;
+    }
+}
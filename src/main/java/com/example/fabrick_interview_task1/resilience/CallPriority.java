@@ -0,0 +1,11 @@
+package com.example.fabrick_interview_task1.resilience;
+
+/**
+ * Priority of an outbound NASA call when the rate limit budget is scarce.
+ */
+public enum CallPriority {
+    /** A user is waiting for the response. */
+    INTERACTIVE,
+    /** Scheduled work such as catalog ingestion, which can be postponed. */
+    BACKGROUND
+}
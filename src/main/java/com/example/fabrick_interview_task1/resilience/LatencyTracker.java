@@ -0,0 +1,50 @@
+package com.example.fabrick_interview_task1.resilience;
+
+import java.util.Arrays;
+
+/**
+ * Percentile of the most recent latencies, kept in a fixed ring buffer.
+ * The percentile is recomputed lazily after new samples, so reading it on every call stays cheap.
+ */
+public class LatencyTracker {
+
+    private final long[] samples;
+    private final double percentile;
+    private int next;
+    private int count;
+    private boolean dirty;
+    private long cachedPercentile;
+
+    public LatencyTracker(int windowSize, double percentile) {
+        this.samples = new long[windowSize];
+        this.percentile = percentile;
+    }
+
+    public synchronized void record(long nanos) {
+        samples[next] = nanos;
+        next = (next + 1) % samples.length;
+        count = Math.min(count + 1, samples.length);
+        dirty = true;
+    }
+
+    public synchronized int getCount() {
+        return count;
+    }
+
+    /**
+     * @return the tracked percentile in nanoseconds, or 0 before the first sample
+     */
+    public synchronized long getPercentileNanos() {
+        if (count == 0) {
+            return 0;
+        }
+        if (dirty) {
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(percentile * count) - 1;
+            cachedPercentile = sorted[Math.max(0, Math.min(index, count - 1))];
+            dirty = false;
+        }
+        return cachedPercentile;
+    }
+}
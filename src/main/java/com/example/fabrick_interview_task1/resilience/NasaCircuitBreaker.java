@@ -0,0 +1,196 @@
+package com.example.fabrick_interview_task1.resilience;
+
+import com.example.fabrick_interview_task1.config.NasaCircuitBreakerProperties;
+import com.example.fabrick_interview_task1.constant.ApplicationError;
+import com.example.fabrick_interview_task1.exception.NasaApiException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Circuit breaker around the outbound NASA calls.
+ * <p>
+ * While {@link State#CLOSED} the outcome of the last {@code window-size} calls is recorded; the circuit opens when
+ * the share of failed or slow calls crosses its threshold. While {@link State#OPEN} calls are rejected straight away
+ * with {@link ApplicationError#NASA_SERVICE_UNAVAILABLE} instead of waiting for NASA to time out. After
+ * {@code open-duration} a few trial calls are let through ({@link State#HALF_OPEN}): if they all succeed the circuit
+ * closes again, otherwise it re-opens.
+ * <p>
+ * Only server errors, I/O errors and timeouts count as failures: a 404 means NASA is answering, a 429 is left to
+ * {@link NasaRateLimiter}, and other client errors such as a revoked API key would not heal by backing off.
+ */
+@Slf4j
+public class NasaCircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final NasaCircuitBreakerProperties properties;
+    private final LongSupplier nanoClock;
+    private final boolean[] failedCalls;
+    private final boolean[] slowCalls;
+    private final Map<State, Counter> transitions = new EnumMap<>(State.class);
+    private final Counter rejectedCalls;
+
+    private State state = State.CLOSED;
+    private int next;
+    private int recorded;
+    private int failures;
+    private int slows;
+    private long openedAt;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+
+    public NasaCircuitBreaker(NasaCircuitBreakerProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, System::nanoTime);
+    }
+
+    NasaCircuitBreaker(NasaCircuitBreakerProperties properties, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.properties = properties;
+        this.nanoClock = nanoClock;
+        this.failedCalls = new boolean[properties.getWindowSize()];
+        this.slowCalls = new boolean[properties.getWindowSize()];
+
+        for (State target : State.values()) {
+            transitions.put(target, Counter.builder("nasa.circuit.breaker.transitions")
+                    .description("Circuit breaker state changes by the state entered")
+                    .tag("state", target.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+        rejectedCalls = Counter.builder("nasa.circuit.breaker.rejected")
+                .description("NASA calls rejected while the circuit was open")
+                .register(meterRegistry);
+        Gauge.builder("nasa.circuit.breaker.state", this, breaker -> breaker.getState().ordinal())
+                .description("0 closed, 1 open, 2 half open")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Lets a call through or rejects it when the circuit is open.
+     * A permission must be followed by exactly one of {@link #onSuccess}, {@link #onError} or {@link #releasePermission}.
+     *
+     * @throws NasaApiException with {@link ApplicationError#NASA_SERVICE_UNAVAILABLE} when the call is not permitted
+     */
+    public synchronized void acquirePermission() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        if (state == State.OPEN && nanoClock.getAsLong() - openedAt >= TimeUnit.MILLISECONDS.toNanos(properties.getOpenDuration())) {
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.OPEN || (state == State.HALF_OPEN && halfOpenPermits == 0)) {
+            rejectedCalls.increment();
+            throw new NasaApiException(null, HttpStatus.SERVICE_UNAVAILABLE, ApplicationError.NASA_SERVICE_UNAVAILABLE);
+        }
+        if (state == State.HALF_OPEN) {
+            halfOpenPermits--;
+        }
+    }
+
+    /**
+     * Gives back a permission whose call never reached NASA.
+     */
+    public synchronized void releasePermission() {
+        if (properties.isEnabled() && state == State.HALF_OPEN) {
+            halfOpenPermits++;
+        }
+    }
+
+    public synchronized void onSuccess(long durationNanos) {
+        if (properties.isEnabled()) {
+            record(false, isSlow(durationNanos));
+        }
+    }
+
+    public void onError(long durationNanos, NasaApiException e) {
+        if (e.getError() == ApplicationError.NASA_RATE_LIMITER_EXCEEDED) {
+            releasePermission();
+        } else if (isFailure(e)) {
+            synchronized (this) {
+                if (properties.isEnabled()) {
+                    record(true, isSlow(durationNanos));
+                }
+            }
+        } else {
+            onSuccess(durationNanos);
+        }
+    }
+
+    private static boolean isFailure(NasaApiException e) {
+        // classified by cause, as in NasaRetrier: other client errors are answered with 502 and unreadable payloads
+        // with 500, yet a rejected API key or a bad request does not mean NASA is down
+        Throwable cause = e.getCause();
+        return cause instanceof HttpServerErrorException || cause instanceof ResourceAccessException;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    private void record(boolean failed, boolean slow) {
+        if (state == State.HALF_OPEN) {
+            if (failed || slow) {
+                transitionTo(State.OPEN);
+            } else if (++halfOpenSuccesses >= properties.getHalfOpenCalls()) {
+                transitionTo(State.CLOSED);
+            }
+            return;
+        }
+        if (state == State.OPEN) {
+            // outcome of a call that started before the circuit opened
+            return;
+        }
+
+        if (recorded == failedCalls.length) {
+            failures -= failedCalls[next] ? 1 : 0;
+            slows -= slowCalls[next] ? 1 : 0;
+        } else {
+            recorded++;
+        }
+        failedCalls[next] = failed;
+        slowCalls[next] = slow;
+        failures += failed ? 1 : 0;
+        slows += slow ? 1 : 0;
+        next = (next + 1) % failedCalls.length;
+
+        if (recorded >= properties.getMinimumCalls()
+                && (failures * 100 >= properties.getFailureRateThreshold() * recorded
+                || slows * 100 >= properties.getSlowCallRateThreshold() * recorded)) {
+            log.warn("Opening NASA circuit breaker: {} failed and {} slow out of the last {} calls", failures, slows, recorded);
+            transitionTo(State.OPEN);
+        }
+    }
+
+    private void transitionTo(State target) {
+        log.warn("NASA circuit breaker {} -> {}", state, target);
+        state = target;
+        transitions.get(target).increment();
+        switch (target) {
+            case OPEN -> openedAt = nanoClock.getAsLong();
+            case HALF_OPEN -> {
+                halfOpenPermits = properties.getHalfOpenCalls();
+                halfOpenSuccesses = 0;
+            }
+            case CLOSED -> {
+                next = 0;
+                recorded = 0;
+                failures = 0;
+                slows = 0;
+            }
+        }
+    }
+
+    private boolean isSlow(long durationNanos) {
+        return durationNanos >= TimeUnit.MILLISECONDS.toNanos(properties.getSlowCallDuration());
+    }
+}
@@ -0,0 +1,207 @@
+package com.example.fabrick_interview_task1.resilience;
+
+import com.example.fabrick_interview_task1.config.NasaRateLimitProperties;
+import com.example.fabrick_interview_task1.constant.ApplicationError;
+import com.example.fabrick_interview_task1.exception.NasaApiException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket pacing the outbound NASA calls so the hourly quota lasts the whole hour.
+ * <p>
+ * Tokens refill at {@code limit / hour} up to a small burst, and the remaining quota is re-synced from the
+ * {@code X-RateLimit-Limit} / {@code X-RateLimit-Remaining} headers of every response. A caller that finds the
+ * bucket empty reserves the next token and sleeps until it is due, so waiting callers are served in arrival order.
+ * Interactive calls only wait {@code interactive-max-wait} before failing fast; background calls may wait longer
+ * but never spend the last {@code interactive-reserve} calls of the quota.
+ */
+@Slf4j
+public class NasaRateLimiter {
+
+    public static final String LIMIT_HEADER = "X-RateLimit-Limit";
+    public static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+    private static final double WINDOW_NANOS = TimeUnit.HOURS.toNanos(1);
+
+    private final NasaRateLimitProperties properties;
+    private final LongSupplier nanoClock;
+    private final Map<CallPriority, Counter> immediateCalls = new EnumMap<>(CallPriority.class);
+    private final Map<CallPriority, Counter> delayedCalls = new EnumMap<>(CallPriority.class);
+    private final Map<CallPriority, Counter> rejectedCalls = new EnumMap<>(CallPriority.class);
+
+    private int limit;
+    private double remaining;
+    private double tokens;
+    private long lastRefill;
+
+    public NasaRateLimiter(NasaRateLimitProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, System::nanoTime);
+    }
+
+    NasaRateLimiter(NasaRateLimitProperties properties, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.properties = properties;
+        this.nanoClock = nanoClock;
+        this.limit = properties.getHourlyLimit();
+        this.remaining = limit;
+        this.tokens = properties.getBurst();
+        this.lastRefill = nanoClock.getAsLong();
+
+        for (CallPriority priority : CallPriority.values()) {
+            immediateCalls.put(priority, callCounter(meterRegistry, priority, "immediate"));
+            delayedCalls.put(priority, callCounter(meterRegistry, priority, "delayed"));
+            rejectedCalls.put(priority, callCounter(meterRegistry, priority, "rejected"));
+        }
+        Gauge.builder("nasa.rate.limit.remaining", this, NasaRateLimiter::getRemaining)
+                .description("NASA calls left in the current hourly window")
+                .register(meterRegistry);
+        Gauge.builder("nasa.rate.limit.limit", this, NasaRateLimiter::getLimit)
+                .description("NASA hourly call quota")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Takes a token for one outbound call, sleeping until it is due if the bucket is empty.
+     *
+     * @throws NasaApiException with {@link ApplicationError#NASA_RATE_LIMITER_EXCEEDED} when the call would exceed
+     *                          the budget or wait longer than allowed for its priority
+     */
+    public void acquire(CallPriority priority) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        long waitNanos = reserve(priority);
+        if (waitNanos <= 0) {
+            immediateCalls.get(priority).increment();
+            return;
+        }
+
+        delayedCalls.get(priority).increment();
+        log.debug("Pacing {} NASA call for {} ms", priority, TimeUnit.NANOSECONDS.toMillis(waitNanos));
+        try {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw rateLimitExceeded();
+        }
+    }
+
+    /**
+     * Takes a token only if one is available right now, without waiting and without touching the interactive reserve.
+     * Used for optional calls such as hedges.
+     */
+    public synchronized boolean tryAcquire() {
+        if (!properties.isEnabled()) {
+            return true;
+        }
+        refill();
+        if (tokens < 1 || remaining - properties.getInteractiveReserve() < 1) {
+            return false;
+        }
+        tokens -= 1;
+        remaining -= 1;
+        return true;
+    }
+
+    /**
+     * Re-syncs the budget with the quota reported by NASA; a 429 means the quota is spent whatever the headers say.
+     */
+    public void onResponse(HttpStatusCode statusCode, HttpHeaders headers) {
+        if (statusCode.value() == HttpStatus.TOO_MANY_REQUESTS.value()) {
+            update(null, 0);
+            return;
+        }
+        Integer reportedLimit = intHeader(headers, LIMIT_HEADER);
+        Integer reportedRemaining = intHeader(headers, REMAINING_HEADER);
+        if (reportedRemaining != null) {
+            update(reportedLimit, reportedRemaining);
+        }
+    }
+
+    public synchronized double getRemaining() {
+        refill();
+        return remaining;
+    }
+
+    public synchronized int getLimit() {
+        return limit;
+    }
+
+    private synchronized long reserve(CallPriority priority) {
+        refill();
+
+        double floor = priority == CallPriority.BACKGROUND ? properties.getInteractiveReserve() : 0;
+        if (remaining - floor < 1) {
+            throw reject(priority, "quota exhausted");
+        }
+        long waitNanos = tokens >= 1 ? 0 : (long) ((1 - tokens) * WINDOW_NANOS / limit);
+        if (waitNanos > TimeUnit.MILLISECONDS.toNanos(maxWait(priority))) {
+            throw reject(priority, "next call due in " + TimeUnit.NANOSECONDS.toMillis(waitNanos) + " ms");
+        }
+
+        // the bucket may go negative: later callers queue behind this reservation
+        tokens -= 1;
+        remaining -= 1;
+        return waitNanos;
+    }
+
+    private synchronized void update(Integer reportedLimit, int reportedRemaining) {
+        refill();
+        if (reportedLimit != null && reportedLimit > 0) {
+            limit = reportedLimit;
+        }
+        remaining = Math.min(reportedRemaining, limit);
+        tokens = Math.min(tokens, remaining);
+    }
+
+    private void refill() {
+        long now = nanoClock.getAsLong();
+        double regained = (now - lastRefill) * limit / WINDOW_NANOS;
+        lastRefill = now;
+        tokens = Math.min(properties.getBurst(), tokens + regained);
+        remaining = Math.min(limit, remaining + regained);
+    }
+
+    private NasaApiException reject(CallPriority priority, String reason) {
+        rejectedCalls.get(priority).increment();
+        log.warn("Rejecting {} NASA call: {} ({} calls left this hour)", priority, reason, (int) remaining);
+        return rateLimitExceeded();
+    }
+
+    private long maxWait(CallPriority priority) {
+        return priority == CallPriority.INTERACTIVE ? properties.getInteractiveMaxWait() : properties.getBackgroundMaxWait();
+    }
+
+    private static NasaApiException rateLimitExceeded() {
+        return new NasaApiException(null, HttpStatus.TOO_MANY_REQUESTS, ApplicationError.NASA_RATE_LIMITER_EXCEEDED);
+    }
+
+    private static Integer intHeader(HttpHeaders headers, String name) {
+        String value = headers.getFirst(name);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            log.debug("Ignoring malformed {} header: {}", name, value);
+            return null;
+        }
+    }
+
+    private static Counter callCounter(MeterRegistry meterRegistry, CallPriority priority, String outcome) {
+        return Counter.builder("nasa.rate.limit.calls")
+                .description("Outbound NASA calls by how the rate limiter admitted them")
+                .tag("priority", priority.name().toLowerCase())
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.fabrick_interview_task1.resilience;
+
+import com.example.fabrick_interview_task1.config.NasaRetryProperties;
+import com.example.fabrick_interview_task1.exception.NasaApiException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Retries NASA calls that failed transiently, with exponential backoff and full jitter.
+ * <p>
+ * Retryable failures are I/O errors and timeouts, and the server errors listed in {@code retryable-statuses}.
+ * Anything else, including a rejection by the circuit breaker or the rate limiter, is thrown at once.
+ * Each retry is paid for by the {@link RetryBudget}; once it is empty the last failure is thrown.
+ */
+@Slf4j
+public class NasaRetrier {
+
+    private final NasaRetryProperties properties;
+    private final RetryBudget retryBudget;
+    private final LongConsumer sleeper;
+    private final Timer firstAttemptSuccesses;
+    private final Timer firstAttemptFailures;
+    private final Timer retrySuccesses;
+    private final Timer retryFailures;
+    private final Counter retries;
+    private final Counter budgetExhausted;
+
+    public NasaRetrier(NasaRetryProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, NasaRetrier::sleep);
+    }
+
+    NasaRetrier(NasaRetryProperties properties, MeterRegistry meterRegistry, LongConsumer sleeper) {
+        this.properties = properties;
+        this.retryBudget = new RetryBudget(properties.getBudgetRatio(), properties.getBudgetMaxTokens());
+        this.sleeper = sleeper;
+        this.firstAttemptSuccesses = attemptTimer(meterRegistry, "first", "success");
+        this.firstAttemptFailures = attemptTimer(meterRegistry, "first", "failure");
+        this.retrySuccesses = attemptTimer(meterRegistry, "retry", "success");
+        this.retryFailures = attemptTimer(meterRegistry, "retry", "failure");
+        this.retries = Counter.builder("nasa.retry.retries")
+                .description("NASA calls repeated after a transient failure")
+                .register(meterRegistry);
+        this.budgetExhausted = Counter.builder("nasa.retry.budget.exhausted")
+                .description("Retryable failures given up on because the retry budget was empty")
+                .register(meterRegistry);
+        Gauge.builder("nasa.retry.budget.tokens", retryBudget, RetryBudget::getTokens)
+                .description("Retries currently affordable")
+                .register(meterRegistry);
+    }
+
+    public <T> T execute(String target, Supplier<T> attempt) {
+        if (!properties.isEnabled()) {
+            return attempt.get();
+        }
+        retryBudget.deposit();
+
+        for (int attemptNumber = 1; ; attemptNumber++) {
+            long startTime = System.nanoTime();
+            try {
+                T result = attempt.get();
+                (attemptNumber == 1 ? firstAttemptSuccesses : retrySuccesses).record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+                return result;
+            } catch (NasaApiException e) {
+                (attemptNumber == 1 ? firstAttemptFailures : retryFailures).record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+                if (!isRetryable(e) || attemptNumber >= properties.getMaxAttempts()) {
+                    throw e;
+                }
+                if (!retryBudget.tryWithdraw()) {
+                    budgetExhausted.increment();
+                    log.warn("Retry budget exhausted, not retrying NASA call for {}", target);
+                    throw e;
+                }
+
+                long backoff = backoffMillis(attemptNumber);
+                log.warn("Retrying NASA call for {} in {} ms (attempt {} of {})", target, backoff, attemptNumber + 1,
+                        properties.getMaxAttempts());
+                retries.increment();
+                sleeper.accept(backoff);
+                if (Thread.currentThread().isInterrupted()) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    boolean isRetryable(NasaApiException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof HttpServerErrorException serverError) {
+            return properties.getRetryableStatuses().contains(serverError.getStatusCode().value());
+        }
+        // I/O errors and read timeouts
+        return cause instanceof ResourceAccessException;
+    }
+
+    private long backoffMillis(int attemptNumber) {
+        double ceiling = Math.min(properties.getMaxBackoff(),
+                properties.getInitialBackoff() * Math.pow(properties.getMultiplier(), attemptNumber - 1));
+        // full jitter spreads the retries of callers that failed together
+        return ThreadLocalRandom.current().nextLong((long) ceiling + 1);
+    }
+
+    private static Timer attemptTimer(MeterRegistry meterRegistry, String attempt, String outcome) {
+        return Timer.builder("nasa.call.attempts")
+                .description("Latency of each NASA call attempt")
+                .tag("attempt", attempt)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.fabrick_interview_task1.resilience;
+
+import com.example.fabrick_interview_task1.config.NasaHedgingProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Sends a duplicate of a slow call and takes whichever attempt answers first.
+ * <p>
+ * The hedge fires when the first attempt has not answered within the p95 of recent attempts, so only the slowest
+ * few percent of calls are duplicated. The losing attempt is left to finish on its own thread.
+ * A hedge is only sent when {@code hedgeBudget} grants it, which keeps duplicates out of the rate limit reserve.
+ */
+@Slf4j
+public class RequestHedger {
+
+    private final NasaHedgingProperties properties;
+    private final BooleanSupplier hedgeBudget;
+    private final Executor executor;
+    private final LatencyTracker latencyTracker;
+    private final Counter notNeeded;
+    private final Counter primaryWon;
+    private final Counter hedgeWon;
+    private final Counter skipped;
+
+    public RequestHedger(NasaHedgingProperties properties, BooleanSupplier hedgeBudget, Executor executor,
+                         MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.hedgeBudget = hedgeBudget;
+        this.executor = executor;
+        this.latencyTracker = new LatencyTracker(properties.getLatencyWindow(), 0.95);
+        this.notNeeded = hedgeCounter(meterRegistry, "not_needed");
+        this.primaryWon = hedgeCounter(meterRegistry, "primary_won");
+        this.hedgeWon = hedgeCounter(meterRegistry, "hedge_won");
+        this.skipped = hedgeCounter(meterRegistry, "skipped");
+        Gauge.builder("nasa.hedging.delay", this, hedger -> hedger.getHedgeDelayNanos() / 1_000_000.0)
+                .description("Delay after which a slow NASA call is hedged")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    public <T> T execute(Supplier<T> attempt) {
+        long hedgeDelay = getHedgeDelayNanos();
+        if (!properties.isEnabled() || hedgeDelay == 0) {
+            return timed(attempt);
+        }
+
+        CompletableFuture<T> primary = CompletableFuture.supplyAsync(() -> timed(attempt), executor);
+        try {
+            T result = primary.get(hedgeDelay, TimeUnit.NANOSECONDS);
+            notNeeded.increment();
+            return result;
+        } catch (TimeoutException e) {
+            // primary is slower than p95, hedge below
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        }
+
+        if (!hedgeBudget.getAsBoolean()) {
+            skipped.increment();
+            return join(primary);
+        }
+        log.debug("NASA call slower than {} ms, sending a hedged request", TimeUnit.NANOSECONDS.toMillis(hedgeDelay));
+        CompletableFuture<T> hedge = CompletableFuture.supplyAsync(() -> timed(attempt), executor);
+        return join(firstSuccessful(primary, hedge));
+    }
+
+    long getHedgeDelayNanos() {
+        if (latencyTracker.getCount() < properties.getMinimumSamples()) {
+            return 0;
+        }
+        return Math.max(latencyTracker.getPercentileNanos(), TimeUnit.MILLISECONDS.toNanos(properties.getMinimumDelay()));
+    }
+
+    private <T> CompletableFuture<T> firstSuccessful(CompletableFuture<T> primary, CompletableFuture<T> hedge) {
+        CompletableFuture<T> winner = new CompletableFuture<>();
+        AtomicBoolean decided = new AtomicBoolean();
+        AtomicInteger failures = new AtomicInteger();
+        primary.whenComplete((result, error) -> complete(winner, result, error, decided, failures, primaryWon));
+        hedge.whenComplete((result, error) -> complete(winner, result, error, decided, failures, hedgeWon));
+        return winner;
+    }
+
+    private <T> void complete(CompletableFuture<T> winner, T result, Throwable error, AtomicBoolean decided,
+                              AtomicInteger failures, Counter wins) {
+        if (error == null) {
+            if (decided.compareAndSet(false, true)) {
+                wins.increment();
+                winner.complete(result);
+            }
+        } else if (failures.incrementAndGet() == 2) {
+            winner.completeExceptionally(error);
+        }
+    }
+
+    private <T> T timed(Supplier<T> attempt) {
+        long start = System.nanoTime();
+        try {
+            return attempt.get();
+        } finally {
+            latencyTracker.record(System.nanoTime() - start);
+        }
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw unwrap(e.getCause());
+        }
+    }
+
+    private static RuntimeException unwrap(Throwable error) {
+        if (error instanceof CompletionException && error.getCause() != null) {
+            error = error.getCause();
+        }
+        return error instanceof RuntimeException runtimeException ? runtimeException : new CompletionException(error);
+    }
+
+    private static Counter hedgeCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("nasa.hedging.calls")
+                .description("Hedging-eligible NASA calls by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.fabrick_interview_task1.resilience;
+
+/**
+ * Token bucket capping retries as a fraction of the traffic: every call deposits {@code ratio} tokens and every
+ * retry withdraws a whole one. During an outage the bucket drains quickly, so retries stop multiplying the load
+ * on a service that is already failing.
+ */
+public class RetryBudget {
+
+    private final double ratio;
+    private final double maxTokens;
+    private double tokens;
+
+    public RetryBudget(double ratio, int maxTokens) {
+        this.ratio = ratio;
+        this.maxTokens = maxTokens;
+        this.tokens = maxTokens;
+    }
+
+    public synchronized void deposit() {
+        tokens = Math.min(maxTokens, tokens + ratio);
+    }
+
+    public synchronized boolean tryWithdraw() {
+        if (tokens < 1) {
+            return false;
+        }
+        tokens -= 1;
+        return true;
+    }
+
+    public synchronized double getTokens() {
+        return tokens;
+    }
+}
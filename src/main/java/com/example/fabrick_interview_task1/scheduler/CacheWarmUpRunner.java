@@ -0,0 +1,42 @@
+package com.example.fabrick_interview_task1.scheduler;
+
+import com.example.fabrick_interview_task1.service.CacheWarmUpService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.MDC;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.concurrent.Executor;
+
+import static com.example.fabrick_interview_task1.interceptor.CorrelationIdInterceptor.CORRELATION_ID_KEY;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "application.warm-up", name = "enabled", havingValue = "true")
+public class CacheWarmUpRunner {
+
+    private final CacheWarmUpService cacheWarmUpService;
+    private final Executor nasaApiExecutor;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpCache() {
+        // off the startup thread: the instance is up, readiness reports whether it is warm
+        nasaApiExecutor.execute(() -> {
+            MDC.put(CORRELATION_ID_KEY, "warmup-" + UUID.randomUUID());
+            try {
+                cacheWarmUpService.warmUp();
+            } finally {
+                MDC.remove(CORRELATION_ID_KEY);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void recordHotKeys() {
+        cacheWarmUpService.recordHotKeys();
+    }
+}
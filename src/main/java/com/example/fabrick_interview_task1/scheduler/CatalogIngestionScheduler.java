@@ -0,0 +1,31 @@
+package com.example.fabrick_interview_task1.scheduler;
+
+import com.example.fabrick_interview_task1.service.CatalogIngestionService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.MDC;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+import static com.example.fabrick_interview_task1.interceptor.CorrelationIdInterceptor.CORRELATION_ID_KEY;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "application.ingestion", name = "enabled", havingValue = "true")
+public class CatalogIngestionScheduler {
+
+    private final CatalogIngestionService catalogIngestionService;
+
+    @Scheduled(initialDelayString = "${application.ingestion.initial-delay:60000}",
+            fixedDelayString = "${application.ingestion.interval:21600000}")
+    public void ingestCatalog() {
+        MDC.put(CORRELATION_ID_KEY, "ingestion-" + UUID.randomUUID());
+        try {
+            catalogIngestionService.ingest();
+        } finally {
+            MDC.remove(CORRELATION_ID_KEY);
+        }
+    }
+}
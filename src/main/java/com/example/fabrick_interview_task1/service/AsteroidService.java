@@ -1,12 +1,24 @@
 package com.example.fabrick_interview_task1.service;
 
 import com.example.fabrick_interview_task1.model.AsteroidPath;
+import com.example.fabrick_interview_task1.model.AsteroidPathPage;
+import com.example.fabrick_interview_task1.model.AsteroidPaths;
+import com.example.fabrick_interview_task1.model.PathCursor;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public interface AsteroidService {
 
-    List<AsteroidPath> getAsteroidPaths(int asteroidId, LocalDate fromDate, LocalDate toDate);
+    CompletableFuture<List<AsteroidPath>> getAsteroidPathsAsync(int asteroidId, LocalDate fromDate, LocalDate toDate);
+
+    /**
+     * Same paths as {@link #getAsteroidPathsAsync(int, LocalDate, LocalDate)}, as a view that can be written out
+     * without building them.
+     */
+    CompletableFuture<AsteroidPaths> getAsteroidPathViewAsync(int asteroidId, LocalDate fromDate, LocalDate toDate);
+
+    CompletableFuture<AsteroidPathPage> getAsteroidPathPageAsync(int asteroidId, PathCursor position, int limit);
 
 }
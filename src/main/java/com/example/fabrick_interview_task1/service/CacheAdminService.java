@@ -0,0 +1,26 @@
+package com.example.fabrick_interview_task1.service;
+
+import com.example.fabrick_interview_task1.model.CacheJob;
+import com.example.fabrick_interview_task1.model.CacheJobRequest;
+
+import java.util.List;
+
+public interface CacheAdminService {
+
+    /**
+     * Starts a background job applying the operation to the requested asteroids, either a list of ids or a range.
+     */
+    CacheJob submit(CacheJob.Operation operation, CacheJobRequest request);
+
+    CacheJob getJob(long jobId);
+
+    /**
+     * Running jobs and the most recent finished ones, newest first.
+     */
+    List<CacheJob> getJobs();
+
+    /**
+     * Stops the job after the asteroids in progress; the others are skipped.
+     */
+    CacheJob cancel(long jobId);
+}
@@ -0,0 +1,29 @@
+package com.example.fabrick_interview_task1.service;
+
+import com.example.fabrick_interview_task1.model.WarmUpReport;
+
+public interface CacheWarmUpService {
+
+    /**
+     * Loads the configured and the recorded hot asteroids into the asteroid cache, until every key is loaded or the
+     * deadline passes. Returns {@code null} when a warm-up is already in progress.
+     */
+    WarmUpReport warmUp();
+
+    /**
+     * Whether the cache is warm enough to take traffic: the ready fraction of the keys is loaded, the deadline has
+     * passed or the warm-up is over. Always {@code true} when warm-up is disabled.
+     */
+    boolean isReady();
+
+    /**
+     * Progress of the running warm-up, or the report of the last one; {@code null} before the first starts.
+     */
+    WarmUpReport getProgress();
+
+    /**
+     * Records the hottest asteroid cache keys for the next warm-up, returns how many were recorded.
+     */
+    int recordHotKeys();
+
+}
@@ -0,0 +1,13 @@
+package com.example.fabrick_interview_task1.service;
+
+import com.example.fabrick_interview_task1.model.IngestionReport;
+
+public interface CatalogIngestionService {
+
+    /**
+     * Loads the next slice of the NASA NEO browse listing into the asteroid cache, resuming where the previous
+     * run stopped. Returns {@code null} when a run is already in progress.
+     */
+    IngestionReport ingest();
+
+}
@@ -2,19 +2,18 @@ package com.example.fabrick_interview_task1.service.impl;
 
 import com.example.fabrick_interview_task1.client.NasaApiClient;
 import com.example.fabrick_interview_task1.model.AsteroidPath;
-import com.example.fabrick_interview_task1.model.CloseApproachData;
-import com.example.fabrick_interview_task1.model.NasaAsteroidResponse;
-import com.example.fabrick_interview_task1.service.AsteroidPathMapper;
+import com.example.fabrick_interview_task1.model.AsteroidPathPage;
+import com.example.fabrick_interview_task1.model.AsteroidPaths;
+import com.example.fabrick_interview_task1.model.AsteroidTimeline;
+import com.example.fabrick_interview_task1.model.PathCursor;
 import com.example.fabrick_interview_task1.service.AsteroidService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Service
@@ -22,58 +21,62 @@ import java.util.stream.Collectors;
 public class AsteroidServiceImpl implements AsteroidService {
 
     private final NasaApiClient nasaApiClient;
-    private final AsteroidPathMapper asteroidPathMapper;
 
     @Override
-    public List<AsteroidPath> getAsteroidPaths(int asteroidId, LocalDate fromDate, LocalDate toDate) {
-        log.info("Processing request for asteroidId: {} with date range {} to {}", asteroidId, fromDate, toDate);
+    public CompletableFuture<List<AsteroidPath>> getAsteroidPathsAsync(int asteroidId, LocalDate fromDate, LocalDate toDate) {
+        log.info("Processing async request for asteroidId: {} with date range {} to {}", asteroidId, fromDate, toDate);
 
-        NasaAsteroidResponse response = nasaApiClient.getAsteroidData(asteroidId);
+        return nasaApiClient.getAsteroidDataAsync(asteroidId)
+                .<List<AsteroidPath>>thenApply(timeline -> toPaths(asteroidId, timeline, fromDate, toDate));
+    }
+
+    @Override
+    public CompletableFuture<AsteroidPathPage> getAsteroidPathPageAsync(int asteroidId, PathCursor position, int limit) {
+        log.info("Processing async page request for asteroidId: {} at {} with limit {}", asteroidId, position, limit);
+
+        return nasaApiClient.getAsteroidDataAsync(asteroidId)
+                .thenApply(timeline -> toPage(asteroidId, timeline, position, limit));
+    }
 
-        if (response == null || response.getCloseApproachData() == null || response.getCloseApproachData().isEmpty()) {
+    private AsteroidPathPage toPage(int asteroidId, AsteroidTimeline timeline, PathCursor position, int limit) {
+        if (timeline == null || timeline.size() == 0) {
             log.warn("No close approach data found for asteroidId: {}", asteroidId);
-            return new ArrayList<>();
+            return AsteroidPathPage.empty();
         }
 
-        log.info("Retrieved {} close approach records", response.getCloseApproachData().size());
+        // keyed on the start day of the next path, so a refresh of the cached timeline between two pages neither
+        // repeats nor skips paths
+        AsteroidPathPage page = AsteroidPathPage.of(timeline, position, limit);
 
-        List<CloseApproachData> sortedApproaches = response.getCloseApproachData().stream()
-                .sorted(Comparator.comparing(CloseApproachData::getCloseApproachDate))
-                .collect(Collectors.toList());
+        log.info("Found {} paths, page of {} from {}, last page: {}",
+                timeline.getPathCount(), page.getPaths().size(), position, page.getNext() == null);
 
-        List<AsteroidPath> paths = buildPaths(sortedApproaches);
-
-        List<AsteroidPath> filteredPaths = paths.stream()
-                .filter(path -> isInDateRange(path, fromDate, toDate))
-                .collect(Collectors.toList());
+        return page;
+    }
 
-        log.info("Found {} paths, filtered to {} within date range {} to {}",
-                paths.size(), filteredPaths.size(), fromDate, toDate);
+    @Override
+    public CompletableFuture<AsteroidPaths> getAsteroidPathViewAsync(int asteroidId, LocalDate fromDate, LocalDate toDate) {
+        log.info("Processing async view request for asteroidId: {} with date range {} to {}", asteroidId, fromDate, toDate);
 
-        return filteredPaths;
+        return nasaApiClient.getAsteroidDataAsync(asteroidId)
+                .thenApply(timeline -> toPaths(asteroidId, timeline, fromDate, toDate));
     }
 
-    private List<AsteroidPath> buildPaths(List<CloseApproachData> sortedApproaches) {
-        List<AsteroidPath> paths = new ArrayList<>();
-
-        for (int i = 0; i < sortedApproaches.size() - 1; i++) {
-            CloseApproachData current = sortedApproaches.get(i);
-            CloseApproachData next = sortedApproaches.get(i + 1);
+    private AsteroidPaths toPaths(int asteroidId, AsteroidTimeline timeline, LocalDate fromDate, LocalDate toDate) {
+        if (timeline == null || timeline.size() == 0) {
+            log.warn("No close approach data found for asteroidId: {}", asteroidId);
+            return AsteroidPaths.empty();
+        }
 
-            if (!current.getOrbitingBody().equals(next.getOrbitingBody())) {
-                AsteroidPath path = asteroidPathMapper.toPath(current, next);
-                paths.add(path);
+        log.info("Retrieved {} close approach records", timeline.size());
 
-                log.debug("Created path: {} -> {} ({} to {})",
-                        path.getFromPlanet(), path.getToPlanet(),
-                        path.getFromDate(), path.getToDate());
-            }
-        }
+        // the paths are built when the timeline is cached, sorted by start and end day: the ones in range are a
+        // contiguous run found by binary search, returned as a view that is serialized straight from the timeline
+        AsteroidPaths filteredPaths = AsteroidPaths.within(timeline, fromDate.toEpochDay(), toDate.toEpochDay());
 
-        return paths;
-    }
+        log.info("Found {} paths, filtered to {} within date range {} to {}",
+                timeline.getPathCount(), filteredPaths.size(), fromDate, toDate);
 
-    private boolean isInDateRange(AsteroidPath path, LocalDate fromDate, LocalDate toDate) {
-        return !path.getFromDate().isBefore(fromDate) && !path.getToDate().isAfter(toDate);
+        return filteredPaths;
     }
 }
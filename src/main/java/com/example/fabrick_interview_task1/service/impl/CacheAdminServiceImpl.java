@@ -0,0 +1,311 @@
+package com.example.fabrick_interview_task1.service.impl;
+
+import com.example.fabrick_interview_task1.client.NasaApiClient;
+import com.example.fabrick_interview_task1.config.CacheAdminProperties;
+import com.example.fabrick_interview_task1.config.cache.CacheConfig;
+import com.example.fabrick_interview_task1.config.cache.TieredCache;
+import com.example.fabrick_interview_task1.constant.ApplicationError;
+import com.example.fabrick_interview_task1.exception.ApplicationException;
+import com.example.fabrick_interview_task1.exception.NasaApiException;
+import com.example.fabrick_interview_task1.model.AsteroidRevalidation;
+import com.example.fabrick_interview_task1.model.AsteroidTimeline;
+import com.example.fabrick_interview_task1.model.CacheJob;
+import com.example.fabrick_interview_task1.model.CacheJobRequest;
+import com.example.fabrick_interview_task1.service.CacheAdminService;
+import com.example.fabrick_interview_task1.support.NegativeCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static com.example.fabrick_interview_task1.interceptor.CorrelationIdInterceptor.CORRELATION_ID_KEY;
+
+@Slf4j
+@Service
+public class CacheAdminServiceImpl implements CacheAdminService {
+
+    private final NasaApiClient nasaApiClient;
+    private final CacheManager cacheManager;
+    private final NegativeCache<Integer> asteroidNotFound;
+    private final CacheAdminProperties cacheAdminProperties;
+    private final Executor nasaApiExecutor;
+    private final MeterRegistry meterRegistry;
+    private final AtomicLong jobIds = new AtomicLong();
+    // ordered by id, so the oldest finished jobs are the first to go
+    private final Map<Long, JobRun> jobs = new ConcurrentSkipListMap<>();
+    private final Map<String, Counter> asteroidCounters = new ConcurrentHashMap<>();
+
+    public CacheAdminServiceImpl(NasaApiClient nasaApiClient, CacheManager cacheManager,
+                                 NegativeCache<Integer> asteroidNotFound, CacheAdminProperties cacheAdminProperties,
+                                 Executor nasaApiExecutor, MeterRegistry meterRegistry) {
+        this.nasaApiClient = nasaApiClient;
+        this.cacheManager = cacheManager;
+        this.asteroidNotFound = asteroidNotFound;
+        this.cacheAdminProperties = cacheAdminProperties;
+        this.nasaApiExecutor = nasaApiExecutor;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public CacheJob submit(CacheJob.Operation operation, CacheJobRequest request) {
+        List<Integer> asteroidIds = resolveIds(request);
+        JobRun job;
+        synchronized (jobs) {
+            long running = jobs.values().stream().filter(run -> run.state == CacheJob.State.RUNNING).count();
+            if (running >= cacheAdminProperties.getMaxRunningJobs()) {
+                throw new ApplicationException(HttpStatus.TOO_MANY_REQUESTS, ApplicationError.CACHE_JOBS_LIMIT_EXCEEDED);
+            }
+            job = new JobRun(jobIds.incrementAndGet(), operation, asteroidIds);
+            jobs.put(job.id, job);
+            pruneFinishedJobs();
+        }
+        log.info("Starting cache job {}: {} of {} asteroids", job.id, operation, asteroidIds.size());
+
+        // the request returns at once, the job reports its progress through getJob
+        nasaApiExecutor.execute(() -> {
+            MDC.put(CORRELATION_ID_KEY, "cache-job-" + job.id);
+            try {
+                run(job);
+            } finally {
+                MDC.remove(CORRELATION_ID_KEY);
+            }
+        });
+        return job.toCacheJob();
+    }
+
+    @Override
+    public CacheJob getJob(long jobId) {
+        return findJob(jobId).toCacheJob();
+    }
+
+    @Override
+    public List<CacheJob> getJobs() {
+        return jobs.values().stream()
+                .sorted(Comparator.comparingLong((JobRun run) -> run.id).reversed())
+                .map(JobRun::toCacheJob)
+                .toList();
+    }
+
+    @Override
+    public CacheJob cancel(long jobId) {
+        JobRun job = findJob(jobId);
+        if (job.stopReason == null) {
+            job.stopReason = CacheJob.State.CANCELLED;
+            log.info("Cancelling cache job {}", jobId);
+        }
+        return job.toCacheJob();
+    }
+
+    private List<Integer> resolveIds(CacheJobRequest request) {
+        boolean hasIds = request.getAsteroidIds() != null && !request.getAsteroidIds().isEmpty();
+        boolean hasRange = request.getFromId() != null || request.getToId() != null;
+        if (hasIds == hasRange) {
+            throw new IllegalArgumentException("Either asteroidIds or fromId and toId must be provided");
+        }
+        if (hasIds) {
+            // each asteroid once, in the requested order
+            List<Integer> asteroidIds = List.copyOf(new LinkedHashSet<>(request.getAsteroidIds()));
+            checkJobSize(asteroidIds.size());
+            return asteroidIds;
+        }
+        if (request.getFromId() == null || request.getToId() == null) {
+            throw new IllegalArgumentException("Both fromId and toId must be provided");
+        }
+        if (request.getFromId() > request.getToId()) {
+            throw new IllegalArgumentException("fromId cannot be greater than toId");
+        }
+        checkJobSize((long) request.getToId() - request.getFromId() + 1);
+        return IntStream.rangeClosed(request.getFromId(), request.getToId()).boxed().toList();
+    }
+
+    private void checkJobSize(long asteroids) {
+        if (asteroids > cacheAdminProperties.getMaxAsteroidsPerJob()) {
+            throw new IllegalArgumentException("A cache job accepts at most "
+                    + cacheAdminProperties.getMaxAsteroidsPerJob() + " asteroids, " + asteroids + " requested");
+        }
+    }
+
+    private void run(JobRun job) {
+        Semaphore permits = new Semaphore(cacheAdminProperties.getConcurrency());
+        List<CompletableFuture<Void>> tasks = new ArrayList<>();
+        int next = 0;
+        try {
+            for (; next < job.asteroidIds.size() && job.stopReason == null; next++) {
+                permits.acquire();
+                int asteroidId = job.asteroidIds.get(next);
+                tasks.add(CompletableFuture.runAsync(() -> process(job, asteroidId), nasaApiExecutor)
+                        .whenComplete((result, error) -> permits.release()));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.stopReason = CacheJob.State.CANCELLED;
+        }
+        job.skipped.addAndGet(job.asteroidIds.size() - next);
+        CompletableFuture.allOf(tasks.toArray(CompletableFuture[]::new)).join();
+        job.finish();
+
+        CacheJob result = job.toCacheJob();
+        log.info("Cache job {} {}: {} of {} asteroids succeeded, {} failed, {} skipped, in {} ms", job.id,
+                result.getState(), result.getSucceeded(), result.getRequested(), result.getFailed(),
+                result.getSkipped(), result.getDurationMillis());
+    }
+
+    private void process(JobRun job, int asteroidId) {
+        if (job.stopReason != null) {
+            // stopped while this asteroid was waiting for a permit
+            job.skipped.incrementAndGet();
+            return;
+        }
+        try {
+            switch (job.operation) {
+                case PRELOAD -> nasaApiClient.preloadAsteroidData(asteroidId);
+                case REFRESH -> refresh(asteroidId);
+                case EVICT -> evict(asteroidId);
+            }
+            job.succeeded.incrementAndGet();
+            countAsteroid(job.operation, "succeeded");
+        } catch (NasaApiException e) {
+            if (e.getError() == ApplicationError.NASA_RATE_LIMITER_EXCEEDED && job.stopReason == null) {
+                // the rest of the budget belongs to user requests
+                job.stopReason = CacheJob.State.ABORTED;
+                log.warn("Cache job {} stopped, the background rate budget is exhausted", job.id);
+            }
+            job.recordFailure(asteroidId, e.getError().getMessage(), cacheAdminProperties.getMaxReportedErrors());
+            countAsteroid(job.operation, "failed");
+        } catch (RuntimeException e) {
+            log.warn("Cache job {} failed on asteroidId {}", job.id, asteroidId, e);
+            job.recordFailure(asteroidId, e.getMessage(), cacheAdminProperties.getMaxReportedErrors());
+            countAsteroid(job.operation, "failed");
+        }
+    }
+
+    private void refresh(int asteroidId) {
+        // a correction may have brought back an asteroid NASA reported missing
+        asteroidNotFound.forget(asteroidId);
+        Cache cache = asteroidCache();
+        // a plain read of a stale entry would start a background revalidation, a second NASA call for this refresh
+        AsteroidTimeline cached = (AsteroidTimeline) TieredCache.peek(cache, asteroidId);
+        if (cached == null) {
+            nasaApiClient.preloadAsteroidData(asteroidId);
+            return;
+        }
+        AsteroidRevalidation revalidation;
+        try {
+            revalidation = nasaApiClient.revalidateAsteroidData(asteroidId, cached);
+        } catch (NasaApiException e) {
+            if (e.getError() == ApplicationError.NASA_ASTEROID_NOT_FOUND) {
+                // gone from NASA, the cached copy must not outlive it
+                cache.evict(asteroidId);
+            }
+            throw e;
+        }
+        if (revalidation.getOutcome() == AsteroidRevalidation.Outcome.CHANGED) {
+            // evicting first drops the outdated copy held by the other instances sharing the cache
+            cache.evict(asteroidId);
+        }
+        if (revalidation.getResponse() != cached) {
+            cache.put(asteroidId, revalidation.getResponse());
+        }
+    }
+
+    private void evict(int asteroidId) {
+        asteroidCache().evict(asteroidId);
+        asteroidNotFound.forget(asteroidId);
+    }
+
+    private Cache asteroidCache() {
+        Cache cache = cacheManager.getCache(CacheConfig.ASTEROID_CACHE);
+        if (cache == null) {
+            throw new IllegalStateException("Cache " + CacheConfig.ASTEROID_CACHE + " is not configured");
+        }
+        return cache;
+    }
+
+    private JobRun findJob(long jobId) {
+        JobRun job = jobs.get(jobId);
+        if (job == null) {
+            throw new ApplicationException(HttpStatus.NOT_FOUND, ApplicationError.CACHE_JOB_NOT_FOUND);
+        }
+        return job;
+    }
+
+    private void pruneFinishedJobs() {
+        long finished = jobs.values().stream().filter(run -> run.state != CacheJob.State.RUNNING).count();
+        for (JobRun run : jobs.values()) {
+            if (finished <= cacheAdminProperties.getRetainedJobs()) {
+                return;
+            }
+            if (run.state != CacheJob.State.RUNNING) {
+                jobs.remove(run.id);
+                finished--;
+            }
+        }
+    }
+
+    private void countAsteroid(CacheJob.Operation operation, String outcome) {
+        asteroidCounters.computeIfAbsent(operation + ":" + outcome, key -> Counter.builder("cache.admin.asteroids")
+                        .description("Asteroids processed by the cache admin jobs")
+                        .tag("operation", operation.name().toLowerCase())
+                        .tag("outcome", outcome)
+                        .register(meterRegistry))
+                .increment();
+    }
+
+    private static final class JobRun {
+        private final long id;
+        private final CacheJob.Operation operation;
+        private final List<Integer> asteroidIds;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final long startTime = System.currentTimeMillis();
+        private final AtomicLong succeeded = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private final AtomicLong skipped = new AtomicLong();
+        private final Map<Integer, String> errors = new ConcurrentSkipListMap<>();
+        private volatile CacheJob.State stopReason;
+        private volatile CacheJob.State state = CacheJob.State.RUNNING;
+        private volatile long endTime;
+
+        private JobRun(long id, CacheJob.Operation operation, List<Integer> asteroidIds) {
+            this.id = id;
+            this.operation = operation;
+            this.asteroidIds = asteroidIds;
+        }
+
+        private void recordFailure(int asteroidId, String error, int maxReportedErrors) {
+            failed.incrementAndGet();
+            if (errors.size() < maxReportedErrors) {
+                errors.put(asteroidId, error);
+            }
+        }
+
+        private void finish() {
+            endTime = System.currentTimeMillis();
+            state = stopReason != null ? stopReason : CacheJob.State.COMPLETED;
+        }
+
+        private CacheJob toCacheJob() {
+            long end = state != CacheJob.State.RUNNING ? endTime : System.currentTimeMillis();
+            return new CacheJob(id, operation, state, asteroidIds.size(), succeeded.get(), failed.get(), skipped.get(),
+                    new TreeMap<>(errors), startedAt, end - startTime);
+        }
+    }
+}
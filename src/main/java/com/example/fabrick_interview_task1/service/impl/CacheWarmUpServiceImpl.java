@@ -0,0 +1,231 @@
+package com.example.fabrick_interview_task1.service.impl;
+
+import com.example.fabrick_interview_task1.client.NasaApiClient;
+import com.example.fabrick_interview_task1.config.WarmUpProperties;
+import com.example.fabrick_interview_task1.config.cache.CacheConfig;
+import com.example.fabrick_interview_task1.constant.ApplicationError;
+import com.example.fabrick_interview_task1.exception.NasaApiException;
+import com.example.fabrick_interview_task1.model.WarmUpReport;
+import com.example.fabrick_interview_task1.service.CacheWarmUpService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Service
+public class CacheWarmUpServiceImpl implements CacheWarmUpService {
+
+    private final NasaApiClient nasaApiClient;
+    private final CacheManager cacheManager;
+    private final WarmUpProperties warmUpProperties;
+    private final Executor nasaApiExecutor;
+    private final HotKeyList hotKeyList;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    private final Counter asteroidsLoaded;
+    private final Counter asteroidsFailed;
+    private volatile WarmUpRun currentRun;
+
+    public CacheWarmUpServiceImpl(NasaApiClient nasaApiClient, CacheManager cacheManager,
+                                  WarmUpProperties warmUpProperties, Executor nasaApiExecutor,
+                                  MeterRegistry meterRegistry) {
+        this.nasaApiClient = nasaApiClient;
+        this.cacheManager = cacheManager;
+        this.warmUpProperties = warmUpProperties;
+        this.nasaApiExecutor = nasaApiExecutor;
+        this.hotKeyList = new HotKeyList(Path.of(warmUpProperties.getHotKeysFile()));
+
+        this.asteroidsLoaded = Counter.builder("warmup.asteroids")
+                .description("Asteroids loaded into the cache by the startup warm-up")
+                .tag("outcome", "loaded")
+                .register(meterRegistry);
+        this.asteroidsFailed = Counter.builder("warmup.asteroids")
+                .tag("outcome", "failed")
+                .register(meterRegistry);
+        Gauge.builder("warmup.coverage", this, service -> {
+                    WarmUpReport progress = service.getProgress();
+                    return progress != null ? progress.getCoverage() : 0;
+                })
+                .description("Share of the warm-up keys loaded")
+                .register(meterRegistry);
+        Gauge.builder("warmup.duration", this, service -> {
+                    WarmUpReport progress = service.getProgress();
+                    return progress != null ? progress.getDurationMillis() : 0;
+                })
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public WarmUpReport warmUp() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("Cache warm-up already running, skipping this run");
+            return null;
+        }
+        try {
+            return runWarmUp();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    @Override
+    public boolean isReady() {
+        WarmUpRun run = currentRun;
+        if (run == null) {
+            // until the first warm-up starts, the cache is as cold as it gets
+            return !warmUpProperties.isEnabled();
+        }
+        return run.finished
+                || run.loaded.get() >= Math.ceil(warmUpProperties.getReadyFraction() * run.keys)
+                || run.isPastDeadline();
+    }
+
+    @Override
+    public WarmUpReport getProgress() {
+        WarmUpRun run = currentRun;
+        return run != null ? run.toReport() : null;
+    }
+
+    @Override
+    public int recordHotKeys() {
+        Cache asteroidCache = cacheManager.getCache(CacheConfig.ASTEROID_CACHE);
+        if (asteroidCache == null
+                || !(asteroidCache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> cache)) {
+            return 0;
+        }
+        List<Integer> keys = hottestKeys(cache);
+        if (keys.isEmpty()) {
+            // nothing was cached, keep what the previous instance recorded
+            return 0;
+        }
+        hotKeyList.save(keys);
+        log.info("Recorded {} hot asteroid keys for the next warm-up", keys.size());
+        return keys.size();
+    }
+
+    private WarmUpReport runWarmUp() {
+        List<Integer> keys = warmUpKeys();
+        WarmUpRun run = new WarmUpRun(keys.size(), System.currentTimeMillis() + warmUpProperties.getDeadline());
+        currentRun = run;
+        log.info("Starting cache warm-up of {} asteroids", keys.size());
+
+        Semaphore permits = new Semaphore(warmUpProperties.getConcurrency());
+        List<CompletableFuture<Void>> loads = new ArrayList<>();
+        try {
+            for (Integer asteroidId : keys) {
+                // a permit is not worth waiting for past the deadline
+                if (run.rateLimited.get()
+                        || !permits.tryAcquire(run.millisToDeadline(), TimeUnit.MILLISECONDS)) {
+                    break;
+                }
+                loads.add(CompletableFuture.runAsync(() -> load(asteroidId, run), nasaApiExecutor)
+                        .whenComplete((result, error) -> permits.release()));
+            }
+            // loads still in flight at the deadline complete in the background, after the report
+            CompletableFuture.allOf(loads.toArray(CompletableFuture[]::new))
+                    .get(run.millisToDeadline(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Cache warm-up interrupted");
+        } catch (TimeoutException e) {
+            log.warn("Cache warm-up deadline of {} ms passed", warmUpProperties.getDeadline());
+        } catch (ExecutionException e) {
+            // load() handles NASA failures, anything else is unexpected
+            log.error("Cache warm-up failed", e.getCause());
+        }
+        run.finish();
+
+        WarmUpReport report = run.toReport();
+        log.info("Cache warm-up finished: {} of {} asteroids loaded ({}% coverage), {} failed, in {} ms",
+                report.getAsteroidsLoaded(), report.getKeysRequested(),
+                String.format("%.1f", 100 * report.getCoverage()), report.getAsteroidsFailed(),
+                report.getDurationMillis());
+        return report;
+    }
+
+    private List<Integer> warmUpKeys() {
+        Set<Integer> keys = new LinkedHashSet<>(warmUpProperties.getAsteroidIds());
+        keys.addAll(hotKeyList.load());
+        return keys.stream().limit(warmUpProperties.getMaxKeys()).toList();
+    }
+
+    private void load(int asteroidId, WarmUpRun run) {
+        try {
+            // cached and L2 entries are served without a NASA call
+            nasaApiClient.preloadAsteroidData(asteroidId);
+            run.loaded.incrementAndGet();
+            asteroidsLoaded.increment();
+        } catch (NasaApiException e) {
+            if (e.getError() == ApplicationError.NASA_RATE_LIMITER_EXCEEDED) {
+                // the rest of the budget belongs to user requests
+                run.rateLimited.set(true);
+            }
+            run.failed.incrementAndGet();
+            asteroidsFailed.increment();
+            log.warn("Unable to warm up asteroidId {}: {}", asteroidId, e.getMessage());
+        }
+    }
+
+    private <K, V> List<Integer> hottestKeys(com.github.benmanes.caffeine.cache.Cache<K, V> cache) {
+        // frequency ordered keys of the size bounded cache, hottest first
+        return cache.policy().eviction()
+                .map(eviction -> eviction.hottest(warmUpProperties.getMaxKeys()).keySet().stream()
+                        .filter(Integer.class::isInstance)
+                        .map(Integer.class::cast)
+                        .toList())
+                .orElse(List.of());
+    }
+
+    private static final class WarmUpRun {
+        private final int keys;
+        private final long deadlineAt;
+        private final long startTime = System.currentTimeMillis();
+        private final AtomicLong loaded = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private final AtomicBoolean rateLimited = new AtomicBoolean();
+        private volatile long endTime;
+        private volatile boolean finished;
+
+        private WarmUpRun(int keys, long deadlineAt) {
+            this.keys = keys;
+            this.deadlineAt = deadlineAt;
+        }
+
+        private boolean isPastDeadline() {
+            return System.currentTimeMillis() >= deadlineAt;
+        }
+
+        private long millisToDeadline() {
+            return Math.max(0, deadlineAt - System.currentTimeMillis());
+        }
+
+        private void finish() {
+            endTime = System.currentTimeMillis();
+            finished = true;
+        }
+
+        private WarmUpReport toReport() {
+            long end = finished ? endTime : System.currentTimeMillis();
+            return new WarmUpReport(keys, loaded.get(), failed.get(), end - startTime);
+        }
+    }
+}
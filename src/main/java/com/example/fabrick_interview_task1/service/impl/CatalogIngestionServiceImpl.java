@@ -0,0 +1,210 @@
+package com.example.fabrick_interview_task1.service.impl;
+
+import com.example.fabrick_interview_task1.client.NasaApiClient;
+import com.example.fabrick_interview_task1.config.IngestionProperties;
+import com.example.fabrick_interview_task1.config.cache.CacheConfig;
+import com.example.fabrick_interview_task1.config.cache.TieredCache;
+import com.example.fabrick_interview_task1.constant.ApplicationError;
+import com.example.fabrick_interview_task1.exception.NasaApiException;
+import com.example.fabrick_interview_task1.model.AsteroidApproaches;
+import com.example.fabrick_interview_task1.model.AsteroidTimeline;
+import com.example.fabrick_interview_task1.model.IngestionReport;
+import com.example.fabrick_interview_task1.model.NasaBrowsePage;
+import com.example.fabrick_interview_task1.service.CatalogIngestionService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Service
+public class CatalogIngestionServiceImpl implements CatalogIngestionService {
+
+    private final NasaApiClient nasaApiClient;
+    private final CacheManager cacheManager;
+    private final IngestionProperties ingestionProperties;
+    private final Executor nasaApiExecutor;
+    private final IngestionProgress progress;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    private final Counter asteroidsIngested;
+    private final Counter bytesIngested;
+    private final Counter pagesLoaded;
+    private final Counter pagesFailed;
+    private volatile IngestionReport lastReport;
+
+    public CatalogIngestionServiceImpl(NasaApiClient nasaApiClient, CacheManager cacheManager,
+                                       IngestionProperties ingestionProperties, Executor nasaApiExecutor,
+                                       MeterRegistry meterRegistry) {
+        this.nasaApiClient = nasaApiClient;
+        this.cacheManager = cacheManager;
+        this.ingestionProperties = ingestionProperties;
+        this.nasaApiExecutor = nasaApiExecutor;
+        this.progress = new IngestionProgress(Path.of(ingestionProperties.getProgressFile()));
+
+        this.asteroidsIngested = Counter.builder("ingestion.asteroids")
+                .description("Asteroids loaded into the cache from the NASA browse listing")
+                .register(meterRegistry);
+        this.bytesIngested = Counter.builder("ingestion.bytes")
+                .description("Browse payload bytes read")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.pagesLoaded = Counter.builder("ingestion.pages")
+                .tag("outcome", "loaded")
+                .register(meterRegistry);
+        this.pagesFailed = Counter.builder("ingestion.pages")
+                .tag("outcome", "failed")
+                .register(meterRegistry);
+        Gauge.builder("ingestion.last.run.asteroids.per.second", this,
+                        service -> service.lastReport != null ? service.lastReport.getAsteroidsPerSecond() : 0)
+                .register(meterRegistry);
+        Gauge.builder("ingestion.last.run.bytes.per.second", this,
+                        service -> service.lastReport != null ? service.lastReport.getBytesPerSecond() : 0)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("ingestion.next.page", progress, IngestionProgress::getNextPage)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public IngestionReport ingest() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("Catalog ingestion already running, skipping this run");
+            return null;
+        }
+        try {
+            return runIngestion();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private IngestionReport runIngestion() {
+        long startTime = System.currentTimeMillis();
+        RunStats stats = new RunStats();
+        int startPage = progress.load();
+        log.info("Starting catalog ingestion from browse page {}", startPage);
+
+        // the first page tells how many pages the catalog has
+        NasaBrowsePage firstPage = loadPage(startPage, stats);
+        if (firstPage != null && startPage > 0 && startPage >= firstPage.getTotalPages()) {
+            log.info("Catalog shrank below page {}, restarting from the first page", startPage);
+            progress.reset();
+            startPage = 0;
+            firstPage = stats.requests.get() < ingestionProperties.getMaxRequestsPerRun()
+                    ? loadPage(startPage, stats)
+                    : null;
+        }
+
+        int totalPages = firstPage != null ? firstPage.getTotalPages() : 0;
+        // every call made so far counts against the budget, the probe of a page past a shrunk catalog included
+        long remainingRequests = Math.max(0, ingestionProperties.getMaxRequestsPerRun() - stats.requests.get());
+        int endPage = (int) Math.min(totalPages, startPage + 1 + remainingRequests);
+        Semaphore permits = new Semaphore(ingestionProperties.getConcurrency());
+        List<CompletableFuture<Void>> loads = new ArrayList<>();
+
+        try {
+            for (int page = startPage + 1; page < endPage && !stats.rateLimited.get(); page++) {
+                permits.acquire();
+                int currentPage = page;
+                loads.add(CompletableFuture.runAsync(() -> loadPage(currentPage, stats), nasaApiExecutor)
+                        .whenComplete((result, error) -> permits.release()));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Catalog ingestion interrupted");
+        }
+        CompletableFuture.allOf(loads.toArray(CompletableFuture[]::new)).join();
+
+        int nextPage = progress.getNextPage();
+        if (totalPages > 0 && nextPage >= totalPages) {
+            log.info("Catalog ingestion completed a full sweep of {} pages", totalPages);
+            progress.reset();
+        }
+
+        IngestionReport report = new IngestionReport(startPage, progress.getNextPage(), totalPages,
+                stats.pagesLoaded.get(), stats.pagesFailed.get(), stats.asteroids.get(), stats.bytes.get(),
+                System.currentTimeMillis() - startTime);
+        lastReport = report;
+
+        log.info("Catalog ingestion finished: {} asteroids from {} pages ({} failed) in {} ms, {} asteroids/s, {} bytes/s",
+                report.getAsteroidsLoaded(), report.getPagesLoaded(), report.getPagesFailed(), report.getDurationMillis(),
+                String.format("%.1f", report.getAsteroidsPerSecond()), String.format("%.0f", report.getBytesPerSecond()));
+        return report;
+    }
+
+    private NasaBrowsePage loadPage(int page, RunStats stats) {
+        stats.requests.incrementAndGet();
+        try {
+            NasaBrowsePage browsePage = nasaApiClient.getBrowsePage(page, ingestionProperties.getPageSize());
+            Cache asteroidCache = cacheManager.getCache(CacheConfig.ASTEROID_CACHE);
+
+            int loaded = 0;
+            for (AsteroidApproaches approaches : browsePage.getNearEarthObjects()) {
+                Integer asteroidId = parseAsteroidId(approaches.getId());
+                if (asteroidId != null && asteroidCache != null && fillGap(asteroidCache, asteroidId, approaches)) {
+                    loaded++;
+                }
+            }
+
+            stats.pagesLoaded.incrementAndGet();
+            stats.asteroids.addAndGet(loaded);
+            stats.bytes.addAndGet(browsePage.getPayloadBytes());
+            pagesLoaded.increment();
+            asteroidsIngested.increment(loaded);
+            bytesIngested.increment(browsePage.getPayloadBytes());
+            progress.complete(page);
+            log.debug("Ingested browse page {} with {} asteroids", page, loaded);
+            return browsePage;
+
+        } catch (NasaApiException e) {
+            if (e.getError() == ApplicationError.NASA_RATE_LIMITER_EXCEEDED) {
+                // no point spending the rest of the budget on calls that will be rejected
+                stats.rateLimited.set(true);
+            }
+            stats.pagesFailed.incrementAndGet();
+            pagesFailed.increment();
+            log.warn("Unable to ingest browse page {}: {}", page, e.getMessage());
+            return null;
+        }
+    }
+
+    private boolean fillGap(Cache asteroidCache, int asteroidId, AsteroidApproaches approaches) {
+        // a cached entry, in either tier, was loaded by a request or revalidated and carries its validators: the
+        // browse listing has none to offer, and replacing it would only push hot entries out of L1
+        if (TieredCache.peek(asteroidCache, asteroidId) != null) {
+            return false;
+        }
+        return asteroidCache.putIfAbsent(asteroidId, AsteroidTimeline.of(approaches, null)) == null;
+    }
+
+    private Integer parseAsteroidId(String id) {
+        try {
+            return id != null ? Integer.valueOf(id) : null;
+        } catch (NumberFormatException e) {
+            log.debug("Skipping asteroid with non numeric id: {}", id);
+            return null;
+        }
+    }
+
+    private static final class RunStats {
+        private final AtomicLong requests = new AtomicLong();
+        private final AtomicLong pagesLoaded = new AtomicLong();
+        private final AtomicLong pagesFailed = new AtomicLong();
+        private final AtomicLong asteroids = new AtomicLong();
+        private final AtomicLong bytes = new AtomicLong();
+        private final AtomicBoolean rateLimited = new AtomicBoolean();
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.fabrick_interview_task1.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Asteroid ids worth warming up after a restart, hottest first, persisted one per line.
+ */
+@Slf4j
+class HotKeyList {
+
+    private final Path file;
+
+    HotKeyList(Path file) {
+        this.file = file;
+    }
+
+    List<Integer> load() {
+        List<Integer> keys = new ArrayList<>();
+        if (!Files.exists(file)) {
+            return keys;
+        }
+        try {
+            for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                if (!line.isBlank()) {
+                    keys.add(Integer.valueOf(line.trim()));
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            log.warn("Unable to read hot keys from {}, warming up the configured keys only", file, e);
+            keys.clear();
+        }
+        return keys;
+    }
+
+    void save(List<Integer> keys) {
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+            Files.writeString(temp, keys.stream().map(String::valueOf).collect(Collectors.joining("\n")),
+                    StandardCharsets.UTF_8);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Unable to persist hot keys to {}", file, e);
+        }
+    }
+}
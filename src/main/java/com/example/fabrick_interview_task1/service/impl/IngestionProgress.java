@@ -0,0 +1,72 @@
+package com.example.fabrick_interview_task1.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.BitSet;
+
+/**
+ * Resumable ingestion position, persisted as the first browse page not yet loaded.
+ * Pages complete out of order, so the position only advances over a contiguous run of completed pages.
+ */
+@Slf4j
+class IngestionProgress {
+
+    private final Path file;
+    private final BitSet completedPages = new BitSet();
+    private int nextPage;
+
+    IngestionProgress(Path file) {
+        this.file = file;
+    }
+
+    synchronized int load() {
+        completedPages.clear();
+        nextPage = 0;
+        if (Files.exists(file)) {
+            try {
+                nextPage = Integer.parseInt(Files.readString(file, StandardCharsets.UTF_8).trim());
+            } catch (IOException | NumberFormatException e) {
+                log.warn("Unable to read ingestion progress from {}, starting from the first page", file, e);
+            }
+        }
+        return nextPage;
+    }
+
+    synchronized void complete(int page) {
+        completedPages.set(page);
+        int previous = nextPage;
+        while (completedPages.get(nextPage)) {
+            nextPage++;
+        }
+        if (nextPage != previous) {
+            persist();
+        }
+    }
+
+    synchronized void reset() {
+        completedPages.clear();
+        nextPage = 0;
+        persist();
+    }
+
+    synchronized int getNextPage() {
+        return nextPage;
+    }
+
+    private void persist() {
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+            Files.writeString(temp, String.valueOf(nextPage), StandardCharsets.UTF_8);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Unable to persist ingestion progress to {}", file, e);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.fabrick_interview_task1.support;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineStatsCounter;
+
+import java.time.Duration;
+
+/**
+ * Remembers, for a short time, the keys a source reported as missing, so repeated lookups of a missing key are
+ * answered locally instead of costing an outbound call each. Bounded by size and time to live, and kept apart from
+ * the cache of found values so probes of invalid keys cannot evict real entries.
+ */
+public class NegativeCache<K> {
+
+    private final boolean enabled;
+    private final Cache<K, Boolean> missingKeys;
+    private final Counter hits;
+    private final Counter misses;
+
+    public NegativeCache(String name, boolean enabled, long maximumSize, Duration expireAfterWrite,
+                         MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        CaffeineStatsCounter stats = new CaffeineStatsCounter(meterRegistry, name);
+        this.missingKeys = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats(() -> stats)
+                .build();
+        stats.registerSizeMetric(missingKeys);
+        this.hits = Counter.builder("negative.cache.lookups")
+                .description("Lookups answered from the negative cache")
+                .tag("name", name)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("negative.cache.lookups")
+                .description("Lookups not in the negative cache, left to the source")
+                .tag("name", name)
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Whether the key was reported missing within the time to live.
+     */
+    public boolean isMissing(K key) {
+        if (!enabled) {
+            return false;
+        }
+        boolean missing = missingKeys.getIfPresent(key) != null;
+        (missing ? hits : misses).increment();
+        return missing;
+    }
+
+    public void recordMissing(K key) {
+        if (enabled) {
+            missingKeys.put(key, Boolean.TRUE);
+        }
+    }
+
+    public void forget(K key) {
+        missingKeys.invalidate(key);
+    }
+
+    public Cache<K, Boolean> getNativeCache() {
+        return missingKeys;
+    }
+}
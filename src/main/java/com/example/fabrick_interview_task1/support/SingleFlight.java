@@ -0,0 +1,82 @@
+package com.example.fabrick_interview_task1.support;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * De-duplicates concurrent loads of the same key: the first caller runs the loader, every caller arriving while
+ * the load is in flight waits on the same future and receives the same value or the same exception.
+ * Nothing is retained once the load completes, so a failure is never replayed to later callers.
+ */
+@Slf4j
+public class SingleFlight<K, V> {
+
+    private final String name;
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter leaderLoads;
+    private final Counter coalescedLoads;
+
+    public SingleFlight(String name, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.leaderLoads = Counter.builder("single.flight.loads")
+                .description("Loads executed by the first caller of a key")
+                .tag("name", name)
+                .tag("role", "leader")
+                .register(meterRegistry);
+        this.coalescedLoads = Counter.builder("single.flight.loads")
+                .description("Loads served by joining a load already in flight")
+                .tag("name", name)
+                .tag("role", "coalesced")
+                .register(meterRegistry);
+        Gauge.builder("single.flight.in.flight", inFlight, Map::size)
+                .description("Keys currently being loaded")
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> future = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, future);
+
+        if (existing != null) {
+            coalescedLoads.increment();
+            log.debug("Joining in-flight {} load for key: {}", name, key);
+            return await(existing);
+        }
+
+        leaderLoads.increment();
+        try {
+            V value = loader.get();
+            future.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    private V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
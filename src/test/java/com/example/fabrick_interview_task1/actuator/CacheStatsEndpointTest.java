@@ -0,0 +1,185 @@
+package com.example.fabrick_interview_task1.actuator;
+
+import com.example.fabrick_interview_task1.client.NasaApiClient;
+import com.example.fabrick_interview_task1.config.NasaApiProperties;
+import com.example.fabrick_interview_task1.config.NasaHedgingProperties;
+import com.example.fabrick_interview_task1.config.NasaRetryProperties;
+import com.example.fabrick_interview_task1.config.cache.AsteroidCacheManager;
+import com.example.fabrick_interview_task1.config.cache.AsteroidCacheRevalidator;
+import com.example.fabrick_interview_task1.config.cache.CacheConfig;
+import com.example.fabrick_interview_task1.config.cache.CacheProperties;
+import com.example.fabrick_interview_task1.exception.NasaApiException;
+import com.example.fabrick_interview_task1.model.CacheStatistics;
+import com.example.fabrick_interview_task1.model.NasaAsteroidResponse;
+import com.example.fabrick_interview_task1.resilience.NasaCircuitBreaker;
+import com.example.fabrick_interview_task1.resilience.NasaRateLimiter;
+import com.example.fabrick_interview_task1.resilience.NasaRetrier;
+import com.example.fabrick_interview_task1.resilience.RequestHedger;
+import com.example.fabrick_interview_task1.support.NegativeCache;
+import com.example.fabrick_interview_task1.support.SingleFlight;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.binder.cache.CaffeineStatsCounter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClient;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class CacheStatsEndpointTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private CacheStatsEndpoint endpoint;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        meterRegistry.config().meterFilter(new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                return id.getName().equals("cache.loads")
+                        ? DistributionStatisticConfig.builder().percentiles(0.5, 0.99).build().merge(config)
+                        : config;
+            }
+        });
+        endpoint = new CacheStatsEndpoint(meterRegistry);
+    }
+
+    @Test
+    void caches_ShouldReportEveryRecordingCache() {
+        // Arrange
+        Cache<Integer, String> asteroid = cache("asteroid", 10);
+        cache("asteroidNotFound", 10);
+        asteroid.get(1, key -> "one");
+        asteroid.get(1, key -> "one");
+        asteroid.getIfPresent(2);
+
+        // Act
+        Map<String, CacheStatistics> caches = endpoint.caches();
+
+        // Assert
+        assertEquals(List.of("asteroid", "asteroidNotFound"), List.copyOf(caches.keySet()));
+        CacheStatistics statistics = caches.get("asteroid");
+        assertEquals(1, statistics.getHits());
+        assertEquals(2, statistics.getMisses());
+        assertEquals(1.0 / 3, statistics.getHitRate(), 1e-9);
+        assertEquals(1, statistics.getLoadSuccesses());
+        assertEquals(0, statistics.getLoadFailures());
+        assertEquals(List.of("p50", "p99"), List.copyOf(statistics.getLoadPercentilesMillis().keySet()));
+        assertEquals(1, statistics.getEstimatedSize());
+        assertNull(statistics.getWeightedSize());
+    }
+
+    @Test
+    void cache_WithEvictionsAndFailedLoads_ShouldReportThem() {
+        // Arrange
+        Cache<Integer, String> asteroid = cache("asteroid", 1);
+        asteroid.put(1, "one");
+        asteroid.put(2, "two");
+        asteroid.cleanUp();
+        assertThrows(IllegalStateException.class, () -> asteroid.get(3, key -> {
+            throw new IllegalStateException("NASA down");
+        }));
+
+        // Act
+        CacheStatistics statistics = endpoint.cache("asteroid");
+
+        // Assert
+        assertEquals(Map.of("size", 1L), statistics.getEvictions());
+        assertEquals(1, statistics.getLoadFailures());
+        assertNull(endpoint.cache("unknown"));
+    }
+
+    @Test
+    void cache_WhenAsteroidsLoadThroughTheCachingProxy_ShouldReportTheLoads() {
+        // Arrange
+        RestClient restClient = mock(RestClient.class);
+        RestClient.RequestHeadersUriSpec<?> requestHeadersUriSpec = mock(RestClient.RequestHeadersUriSpec.class);
+        RestClient.ResponseSpec responseSpec = mock(RestClient.ResponseSpec.class);
+        doReturn(requestHeadersUriSpec).when(restClient).get();
+        doReturn(requestHeadersUriSpec).when(requestHeadersUriSpec).uri(anyString());
+        doReturn(responseSpec).when(requestHeadersUriSpec).retrieve();
+        when(responseSpec.toEntity(NasaAsteroidResponse.class))
+                .thenReturn(ResponseEntity.ok(asteroid("1")))
+                .thenReturn(ResponseEntity.ok(asteroid("2")))
+                .thenThrow(HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", null, null, null));
+
+        try (AnnotationConfigApplicationContext context = cachingContext(restClient)) {
+            NasaApiClient client = context.getBean(NasaApiClient.class);
+
+            // Act
+            client.getAsteroidData(1);
+            client.getAsteroidData(1);
+            client.getAsteroidDataAsync(2).join();
+            assertThrows(NasaApiException.class, () -> client.getAsteroidData(3));
+            CacheStatistics statistics = endpoint.cache(CacheConfig.ASTEROID_CACHE);
+
+            // Assert
+            assertEquals(1, statistics.getHits());
+            assertEquals(3, statistics.getMisses());
+            assertEquals(2, statistics.getLoadSuccesses());
+            assertEquals(1, statistics.getLoadFailures());
+            assertEquals(List.of("p50", "p99"), List.copyOf(statistics.getLoadPercentilesMillis().keySet()));
+            assertEquals(2, statistics.getEstimatedSize());
+        }
+    }
+
+    private AnnotationConfigApplicationContext cachingContext(RestClient restClient) {
+        NasaApiProperties nasaApiProperties = new NasaApiProperties();
+        nasaApiProperties.setBaseUrl("https://api.nasa.gov/neo/rest/v1/neo");
+        NasaRetryProperties retryProperties = new NasaRetryProperties();
+        retryProperties.setMaxAttempts(1);
+
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.register(CachingConfig.class);
+        context.registerBean(CacheManager.class, () -> new AsteroidCacheManager(new CacheProperties(),
+                mock(AsteroidCacheRevalidator.class), Runnable::run, null, meterRegistry));
+        context.registerBean(NasaApiClient.class, () -> new com.example.fabrick_interview_task1.client.impl.NasaApiClient(
+                restClient, nasaApiProperties, new SingleFlight<>("asteroid", meterRegistry),
+                new NegativeCache<>("asteroidNotFound", false, 10, Duration.ofMinutes(1), meterRegistry),
+                Runnable::run, mock(NasaRateLimiter.class), mock(NasaCircuitBreaker.class),
+                new RequestHedger(new NasaHedgingProperties(), () -> false, Runnable::run, meterRegistry),
+                new NasaRetrier(retryProperties, meterRegistry), new CacheProperties()));
+        context.refresh();
+        return context;
+    }
+
+    private static NasaAsteroidResponse asteroid(String id) {
+        NasaAsteroidResponse response = new NasaAsteroidResponse();
+        response.setId(id);
+        return response;
+    }
+
+    @Configuration
+    @EnableCaching
+    static class CachingConfig {
+    }
+
+    private Cache<Integer, String> cache(String name, long maximumSize) {
+        CaffeineStatsCounter stats = new CaffeineStatsCounter(meterRegistry, name);
+        Cache<Integer, String> cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .executor(Runnable::run)
+                .recordStats(() -> stats)
+                .build();
+        stats.registerSizeMetric(cache);
+        return cache;
+    }
+}
@@ -13,6 +13,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -168,4 +169,19 @@ class ControllerLoggingAspectTest {
         assertNull(result);
         verify(joinPoint, times(1)).proceed();
     }
-}
\ No newline at end of file
+
+    @Test
+    void logIncomingRequests_WithStreamedBody_ShouldNotWriteIt() throws Throwable {
+        // Arrange
+        StreamingResponseBody body = outputStream -> fail("a streamed body is written by Spring MVC only");
+        ResponseEntity<StreamingResponseBody> expectedResponse = ResponseEntity.ok(body);
+        when(joinPoint.proceed()).thenReturn(expectedResponse);
+        when(joinPoint.getArgs()).thenReturn(new Object[]{1});
+
+        // Act
+        Object result = aspect.logIncomingRequests(joinPoint);
+
+        // Assert
+        assertSame(expectedResponse, result);
+    }
+}
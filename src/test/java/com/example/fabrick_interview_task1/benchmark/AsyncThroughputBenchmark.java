@@ -0,0 +1,92 @@
+package com.example.fabrick_interview_task1.benchmark;
+
+import com.example.fabrick_interview_task1.FabrickInterviewTask1Application;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sustained requests per second on {@code /asteroids/{asteroidId}/paths} while every request misses the cache and
+ * waits on a NASA stub answering after {@value #NASA_LATENCY_MILLIS} ms.
+ * Tomcat is capped at {@value #TOMCAT_THREADS} workers: a blocking stack cannot exceed
+ * {@code TOMCAT_THREADS * 1000 / NASA_LATENCY_MILLIS} requests per second, the async stack is bounded by the
+ * number of concurrent clients ({@code @Threads}) instead.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Threads(256)
+@Fork(1)
+public class AsyncThroughputBenchmark {
+
+    private static final long NASA_LATENCY_MILLIS = 500;
+    private static final int TOMCAT_THREADS = 20;
+    private static final String BODY = """
+            {"id":"3542519","name":"(2010 PK9)","close_approach_data":[
+            {"close_approach_date":"1997-04-30","orbiting_body":"Juptr"},
+            {"close_approach_date":"2010-06-01","orbiting_body":"Earth"}]}""";
+
+    @Param({"true", "false"})
+    public String virtualThreads;
+
+    private final AtomicInteger nextAsteroidId = new AtomicInteger(1_000_000);
+    private NasaStubServer stubServer;
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private String baseUrl;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        stubServer = new NasaStubServer(BODY.getBytes(StandardCharsets.UTF_8), NASA_LATENCY_MILLIS);
+        // passed as command line arguments, default properties would lose to application.yaml
+        context = new SpringApplicationBuilder(FabrickInterviewTask1Application.class)
+                .run(
+                        "--server.port=0",
+                        "--server.tomcat.threads.max=" + TOMCAT_THREADS,
+                        "--spring.threads.virtual.enabled=" + virtualThreads,
+                        "--application.nasa.api.base-url=" + stubServer.getBaseUrl(),
+                        "--application.nasa.http-client.max-connections-total=512",
+                        "--application.nasa.http-client.max-connections-per-route=512",
+                        "--application.nasa.rate-limit.enabled=false",
+                        "--application.cache.l2.enabled=false",
+                        "--application.warm-up.enabled=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.com.example.fabrick_interview_task1=WARN",
+                        "--logging.level.org.springframework.cache=WARN");
+        baseUrl = "http://127.0.0.1:" + context.getEnvironment().getProperty("local.server.port")
+                + "/api/fabrick/v1.0/asteroids/";
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        stubServer.close();
+    }
+
+    @Benchmark
+    public int getAsteroidPaths() throws Exception {
+        // a fresh id per request so every call pays the NASA round trip
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + nextAsteroidId.incrementAndGet() + "/paths")).build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(AsyncThroughputBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.fabrick_interview_task1.benchmark;
+
+import com.example.fabrick_interview_task1.client.parser.NasaAsteroidStreamingParser;
+import com.example.fabrick_interview_task1.model.AsteroidTimeline;
+import com.example.fabrick_interview_task1.model.NasaAsteroidResponse;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+
+/**
+ * Retained heap per {@code asteroid} cache entry for each cached form, measured on the recorded NEO fixtures.
+ * <p>
+ * Many copies of the same entry are built and kept reachable, and the heap in use after a full GC is compared with the
+ * heap in use before, so the figure includes object headers, padding and every nested object. Forms compared:
+ * the databound {@link NasaAsteroidResponse} ({@code streaming-parser: false}), the same document rebuilt from the
+ * streaming parser, with shared planet names ({@code streaming-parser: true}), and the {@link AsteroidTimeline}. The
+ * last column is {@link AsteroidTimeline#estimatedBytes()}, the weight the {@code bytes} cache weigher gives the entry.
+ * Run with a fixed heap and G1 or Parallel GC, e.g. {@code java -XX:+UseG1GC -Xms1g -Xmx1g ...}: the heap usage the
+ * Serial collector reports after {@code System.gc()} proved unreliable for this measurement.
+ */
+public class CacheEntryFootprint {
+
+    private static final String[] FIXTURES = {"fixtures/neo-3542519.json", "fixtures/neo-2000433.json"};
+    // enough entries per fixture for the per-entry figure to dwarf the measurement noise
+    private static final long APPROACHES_PER_MEASUREMENT = 500_000;
+    private static final long CACHE_BUDGET_BYTES = 64L * 1024 * 1024;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final NasaAsteroidStreamingParser streamingParser = new NasaAsteroidStreamingParser(new JsonFactory());
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    private Object[] retained;
+
+    public static void main(String[] args) throws Exception {
+        new CacheEntryFootprint().run();
+    }
+
+    private void run() throws Exception {
+        System.out.printf("%-28s %10s %14s %14s %14s %10s %12s%n",
+                "fixture", "approaches", "databind B", "streaming B", "timeline B", "gain", "estimate B");
+        for (String fixture : FIXTURES) {
+            byte[] payload = read(fixture);
+            int approaches = streamingParser.parse(new ByteArrayInputStream(payload)).size();
+            int entries = (int) Math.max(1_000, APPROACHES_PER_MEASUREMENT / Math.max(approaches, 1));
+
+            double databind = bytesPerEntry(entries, () -> objectMapper.readValue(payload, NasaAsteroidResponse.class));
+            double streaming = bytesPerEntry(entries,
+                    () -> streamingParser.parse(new ByteArrayInputStream(payload)).toNasaAsteroidResponse());
+            double timeline = bytesPerEntry(entries,
+                    () -> AsteroidTimeline.of(streamingParser.parse(new ByteArrayInputStream(payload)), null));
+
+            long estimate = AsteroidTimeline.of(streamingParser.parse(new ByteArrayInputStream(payload)), null)
+                    .estimatedBytes();
+            System.out.printf("%-28s %10d %14.0f %14.0f %14.0f %9.1fx %12d%n",
+                    fixture, approaches, databind, streaming, timeline, streaming / timeline, estimate);
+            System.out.printf("%-28s %10s %14d %14d %14d%n", "  entries in 64 MiB", "",
+                    (long) (CACHE_BUDGET_BYTES / databind), (long) (CACHE_BUDGET_BYTES / streaming),
+                    (long) (CACHE_BUDGET_BYTES / timeline));
+        }
+    }
+
+    private double bytesPerEntry(int entries, EntryFactory factory) throws IOException {
+        // a field rather than a local, so the entries of the previous form are surely unreachable below
+        retained = null;
+        long before = usedHeapAfterGc();
+        retained = new Object[entries];
+        for (int i = 0; i < entries; i++) {
+            retained[i] = factory.create();
+        }
+        long after = usedHeapAfterGc();
+        retained = null;
+        return (double) (after - before) / entries;
+    }
+
+    private long usedHeapAfterGc() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    private byte[] read(String fixture) throws IOException {
+        try (InputStream in = getClass().getClassLoader().getResourceAsStream(fixture)) {
+            return in.readAllBytes();
+        }
+    }
+
+    @FunctionalInterface
+    private interface EntryFactory {
+        Object create() throws IOException;
+    }
+}
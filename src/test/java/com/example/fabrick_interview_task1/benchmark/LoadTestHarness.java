@@ -0,0 +1,231 @@
+package com.example.fabrick_interview_task1.benchmark;
+
+import com.example.fabrick_interview_task1.FabrickInterviewTask1Application;
+import com.example.fabrick_interview_task1.config.cache.CacheConfig;
+import com.example.fabrick_interview_task1.constant.ApplicationError;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Open-loop load test of {@code /asteroids/{asteroidId}/paths} against the application booted in-process and wired
+ * to a {@link NasaStubServer} serving the recorded fixtures, so it runs fully offline.
+ * <p>
+ * Requests are fired at a fixed rate whether or not earlier ones have completed, so a slow server shows up as latency
+ * instead of a lower request rate. At the end it reports latency percentiles, the error breakdown by
+ * {@link ApplicationError} and the asteroid cache hit ratio. Options are passed as {@code --name=value}:
+ * <pre>
+ * --rps=200 --duration=60 --asteroids=500 --max-in-flight=2000
+ * --nasa-latency=300 --nasa-jitter=200 --nasa-error-rate=0.02 --nasa-429-rate=0.01 --nasa-hourly-limit=1000000
+ * --app.spring.cache.caffeine.expire-after-write=5000   (any application property, prefixed with "app.")
+ * </pre>
+ * The L2 cache store and the startup warm-up are disabled unless {@code --app.application.cache.l2.enabled=true} or
+ * {@code --app.application.warm-up.enabled=true} is given, so every run starts cold.
+ */
+public class LoadTestHarness {
+
+    private static final String APP_PROPERTY_PREFIX = "app.";
+    private static final String L2_ENABLED = "application.cache.l2.enabled";
+    private static final String WARM_UP_ENABLED = "application.warm-up.enabled";
+
+    private final Map<String, String> options;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ConcurrentLinkedQueue<Long> latenciesNanos = new ConcurrentLinkedQueue<>();
+    private final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+    private final AtomicLong dropped = new AtomicLong();
+
+    private LoadTestHarness(Map<String, String> options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value, got " + arg);
+            }
+            int separator = arg.indexOf('=');
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        new LoadTestHarness(options).run();
+    }
+
+    private void run() throws Exception {
+        int rps = intOption("rps", 200);
+        int durationSeconds = intOption("duration", 60);
+        int asteroids = intOption("asteroids", 500);
+        Semaphore inFlight = new Semaphore(intOption("max-in-flight", 2000));
+
+        NasaStubServer.Behaviour behaviour = NasaStubServer.Behaviour.builder()
+                .latencyMillis(intOption("nasa-latency", 300))
+                .latencyJitterMillis(intOption("nasa-jitter", 200))
+                .errorRate(doubleOption("nasa-error-rate", 0.02))
+                .rateLimitRate(doubleOption("nasa-429-rate", 0.01))
+                .hourlyLimit(intOption("nasa-hourly-limit", 1_000_000))
+                .build();
+
+        try (NasaStubServer stubServer = NasaStubServer.withRecordedFixtures(behaviour);
+             ConfigurableApplicationContext context = startApplication(stubServer)) {
+            String baseUrl = "http://127.0.0.1:" + context.getEnvironment().getProperty("local.server.port")
+                    + "/api/fabrick/v1.0/asteroids/";
+            HttpClient httpClient = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+            CacheStats cacheBefore = asteroidCacheStats(context);
+
+            System.out.printf("Driving %d rps for %d s over %d asteroids%n", rps, durationSeconds, asteroids);
+            long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rps;
+            long total = (long) rps * durationSeconds;
+            long start = System.nanoTime();
+            for (long i = 0; i < total; i++) {
+                long due = start + i * intervalNanos;
+                long wait = due - System.nanoTime();
+                if (wait > 0) {
+                    TimeUnit.NANOSECONDS.sleep(wait);
+                }
+                if (!inFlight.tryAcquire()) {
+                    dropped.incrementAndGet();
+                    continue;
+                }
+                int asteroidId = 1_000_000 + ThreadLocalRandom.current().nextInt(asteroids);
+                HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + asteroidId + "/paths"))
+                        .timeout(Duration.ofSeconds(30))
+                        .build();
+                long sentAt = System.nanoTime();
+                httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                        .whenComplete((response, failure) -> {
+                            latenciesNanos.add(System.nanoTime() - sentAt);
+                            record(response, failure);
+                            inFlight.release();
+                        });
+            }
+            long elapsedNanos = System.nanoTime() - start;
+            // drain the requests still in flight before reading the numbers
+            inFlight.acquire(intOption("max-in-flight", 2000));
+
+            report(elapsedNanos, stubServer, asteroidCacheStats(context).minus(cacheBefore));
+        }
+    }
+
+    private ConfigurableApplicationContext startApplication(NasaStubServer stubServer) {
+        // passed as command line arguments, default properties would lose to application.yaml
+        List<String> arguments = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--application.nasa.api.base-url=" + stubServer.getBaseUrl(),
+                "--application.nasa.http-client.max-connections-total=512",
+                "--application.nasa.http-client.max-connections-per-route=512",
+                "--logging.level.root=WARN",
+                "--logging.level.com.example.fabrick_interview_task1=WARN",
+                "--logging.level.org.springframework.cache=WARN"));
+        // entries persisted or recorded by an earlier run would turn the first requests into hits
+        for (String property : List.of(L2_ENABLED, WARM_UP_ENABLED)) {
+            if (!options.containsKey(APP_PROPERTY_PREFIX + property)) {
+                arguments.add("--" + property + "=false");
+            }
+        }
+        options.forEach((name, value) -> {
+            if (name.startsWith(APP_PROPERTY_PREFIX)) {
+                arguments.add("--" + name.substring(APP_PROPERTY_PREFIX.length()) + "=" + value);
+            }
+        });
+        return new SpringApplicationBuilder(FabrickInterviewTask1Application.class)
+                .run(arguments.toArray(String[]::new));
+    }
+
+    private void record(HttpResponse<byte[]> response, Throwable failure) {
+        String outcome;
+        if (failure != null) {
+            outcome = "TRANSPORT_" + failure.getClass().getSimpleName();
+        } else if (response.statusCode() < 400) {
+            outcome = "OK";
+        } else {
+            outcome = errorName(response);
+        }
+        outcomes.computeIfAbsent(outcome, ignored -> new LongAdder()).increment();
+    }
+
+    private String errorName(HttpResponse<byte[]> response) {
+        try {
+            JsonNode errorCode = objectMapper.readTree(response.body()).get("errorCode");
+            if (errorCode != null) {
+                int code = errorCode.asInt();
+                return Arrays.stream(ApplicationError.values())
+                        .filter(error -> error.getErrorCode() == code)
+                        .map(Enum::name)
+                        .findFirst()
+                        .orElse("UNKNOWN_" + code);
+            }
+        } catch (Exception e) {
+            // not an ErrorResponse body, fall back to the status
+        }
+        return "HTTP_" + response.statusCode();
+    }
+
+    private static CacheStats asteroidCacheStats(ConfigurableApplicationContext context) {
+        // the in-heap tier, whether or not the L2 store is enabled
+        Cache cache = context.getBean(CacheManager.class).getCache(CacheConfig.ASTEROID_CACHE);
+        return ((com.github.benmanes.caffeine.cache.Cache<?, ?>) cache.getNativeCache()).stats();
+    }
+
+    private void report(long elapsedNanos, NasaStubServer stubServer, CacheStats cacheStats) {
+        long[] sorted = latenciesNanos.stream().mapToLong(Long::longValue).sorted().toArray();
+        double seconds = elapsedNanos / 1e9;
+
+        System.out.println();
+        System.out.printf("Completed    %d requests in %.1f s (%.1f rps), %d dropped at the in-flight cap%n",
+                sorted.length, seconds, sorted.length / seconds, dropped.get());
+        System.out.printf("Latency      p50 %.1f ms  p95 %.1f ms  p99 %.1f ms  max %.1f ms%n",
+                percentileMillis(sorted, 0.50), percentileMillis(sorted, 0.95),
+                percentileMillis(sorted, 0.99), percentileMillis(sorted, 1.0));
+        System.out.println("Outcomes");
+        new TreeMap<>(outcomes).forEach((outcome, count) ->
+                System.out.printf("  %-32s %8d  (%.2f%%)%n", outcome, count.sum(), 100.0 * count.sum() / sorted.length));
+        System.out.printf("Cache        hit ratio %.2f%% (%d hits, %d misses)%n",
+                100 * cacheStats.hitRate(), cacheStats.hitCount(), cacheStats.missCount());
+        System.out.printf("NASA stub    %d lookups, %d not modified, %d 5xx, %d 429%n",
+                stubServer.getLookups(), stubServer.getNotModified(),
+                stubServer.getServerErrors(), stubServer.getRateLimited());
+    }
+
+    private static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1e6;
+    }
+
+    private int intOption(String name, int defaultValue) {
+        String value = options.get(name);
+        return value != null ? Integer.parseInt(value) : defaultValue;
+    }
+
+    private double doubleOption(String name, double defaultValue) {
+        String value = options.get(name);
+        return value != null ? Double.parseDouble(value) : defaultValue;
+    }
+}
@@ -0,0 +1,250 @@
+package com.example.fabrick_interview_task1.benchmark;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Offline stand-in for the NASA NeoWs lookup endpoint ({@code GET /neo/{asteroidId}}), built on the JDK HTTP server.
+ * <p>
+ * A lookup is answered with the fixture recorded for that id, or with one of the other fixtures when there is none,
+ * so any number of distinct asteroids can be requested. Like api.nasa.gov, the stand-in sends ETags and answers
+ * matching {@code If-None-Match} with 304, gzips the body when asked to, and reports a fixed-window hourly quota in
+ * the {@code X-RateLimit-*} headers. Latency, server errors and 429s can be injected through {@link Behaviour}.
+ */
+public class NasaStubServer implements AutoCloseable {
+
+    private static final Pattern FIXTURE_NAME = Pattern.compile("neo-(\\d+)\\.json");
+    private static final Pattern LOOKUP_PATH = Pattern.compile("/neo/(\\d+)");
+
+    /**
+     * Injected behaviour; rates are probabilities between 0 and 1, applied per lookup.
+     */
+    @Getter
+    @Builder
+    public static class Behaviour {
+        private final long latencyMillis;
+        private final long latencyJitterMillis;
+        @Builder.Default
+        private final double errorRate = 0;
+        @Builder.Default
+        private final double rateLimitRate = 0;
+        @Builder.Default
+        private final int hourlyLimit = 1_000_000;
+    }
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Behaviour behaviour;
+    private final Map<Long, Fixture> fixturesById = new HashMap<>();
+    private final List<Fixture> fixtures = new ArrayList<>();
+
+    private final AtomicLong lookups = new AtomicLong();
+    private final AtomicLong notModified = new AtomicLong();
+    private final AtomicLong serverErrors = new AtomicLong();
+    private final AtomicLong rateLimited = new AtomicLong();
+    private final AtomicLong windowRequests = new AtomicLong();
+    private volatile long windowStart = System.nanoTime();
+
+    public NasaStubServer(byte[] body, long latencyMillis) throws IOException {
+        this(Map.of(), List.of(body), Behaviour.builder().latencyMillis(latencyMillis).build());
+    }
+
+    private NasaStubServer(Map<Long, byte[]> bodiesById, List<byte[]> fallbackBodies, Behaviour behaviour) throws IOException {
+        this.behaviour = behaviour;
+        bodiesById.forEach((id, body) -> {
+            Fixture fixture = new Fixture(body);
+            fixturesById.put(id, fixture);
+            fixtures.add(fixture);
+        });
+        fallbackBodies.forEach(body -> fixtures.add(new Fixture(body)));
+
+        this.executor = Executors.newCachedThreadPool();
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        this.server.createContext("/neo/", this::handleLookup);
+        this.server.setExecutor(executor);
+        this.server.start();
+    }
+
+    /**
+     * Serves the {@code fixtures/neo-{id}.json} documents recorded under {@code src/test/resources}.
+     */
+    public static NasaStubServer withRecordedFixtures(Behaviour behaviour) throws IOException {
+        Map<Long, byte[]> bodiesById = new HashMap<>();
+        for (Resource resource : new PathMatchingResourcePatternResolver().getResources("classpath:fixtures/neo-*.json")) {
+            Matcher matcher = FIXTURE_NAME.matcher(resource.getFilename());
+            if (matcher.matches()) {
+                try (InputStream in = resource.getInputStream()) {
+                    bodiesById.put(Long.parseLong(matcher.group(1)), in.readAllBytes());
+                }
+            }
+        }
+        if (bodiesById.isEmpty()) {
+            throw new IllegalStateException("No NEO fixtures found on the classpath");
+        }
+        return new NasaStubServer(bodiesById, List.of(), behaviour);
+    }
+
+    public String getBaseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/neo";
+    }
+
+    public long getLookups() {
+        return lookups.get();
+    }
+
+    public long getNotModified() {
+        return notModified.get();
+    }
+
+    public long getServerErrors() {
+        return serverErrors.get();
+    }
+
+    public long getRateLimited() {
+        return rateLimited.get();
+    }
+
+    private void handleLookup(HttpExchange exchange) throws IOException {
+        try {
+            lookups.incrementAndGet();
+            sleepLatency();
+
+            long remaining = remainingQuota();
+            exchange.getResponseHeaders().add("X-RateLimit-Limit", String.valueOf(behaviour.getHourlyLimit()));
+            exchange.getResponseHeaders().add("X-RateLimit-Remaining", String.valueOf(Math.max(remaining, 0)));
+
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            if (remaining < 0 || random.nextDouble() < behaviour.getRateLimitRate()) {
+                rateLimited.incrementAndGet();
+                sendEmpty(exchange, 429);
+                return;
+            }
+            if (random.nextDouble() < behaviour.getErrorRate()) {
+                serverErrors.incrementAndGet();
+                sendEmpty(exchange, random.nextBoolean() ? 500 : 503);
+                return;
+            }
+
+            Matcher matcher = LOOKUP_PATH.matcher(exchange.getRequestURI().getPath());
+            if (!matcher.matches()) {
+                sendEmpty(exchange, 404);
+                return;
+            }
+            Fixture fixture = fixtureFor(Long.parseLong(matcher.group(1)));
+
+            exchange.getResponseHeaders().add("ETag", fixture.etag);
+            if (fixture.etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                notModified.incrementAndGet();
+                sendEmpty(exchange, 304);
+                return;
+            }
+
+            String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+            boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+            byte[] body = gzip ? fixture.gzipped : fixture.body;
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            if (gzip) {
+                exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+            }
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private Fixture fixtureFor(long asteroidId) {
+        Fixture fixture = fixturesById.get(asteroidId);
+        return fixture != null ? fixture : fixtures.get((int) (asteroidId % fixtures.size()));
+    }
+
+    private long remainingQuota() {
+        long now = System.nanoTime();
+        if (now - windowStart > TimeUnit.HOURS.toNanos(1)) {
+            windowStart = now;
+            windowRequests.set(0);
+        }
+        return behaviour.getHourlyLimit() - windowRequests.incrementAndGet();
+    }
+
+    private void sleepLatency() throws InterruptedException {
+        long latency = behaviour.getLatencyMillis();
+        if (behaviour.getLatencyJitterMillis() > 0) {
+            latency += ThreadLocalRandom.current().nextLong(behaviour.getLatencyJitterMillis() + 1);
+        }
+        if (latency > 0) {
+            Thread.sleep(latency);
+        }
+    }
+
+    private static void sendEmpty(HttpExchange exchange, int status) throws IOException {
+        exchange.sendResponseHeaders(status, -1);
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private static final class Fixture {
+
+        private final byte[] body;
+        private final byte[] gzipped;
+        private final String etag;
+
+        private Fixture(byte[] body) {
+            this.body = body;
+            this.gzipped = gzip(body);
+            this.etag = "\"" + sha256(body) + "\"";
+        }
+
+        private static byte[] gzip(byte[] body) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+                gzip.write(body);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+            return out.toByteArray();
+        }
+
+        private static String sha256(byte[] body) {
+            try {
+                return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
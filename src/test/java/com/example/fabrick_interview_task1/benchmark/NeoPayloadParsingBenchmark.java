@@ -0,0 +1,64 @@
+package com.example.fabrick_interview_task1.benchmark;
+
+import com.example.fabrick_interview_task1.client.parser.NasaAsteroidStreamingParser;
+import com.example.fabrick_interview_task1.model.AsteroidApproaches;
+import com.example.fabrick_interview_task1.model.NasaAsteroidResponse;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares full {@link NasaAsteroidResponse} databinding with the {@link NasaAsteroidStreamingParser} on the
+ * recorded NEO fixtures. Run with {@code -prof gc} to compare the allocation rate as well.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NeoPayloadParsingBenchmark {
+
+    @Param({"fixtures/neo-3542519.json", "fixtures/neo-2000433.json"})
+    public String fixture;
+
+    private byte[] payload;
+    private ObjectMapper objectMapper;
+    private NasaAsteroidStreamingParser streamingParser;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        try (InputStream in = getClass().getClassLoader().getResourceAsStream(fixture)) {
+            payload = in.readAllBytes();
+        }
+        // same mapper configuration RestClient uses for NasaAsteroidResponse
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        streamingParser = new NasaAsteroidStreamingParser(new JsonFactory());
+    }
+
+    @Benchmark
+    public NasaAsteroidResponse databind() throws IOException {
+        return objectMapper.readValue(new ByteArrayInputStream(payload), NasaAsteroidResponse.class);
+    }
+
+    @Benchmark
+    public AsteroidApproaches streaming() throws IOException {
+        return streamingParser.parse(new ByteArrayInputStream(payload));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(NeoPayloadParsingBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build()).run();
+    }
+}
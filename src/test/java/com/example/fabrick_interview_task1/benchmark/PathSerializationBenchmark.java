@@ -0,0 +1,71 @@
+package com.example.fabrick_interview_task1.benchmark;
+
+import com.example.fabrick_interview_task1.client.parser.NasaAsteroidStreamingParser;
+import com.example.fabrick_interview_task1.model.AsteroidPath;
+import com.example.fabrick_interview_task1.model.AsteroidPaths;
+import com.example.fabrick_interview_task1.model.AsteroidTimeline;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of answering a paths request from a cached {@link AsteroidTimeline}, serialization included: a list of
+ * {@link AsteroidPath} built for the range vs the {@link AsteroidPaths} view written straight from the timeline.
+ * Run with {@code -prof gc}, {@code gc.alloc.rate.norm} is the allocation per request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PathSerializationBenchmark {
+
+    @Param({"fixtures/neo-3542519.json", "fixtures/neo-2000433.json"})
+    public String fixture;
+
+    private AsteroidTimeline timeline;
+    private ObjectMapper objectMapper;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        try (InputStream in = getClass().getClassLoader().getResourceAsStream(fixture)) {
+            timeline = AsteroidTimeline.of(new NasaAsteroidStreamingParser(new JsonFactory()).parse(in), null);
+        }
+        // same mapper configuration Spring MVC uses for the response body
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    }
+
+    @Benchmark
+    public void materialized() throws IOException {
+        List<AsteroidPath> paths = new ArrayList<>(timeline.getPathCount());
+        for (int path = 0; path < timeline.getPathCount(); path++) {
+            paths.add(timeline.toPath(path));
+        }
+        objectMapper.writeValue(OutputStream.nullOutputStream(), paths);
+    }
+
+    @Benchmark
+    public void view() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(),
+                AsteroidPaths.within(timeline, Long.MIN_VALUE, Long.MAX_VALUE));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(PathSerializationBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build()).run();
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.fabrick_interview_task1.benchmark;
+
+import com.example.fabrick_interview_task1.config.NasaHttpClientProperties;
+import com.example.fabrick_interview_task1.config.NasaRateLimitProperties;
+import com.example.fabrick_interview_task1.config.RestClientConfig;
+import com.example.fabrick_interview_task1.model.NasaAsteroidResponse;
+import com.example.fabrick_interview_task1.resilience.NasaRateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the outbound HTTP engines against a local NASA stub with concurrent cache-miss traffic.
+ * <ul>
+ *     <li>{@code default}: the request factory {@code RestClient.create()} picked before the engine was configurable</li>
+ *     <li>{@code pooled}: the pooled HTTP/1.1 engine built by {@link RestClientConfig}</li>
+ *     <li>{@code http2}: the JDK HTTP/2 engine built by {@link RestClientConfig}</li>
+ * </ul>
+ * The stub speaks plain HTTP, so the gap only reflects TCP connection reuse; against api.nasa.gov the pooled engine
+ * also saves the TLS handshake.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Threads(16)
+@Fork(1)
+public class RestClientEngineBenchmark {
+
+    private static final String BODY = """
+            {"id":"3542519","name":"(2010 PK9)","close_approach_data":[
+            {"close_approach_date":"1917-04-30","orbiting_body":"Juptr"},
+            {"close_approach_date":"1930-06-01","orbiting_body":"Earth"}]}""";
+
+    @Param({"default", "pooled", "http2"})
+    public String engine;
+
+    private NasaStubServer stubServer;
+    private ClientHttpRequestFactory requestFactory;
+    private RestClient restClient;
+    private String url;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        stubServer = new NasaStubServer(BODY.getBytes(StandardCharsets.UTF_8), 5);
+        url = stubServer.getBaseUrl() + "/3542519";
+
+        NasaHttpClientProperties properties = new NasaHttpClientProperties();
+        properties.setHttp2("http2".equals(engine));
+        RestClientConfig config = new RestClientConfig(properties);
+
+        requestFactory = "default".equals(engine) ? new JdkClientHttpRequestFactory() : config.nasaRequestFactory();
+        NasaRateLimitProperties rateLimitProperties = new NasaRateLimitProperties();
+        rateLimitProperties.setEnabled(false);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        restClient = config.restClient(requestFactory, new NasaRateLimiter(rateLimitProperties, meterRegistry), meterRegistry);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        if (requestFactory instanceof DisposableBean disposableBean) {
+            disposableBean.destroy();
+        }
+        stubServer.close();
+    }
+
+    @Benchmark
+    public NasaAsteroidResponse getAsteroidData() {
+        return restClient.get()
+                .uri(url)
+                .retrieve()
+                .body(NasaAsteroidResponse.class);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(RestClientEngineBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
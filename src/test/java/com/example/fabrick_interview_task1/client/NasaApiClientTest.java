@@ -2,20 +2,49 @@ package com.example.fabrick_interview_task1.client;
 
 import com.example.fabrick_interview_task1.client.impl.NasaApiClient;
 import com.example.fabrick_interview_task1.config.NasaApiProperties;
+import com.example.fabrick_interview_task1.config.NasaHedgingProperties;
+import com.example.fabrick_interview_task1.config.NasaRetryProperties;
+import com.example.fabrick_interview_task1.config.cache.CacheProperties;
 import com.example.fabrick_interview_task1.constant.ApplicationError;
 import com.example.fabrick_interview_task1.exception.NasaApiException;
+import com.example.fabrick_interview_task1.model.AsteroidApproaches;
+import com.example.fabrick_interview_task1.model.AsteroidRevalidation;
+import com.example.fabrick_interview_task1.model.AsteroidTimeline;
 import com.example.fabrick_interview_task1.model.NasaAsteroidResponse;
+import com.example.fabrick_interview_task1.model.NasaBrowsePage;
+import com.example.fabrick_interview_task1.model.PlanetDictionary;
+import com.example.fabrick_interview_task1.model.ResponseValidators;
+import com.example.fabrick_interview_task1.resilience.CallPriority;
+import com.example.fabrick_interview_task1.resilience.NasaCircuitBreaker;
+import com.example.fabrick_interview_task1.resilience.NasaRateLimiter;
+import com.example.fabrick_interview_task1.resilience.NasaRetrier;
+import com.example.fabrick_interview_task1.resilience.RequestHedger;
+import com.example.fabrick_interview_task1.support.NegativeCache;
+import com.example.fabrick_interview_task1.support.SingleFlight;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.RestClient;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -34,12 +63,39 @@ class NasaApiClientTest {
     @Mock
     private RestClient.ResponseSpec responseSpec;
 
+    @Spy
+    private SingleFlight<Integer, AsteroidTimeline> asteroidLoads = new SingleFlight<>("asteroid", new SimpleMeterRegistry());
+
+    @Spy
+    private NegativeCache<Integer> asteroidNotFound = new NegativeCache<>("asteroidNotFound", true, 100,
+            Duration.ofMinutes(10), new SimpleMeterRegistry());
+
+    @Spy
+    private SyncTaskExecutor nasaApiExecutor = new SyncTaskExecutor();
+
+    @Mock
+    private NasaRateLimiter nasaRateLimiter;
+
+    @Mock
+    private NasaCircuitBreaker nasaCircuitBreaker;
+
+    @Spy
+    private NasaRetrier nasaRetrier = new NasaRetrier(retryWithoutBackoff(), new SimpleMeterRegistry());
+
+    @Spy
+    private CacheProperties cacheProperties = new CacheProperties();
+
+    @Spy
+    private RequestHedger nasaRequestHedger = new RequestHedger(new NasaHedgingProperties(), () -> false, Runnable::run, new SimpleMeterRegistry());
+
     @InjectMocks
     private NasaApiClient nasaApiClient;
 
     private static final String BASE_URL = "https://api.nasa.gov/neo/rest/v1/neo";
     private static final String API_KEY = "test-api-key";
     private static final int ASTEROID_ID = 1234567;
+    private static final String ASTEROID_JSON = """
+            {"id":"1234567","name":"Eros","close_approach_data":[{"close_approach_date":"1930-06-01","orbiting_body":"Earth"}]}""";
 
     @BeforeEach
     void setUp() {
@@ -56,9 +112,9 @@ class NasaApiClientTest {
         when(restClient.get()).thenReturn(requestHeadersUriSpec);
         when(requestHeadersUriSpec.uri(anyString())).thenReturn(requestHeadersUriSpec);
         when(requestHeadersUriSpec.retrieve()).thenReturn(responseSpec);
-        when(responseSpec.body(NasaAsteroidResponse.class)).thenReturn(expectedResponse);
+        when(responseSpec.toEntity(NasaAsteroidResponse.class)).thenReturn(ResponseEntity.ok(expectedResponse));
 
-        NasaAsteroidResponse result = nasaApiClient.getAsteroidData(ASTEROID_ID);
+        AsteroidTimeline result = nasaApiClient.getAsteroidData(ASTEROID_ID);
 
         assertNotNull(result);
         assertEquals("1234567", result.getId());
@@ -67,7 +123,101 @@ class NasaApiClientTest {
         verify(restClient).get();
         verify(requestHeadersUriSpec).uri(anyString());
         verify(requestHeadersUriSpec).retrieve();
-        verify(responseSpec).body(NasaAsteroidResponse.class);
+        verify(responseSpec).toEntity(NasaAsteroidResponse.class);
+    }
+
+    @Test
+    void getAsteroidData_WithValidatorHeaders_ShouldKeepThemForRevalidation() {
+        NasaAsteroidResponse expectedResponse = new NasaAsteroidResponse();
+        expectedResponse.setId("1234567");
+
+        when(restClient.get()).thenReturn(requestHeadersUriSpec);
+        when(requestHeadersUriSpec.uri(anyString())).thenReturn(requestHeadersUriSpec);
+        when(requestHeadersUriSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.toEntity(NasaAsteroidResponse.class)).thenReturn(ResponseEntity.ok()
+                .eTag("\"v1\"")
+                .header(HttpHeaders.LAST_MODIFIED, "Wed, 01 Jan 2025 00:00:00 GMT")
+                .body(expectedResponse));
+
+        AsteroidTimeline result = nasaApiClient.getAsteroidData(ASTEROID_ID);
+
+        assertEquals("\"v1\"", result.getValidators().getEtag());
+        assertEquals("Wed, 01 Jan 2025 00:00:00 GMT", result.getValidators().getLastModified());
+        assertNull(result.getValidators().getContentHash());
+    }
+
+    @Test
+    void getAsteroidData_WithoutValidatorHeaders_ShouldCacheWithoutValidators() {
+        NasaAsteroidResponse expectedResponse = new NasaAsteroidResponse();
+        expectedResponse.setId("1234567");
+
+        when(restClient.get()).thenReturn(requestHeadersUriSpec);
+        when(requestHeadersUriSpec.uri(anyString())).thenReturn(requestHeadersUriSpec);
+        when(requestHeadersUriSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.toEntity(NasaAsteroidResponse.class)).thenReturn(ResponseEntity.ok(expectedResponse));
+
+        AsteroidTimeline result = nasaApiClient.getAsteroidData(ASTEROID_ID);
+
+        assertNull(result.getValidators());
+    }
+
+    @Test
+    void getAsteroidDataAsync_WithValidId_ShouldCompleteWithAsteroidResponse() {
+        NasaAsteroidResponse expectedResponse = new NasaAsteroidResponse();
+        expectedResponse.setId("1234567");
+
+        when(restClient.get()).thenReturn(requestHeadersUriSpec);
+        when(requestHeadersUriSpec.uri(anyString())).thenReturn(requestHeadersUriSpec);
+        when(requestHeadersUriSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.toEntity(NasaAsteroidResponse.class)).thenReturn(ResponseEntity.ok(expectedResponse));
+
+        CompletableFuture<AsteroidTimeline> result = nasaApiClient.getAsteroidDataAsync(ASTEROID_ID);
+
+        assertEquals("1234567", result.join().getId());
+        verify(nasaApiExecutor).execute(any(Runnable.class));
+    }
+
+    @Test
+    void getAsteroidDataAsync_WhenNotFound_ShouldCompleteExceptionally() {
+        HttpClientErrorException notFoundException = HttpClientErrorException.create(
+                HttpStatus.NOT_FOUND,
+                "Not Found",
+                null,
+                null,
+                null
+        );
+
+        when(restClient.get()).thenReturn(requestHeadersUriSpec);
+        when(requestHeadersUriSpec.uri(anyString())).thenReturn(requestHeadersUriSpec);
+        when(requestHeadersUriSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.toEntity(NasaAsteroidResponse.class)).thenThrow(notFoundException);
+
+        CompletableFuture<AsteroidTimeline> result = nasaApiClient.getAsteroidDataAsync(ASTEROID_ID);
+
+        CompletionException exception = assertThrows(CompletionException.class, result::join);
+        NasaApiException cause = assertInstanceOf(NasaApiException.class, exception.getCause());
+        assertEquals(HttpStatus.NOT_FOUND, cause.getHttpStatus());
+    }
+
+    @Test
+    void getAsteroidData_WithStreamingParser_ShouldConvertApproaches() {
+        AsteroidApproaches approaches = new AsteroidApproaches("1234567", "Asteroid Name",
+                new int[]{(int) LocalDate.of(1930, 6, 1).toEpochDay()}, new byte[]{PlanetDictionary.codeOf("Earth")});
+
+        when(nasaApiProperties.isStreamingParser()).thenReturn(true);
+        when(restClient.get()).thenReturn(requestHeadersUriSpec);
+        when(requestHeadersUriSpec.uri(anyString())).thenReturn(requestHeadersUriSpec);
+        when(requestHeadersUriSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.toEntity(AsteroidApproaches.class)).thenReturn(ResponseEntity.ok(approaches));
+
+        NasaAsteroidResponse result = nasaApiClient.getAsteroidData(ASTEROID_ID).toNasaAsteroidResponse();
+
+        assertEquals("1234567", result.getId());
+        assertEquals("Asteroid Name", result.getName());
+        assertEquals(1, result.getCloseApproachData().size());
+        assertEquals(LocalDate.of(1930, 6, 1), result.getCloseApproachData().get(0).getCloseApproachDate());
+        assertEquals("Earth", result.getCloseApproachData().get(0).getOrbitingBody());
+        verify(responseSpec, never()).body(NasaAsteroidResponse.class);
     }
 
     @Test
@@ -83,7 +233,7 @@ class NasaApiClientTest {
         when(restClient.get()).thenReturn(requestHeadersUriSpec);
         when(requestHeadersUriSpec.uri(anyString())).thenReturn(requestHeadersUriSpec);
         when(requestHeadersUriSpec.retrieve()).thenReturn(responseSpec);
-        when(responseSpec.body(NasaAsteroidResponse.class)).thenThrow(notFoundException);
+        when(responseSpec.toEntity(NasaAsteroidResponse.class)).thenThrow(notFoundException);
 
         NasaApiException exception = assertThrows(NasaApiException.class, () -> {
             nasaApiClient.getAsteroidData(ASTEROID_ID);
@@ -94,6 +244,32 @@ class NasaApiClientTest {
         assertNotNull(exception.getCause());
     }
 
+    @Test
+    void getAsteroidData_WhenRecentlyNotFound_ShouldNotCallNasaAgain() {
+        HttpClientErrorException notFoundException = HttpClientErrorException.create(
+                HttpStatus.NOT_FOUND,
+                "Not Found",
+                null,
+                null,
+                null
+        );
+
+        when(restClient.get()).thenReturn(requestHeadersUriSpec);
+        when(requestHeadersUriSpec.uri(anyString())).thenReturn(requestHeadersUriSpec);
+        when(requestHeadersUriSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.toEntity(NasaAsteroidResponse.class)).thenThrow(notFoundException);
+
+        assertThrows(NasaApiException.class, () -> nasaApiClient.getAsteroidData(ASTEROID_ID));
+        NasaApiException exception = assertThrows(NasaApiException.class, () -> {
+            nasaApiClient.getAsteroidData(ASTEROID_ID);
+        });
+
+        assertEquals(ApplicationError.NASA_ASTEROID_NOT_FOUND, exception.getError());
+        assertEquals(HttpStatus.NOT_FOUND, exception.getHttpStatus());
+        verify(restClient, times(1)).get();
+        verify(nasaRateLimiter, times(1)).acquire(any());
+    }
+
     @Test
     void getAsteroidData_WhenTooManyRequests_ShouldThrowNasaApiExceptionWithTooManyRequests() {
         HttpClientErrorException tooManyRequestsException = HttpClientErrorException.create(
@@ -107,7 +283,7 @@ class NasaApiClientTest {
         when(restClient.get()).thenReturn(requestHeadersUriSpec);
         when(requestHeadersUriSpec.uri(anyString())).thenReturn(requestHeadersUriSpec);
         when(requestHeadersUriSpec.retrieve()).thenReturn(responseSpec);
-        when(responseSpec.body(NasaAsteroidResponse.class)).thenThrow(tooManyRequestsException);
+        when(responseSpec.toEntity(NasaAsteroidResponse.class)).thenThrow(tooManyRequestsException);
 
         NasaApiException exception = assertThrows(NasaApiException.class, () -> {
             nasaApiClient.getAsteroidData(ASTEROID_ID);
@@ -131,7 +307,7 @@ class NasaApiClientTest {
         when(restClient.get()).thenReturn(requestHeadersUriSpec);
         when(requestHeadersUriSpec.uri(anyString())).thenReturn(requestHeadersUriSpec);
         when(requestHeadersUriSpec.retrieve()).thenReturn(responseSpec);
-        when(responseSpec.body(NasaAsteroidResponse.class)).thenThrow(badRequestException);
+        when(responseSpec.toEntity(NasaAsteroidResponse.class)).thenThrow(badRequestException);
 
         NasaApiException exception = assertThrows(NasaApiException.class, () -> {
             nasaApiClient.getAsteroidData(ASTEROID_ID);
@@ -155,7 +331,7 @@ class NasaApiClientTest {
         when(restClient.get()).thenReturn(requestHeadersUriSpec);
         when(requestHeadersUriSpec.uri(anyString())).thenReturn(requestHeadersUriSpec);
         when(requestHeadersUriSpec.retrieve()).thenReturn(responseSpec);
-        when(responseSpec.body(NasaAsteroidResponse.class)).thenThrow(serverErrorException);
+        when(responseSpec.toEntity(NasaAsteroidResponse.class)).thenThrow(serverErrorException);
 
         NasaApiException exception = assertThrows(NasaApiException.class, () -> {
             nasaApiClient.getAsteroidData(ASTEROID_ID);
@@ -179,7 +355,7 @@ class NasaApiClientTest {
         when(restClient.get()).thenReturn(requestHeadersUriSpec);
         when(requestHeadersUriSpec.uri(anyString())).thenReturn(requestHeadersUriSpec);
         when(requestHeadersUriSpec.retrieve()).thenReturn(responseSpec);
-        when(responseSpec.body(NasaAsteroidResponse.class)).thenThrow(serviceUnavailableException);
+        when(responseSpec.toEntity(NasaAsteroidResponse.class)).thenThrow(serviceUnavailableException);
 
         NasaApiException exception = assertThrows(NasaApiException.class, () -> {
             nasaApiClient.getAsteroidData(ASTEROID_ID);
@@ -197,7 +373,7 @@ class NasaApiClientTest {
         when(restClient.get()).thenReturn(requestHeadersUriSpec);
         when(requestHeadersUriSpec.uri(anyString())).thenReturn(requestHeadersUriSpec);
         when(requestHeadersUriSpec.retrieve()).thenReturn(responseSpec);
-        when(responseSpec.body(NasaAsteroidResponse.class)).thenThrow(unexpectedException);
+        when(responseSpec.toEntity(NasaAsteroidResponse.class)).thenThrow(unexpectedException);
 
         NasaApiException exception = assertThrows(NasaApiException.class, () -> {
             nasaApiClient.getAsteroidData(ASTEROID_ID);
@@ -215,10 +391,221 @@ class NasaApiClientTest {
         when(restClient.get()).thenReturn(requestHeadersUriSpec);
         when(requestHeadersUriSpec.uri(anyString())).thenReturn(requestHeadersUriSpec);
         when(requestHeadersUriSpec.retrieve()).thenReturn(responseSpec);
-        when(responseSpec.body(NasaAsteroidResponse.class)).thenReturn(null);
+        when(responseSpec.toEntity(NasaAsteroidResponse.class)).thenReturn(ResponseEntity.ok().build());
 
-        NasaAsteroidResponse result = nasaApiClient.getAsteroidData(ASTEROID_ID);
+        AsteroidTimeline result = nasaApiClient.getAsteroidData(ASTEROID_ID);
 
         assertNull(result);
     }
-}
\ No newline at end of file
+
+    @Test
+    void getBrowsePage_WithPageAndSize_ShouldCallBrowseEndpoint() {
+        NasaBrowsePage expectedPage = new NasaBrowsePage(2, 10, 200, List.of(), 128);
+
+        when(restClient.get()).thenReturn(requestHeadersUriSpec);
+        when(requestHeadersUriSpec.uri(anyString())).thenReturn(requestHeadersUriSpec);
+        when(requestHeadersUriSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.body(NasaBrowsePage.class)).thenReturn(expectedPage);
+
+        NasaBrowsePage result = nasaApiClient.getBrowsePage(2, 20);
+
+        assertSame(expectedPage, result);
+        verify(requestHeadersUriSpec).uri(BASE_URL + "/browse?page=2&size=20&api_key=" + API_KEY);
+        verify(nasaRateLimiter).acquire(CallPriority.BACKGROUND);
+    }
+
+    @Test
+    void getBrowsePage_WhenTooManyRequests_ShouldThrowRateLimitException() {
+        HttpClientErrorException tooManyRequestsException = HttpClientErrorException.create(
+                HttpStatus.TOO_MANY_REQUESTS,
+                "Too Many Requests",
+                null,
+                null,
+                null
+        );
+
+        when(restClient.get()).thenReturn(requestHeadersUriSpec);
+        when(requestHeadersUriSpec.uri(anyString())).thenReturn(requestHeadersUriSpec);
+        when(requestHeadersUriSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.body(NasaBrowsePage.class)).thenThrow(tooManyRequestsException);
+
+        NasaApiException exception = assertThrows(NasaApiException.class, () -> nasaApiClient.getBrowsePage(0, 20));
+
+        assertEquals(ApplicationError.NASA_RATE_LIMITER_EXCEEDED, exception.getError());
+    }
+
+    @Test
+    void getAsteroidData_WhenRateLimiterRejects_ShouldNotCallNasa() {
+        NasaApiException rejection = new NasaApiException(null, HttpStatus.TOO_MANY_REQUESTS, ApplicationError.NASA_RATE_LIMITER_EXCEEDED);
+        doThrow(rejection).when(nasaRateLimiter).acquire(CallPriority.INTERACTIVE);
+
+        NasaApiException exception = assertThrows(NasaApiException.class, () -> nasaApiClient.getAsteroidData(ASTEROID_ID));
+
+        assertSame(rejection, exception);
+        verifyNoInteractions(restClient);
+    }
+
+    @Test
+    void getAsteroidData_WhenCircuitOpen_ShouldNotCallNasa() {
+        NasaApiException rejection = new NasaApiException(null, HttpStatus.SERVICE_UNAVAILABLE, ApplicationError.NASA_SERVICE_UNAVAILABLE);
+        doThrow(rejection).when(nasaCircuitBreaker).acquirePermission();
+
+        NasaApiException exception = assertThrows(NasaApiException.class, () -> nasaApiClient.getAsteroidData(ASTEROID_ID));
+
+        assertEquals(ApplicationError.NASA_SERVICE_UNAVAILABLE, exception.getError());
+        verifyNoInteractions(restClient, nasaRateLimiter);
+    }
+
+    @Test
+    void getAsteroidData_WhenServerError_ShouldReportFailureToCircuitBreaker() {
+        when(restClient.get()).thenReturn(requestHeadersUriSpec);
+        when(requestHeadersUriSpec.uri(anyString())).thenReturn(requestHeadersUriSpec);
+        when(requestHeadersUriSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.toEntity(NasaAsteroidResponse.class))
+                .thenThrow(HttpServerErrorException.create(HttpStatus.SERVICE_UNAVAILABLE, "Unavailable", null, null, null));
+
+        assertThrows(NasaApiException.class, () -> nasaApiClient.getAsteroidData(ASTEROID_ID));
+
+        // one failure per attempt, the retries included
+        verify(nasaCircuitBreaker, times(3)).onError(anyLong(), any(NasaApiException.class));
+        verify(nasaCircuitBreaker, never()).onSuccess(anyLong());
+    }
+
+    @Test
+    void getAsteroidData_WhenRateLimiterRejects_ShouldReleaseCircuitBreakerPermission() {
+        doThrow(new NasaApiException(null, HttpStatus.TOO_MANY_REQUESTS, ApplicationError.NASA_RATE_LIMITER_EXCEEDED))
+                .when(nasaRateLimiter).acquire(CallPriority.INTERACTIVE);
+
+        assertThrows(NasaApiException.class, () -> nasaApiClient.getAsteroidData(ASTEROID_ID));
+
+        verify(nasaCircuitBreaker).releasePermission();
+    }
+
+    @Test
+    void getAsteroidData_WhenTransientServerError_ShouldRetry() {
+        NasaAsteroidResponse expectedResponse = new NasaAsteroidResponse();
+        expectedResponse.setId("1234567");
+
+        when(restClient.get()).thenReturn(requestHeadersUriSpec);
+        when(requestHeadersUriSpec.uri(anyString())).thenReturn(requestHeadersUriSpec);
+        when(requestHeadersUriSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.toEntity(NasaAsteroidResponse.class))
+                .thenThrow(HttpServerErrorException.create(HttpStatus.BAD_GATEWAY, "Bad Gateway", null, null, null))
+                .thenReturn(ResponseEntity.ok(expectedResponse));
+
+        AsteroidTimeline result = nasaApiClient.getAsteroidData(ASTEROID_ID);
+
+        assertEquals("1234567", result.getId());
+        verify(nasaRateLimiter, times(2)).acquire(CallPriority.INTERACTIVE);
+    }
+
+    @Test
+    void getAsteroidData_WhenNotFound_ShouldNotRetry() {
+        when(restClient.get()).thenReturn(requestHeadersUriSpec);
+        when(requestHeadersUriSpec.uri(anyString())).thenReturn(requestHeadersUriSpec);
+        when(requestHeadersUriSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.toEntity(NasaAsteroidResponse.class))
+                .thenThrow(HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", null, null, null));
+
+        assertThrows(NasaApiException.class, () -> nasaApiClient.getAsteroidData(ASTEROID_ID));
+
+        verify(restClient, times(1)).get();
+    }
+
+    @Test
+    void revalidateAsteroidData_WhenNotModified_ShouldConfirmCachedResponse() {
+        // loaded a week ago
+        long loadedAt = System.currentTimeMillis() - 7 * 24 * 60 * 60 * 1000L;
+        AsteroidTimeline cached = AsteroidTimeline.of(
+                new AsteroidApproaches("1234567", "Eros", new int[0], new byte[0]),
+                new ResponseValidators("\"v1\"", "Wed, 01 Jan 2025 00:00:00 GMT", "hash"), loadedAt);
+
+        when(restClient.get()).thenReturn(requestHeadersUriSpec);
+        when(requestHeadersUriSpec.uri(anyString())).thenReturn(requestHeadersUriSpec);
+        when(requestHeadersUriSpec.headers(any())).thenAnswer(invocation -> {
+            HttpHeaders headers = new HttpHeaders();
+            invocation.<Consumer<HttpHeaders>>getArgument(0).accept(headers);
+            assertEquals("\"v1\"", headers.getIfNoneMatch().get(0));
+            assertEquals("Wed, 01 Jan 2025 00:00:00 GMT", headers.getFirst(HttpHeaders.IF_MODIFIED_SINCE));
+            return requestHeadersUriSpec;
+        });
+        when(requestHeadersUriSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.toEntity(byte[].class)).thenReturn(ResponseEntity.status(HttpStatus.NOT_MODIFIED).build());
+
+        AsteroidRevalidation result = nasaApiClient.revalidateAsteroidData(ASTEROID_ID, cached);
+
+        assertNotSame(cached, result.getResponse());
+        assertTrue(cached.hasSameContentAs(result.getResponse()));
+        assertSame(cached.getValidators(), result.getResponse().getValidators());
+        assertTrue(result.getResponse().getLoadedAt() > loadedAt);
+        assertEquals(AsteroidRevalidation.Outcome.NOT_MODIFIED, result.getOutcome());
+        verify(nasaRateLimiter).acquire(CallPriority.BACKGROUND);
+    }
+
+    @Test
+    void revalidateAsteroidData_WhenContentHashMatches_ShouldKeepCachedResponse() {
+        byte[] body = ASTEROID_JSON.getBytes(StandardCharsets.UTF_8);
+        stubRevalidation(ResponseEntity.ok(body));
+        AsteroidTimeline first = nasaApiClient.revalidateAsteroidData(ASTEROID_ID, null).getResponse();
+
+        AsteroidRevalidation result = nasaApiClient.revalidateAsteroidData(ASTEROID_ID, first);
+
+        assertEquals(first.getId(), result.getResponse().getId());
+        assertEquals(first.getValidators().getContentHash(), result.getResponse().getValidators().getContentHash());
+        assertEquals(AsteroidRevalidation.Outcome.UNCHANGED, result.getOutcome());
+        assertEquals(body.length, result.getBytesRead());
+    }
+
+    @Test
+    void revalidateAsteroidData_WhenChanged_ShouldParseNewResponseWithValidators() {
+        AsteroidTimeline cached = timeline(new ResponseValidators(null, null, "stale-hash"));
+        stubRevalidation(ResponseEntity.ok().eTag("\"v2\"").body(ASTEROID_JSON.getBytes(StandardCharsets.UTF_8)));
+
+        AsteroidRevalidation result = nasaApiClient.revalidateAsteroidData(ASTEROID_ID, cached);
+
+        assertEquals(AsteroidRevalidation.Outcome.CHANGED, result.getOutcome());
+        assertEquals("Eros", result.getResponse().getName());
+        assertEquals("Earth", result.getResponse().toNasaAsteroidResponse().getCloseApproachData().get(0).getOrbitingBody());
+        assertEquals("\"v2\"", result.getResponse().getValidators().getEtag());
+        assertNotEquals("stale-hash", result.getResponse().getValidators().getContentHash());
+    }
+
+    @Test
+    void revalidateAsteroidData_WhenApproachAppended_ShouldMergeIntoCachedTimeline() {
+        AsteroidTimeline cached = AsteroidTimeline.of(new AsteroidApproaches("1234567", "Eros",
+                new int[]{(int) LocalDate.of(1930, 6, 1).toEpochDay()},
+                new byte[]{PlanetDictionary.codeOf("Earth")}), new ResponseValidators(null, null, "stale-hash"));
+        stubRevalidation(ResponseEntity.ok(("""
+                {"id":"1234567","name":"Eros","close_approach_data":[\
+                {"close_approach_date":"1930-06-01","orbiting_body":"Earth"},\
+                {"close_approach_date":"1975-01-23","orbiting_body":"Mars"}]}""").getBytes(StandardCharsets.UTF_8)));
+
+        AsteroidRevalidation result = nasaApiClient.revalidateAsteroidData(ASTEROID_ID, cached);
+
+        assertEquals(AsteroidRevalidation.Outcome.CHANGED, result.getOutcome());
+        assertEquals(2, result.getResponse().size());
+        assertEquals(1, result.getResponse().getPathCount());
+        assertEquals("Mars", result.getResponse().toPath(0).getToPlanet());
+        assertEquals(LocalDate.of(1975, 1, 23), result.getResponse().toPath(0).getToDate());
+    }
+
+    private void stubRevalidation(ResponseEntity<byte[]> entity) {
+        when(restClient.get()).thenReturn(requestHeadersUriSpec);
+        when(requestHeadersUriSpec.uri(anyString())).thenReturn(requestHeadersUriSpec);
+        when(requestHeadersUriSpec.headers(any())).thenReturn(requestHeadersUriSpec);
+        when(requestHeadersUriSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.toEntity(byte[].class)).thenReturn(entity);
+    }
+
+    private static AsteroidTimeline timeline(ResponseValidators validators) {
+        AsteroidApproaches approaches = new AsteroidApproaches("1234567", "Eros", new int[0], new byte[0]);
+        return AsteroidTimeline.of(approaches, validators);
+    }
+
+    private static NasaRetryProperties retryWithoutBackoff() {
+        NasaRetryProperties properties = new NasaRetryProperties();
+        properties.setInitialBackoff(0);
+        properties.setMaxBackoff(0);
+        return properties;
+    }
+}
@@ -0,0 +1,177 @@
+package com.example.fabrick_interview_task1.client.parser;
+
+import com.example.fabrick_interview_task1.model.AsteroidApproaches;
+import com.example.fabrick_interview_task1.model.CloseApproachData;
+import com.example.fabrick_interview_task1.model.NasaAsteroidResponse;
+import com.example.fabrick_interview_task1.model.NasaBrowsePage;
+import com.example.fabrick_interview_task1.model.PlanetDictionary;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NasaAsteroidStreamingParserTest {
+
+    private NasaAsteroidStreamingParser parser;
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        parser = new NasaAsteroidStreamingParser(new JsonFactory());
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"fixtures/neo-3542519.json", "fixtures/neo-2000433.json"})
+    void parse_WithRecordedFixture_ShouldMatchDatabinding(String fixture) throws IOException {
+        // Arrange
+        NasaAsteroidResponse expected;
+        try (InputStream in = fixture(fixture)) {
+            expected = objectMapper.readValue(in, NasaAsteroidResponse.class);
+        }
+
+        // Act
+        AsteroidApproaches approaches;
+        try (InputStream in = fixture(fixture)) {
+            approaches = parser.parse(in);
+        }
+
+        // Assert
+        assertEquals(expected.getId(), approaches.getId());
+        assertEquals(expected.getName(), approaches.getName());
+        assertEquals(expected.getCloseApproachData().size(), approaches.size());
+        for (int i = 0; i < approaches.size(); i++) {
+            CloseApproachData approach = expected.getCloseApproachData().get(i);
+            assertEquals(approach.getCloseApproachDate().toEpochDay(), approaches.getEpochDays()[i]);
+            assertEquals(approach.getOrbitingBody(), PlanetDictionary.nameOf(approaches.getPlanetCodes()[i]));
+        }
+    }
+
+    @Test
+    void parse_WithUnusedSubtrees_ShouldSkipThem() throws IOException {
+        // Arrange
+        String json = """
+                {"links":{"self":"x"},"id":"123","orbital_data":{"orbit_class":{"orbit_class_type":"AMO"}},
+                 "close_approach_data":[
+                   {"relative_velocity":{"kilometers_per_second":"1.0"},"close_approach_date":"2024-02-29",
+                    "miss_distance":{"lunar":"2.0"},"orbiting_body":"Earth"},
+                   {"close_approach_date":"1900-03-01","orbiting_body":"Juptr"}],
+                 "name":"(2010 PK9)","is_sentry_object":false}""";
+
+        // Act
+        AsteroidApproaches approaches = parser.parse(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+
+        // Assert
+        assertEquals("123", approaches.getId());
+        assertEquals("(2010 PK9)", approaches.getName());
+        assertArrayEquals(new int[]{(int) LocalDate.of(2024, 2, 29).toEpochDay(), (int) LocalDate.of(1900, 3, 1).toEpochDay()},
+                approaches.getEpochDays());
+        assertEquals("Earth", PlanetDictionary.nameOf(approaches.getPlanetCodes()[0]));
+        assertEquals("Juptr", PlanetDictionary.nameOf(approaches.getPlanetCodes()[1]));
+    }
+
+    @Test
+    void parse_WithIncompleteApproach_ShouldSkipIt() throws IOException {
+        // Arrange
+        String json = """
+                {"id":"123","close_approach_data":[
+                   {"close_approach_date":"2024-01-01"},
+                   {"close_approach_date":"2024-06-01","orbiting_body":"Pluto"}]}""";
+
+        // Act
+        AsteroidApproaches approaches = parser.parse(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+
+        // Assert
+        assertEquals(1, approaches.size());
+        assertEquals("Pluto", PlanetDictionary.nameOf(approaches.getPlanetCodes()[0]));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"2024-02-29", "2023-12-31", "2023-04-30", "2023-02-28"})
+    void parse_WithLastDayOfMonth_ShouldReadIt(String date) throws IOException {
+        // Arrange
+        String json = """
+                {"id":"123","close_approach_data":[{"close_approach_date":"%s","orbiting_body":"Earth"}]}"""
+                .formatted(date);
+
+        // Act
+        AsteroidApproaches approaches = parser.parse(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+
+        // Assert
+        assertEquals(LocalDate.parse(date).toEpochDay(), approaches.getEpochDays()[0]);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"2024-02-30", "2023-02-29", "2023-04-31"})
+    void parse_WithDayBeyondTheMonth_ShouldThrowException(String date) {
+        // Arrange
+        String json = """
+                {"id":"123","close_approach_data":[{"close_approach_date":"%s","orbiting_body":"Earth"}]}"""
+                .formatted(date);
+
+        // Act & Assert
+        assertThrows(DateTimeParseException.class,
+                () -> parser.parse(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8))));
+    }
+
+    @Test
+    void toNasaAsteroidResponse_ShouldRebuildCloseApproaches() throws IOException {
+        // Arrange
+        String json = """
+                {"id":"123","name":"Eros","close_approach_data":[{"close_approach_date":"1930-06-01","orbiting_body":"Earth"}]}""";
+        AsteroidApproaches approaches = parser.parse(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+
+        // Act
+        NasaAsteroidResponse response = approaches.toNasaAsteroidResponse();
+
+        // Assert
+        assertEquals("123", response.getId());
+        assertEquals("Eros", response.getName());
+        List<CloseApproachData> closeApproachData = response.getCloseApproachData();
+        assertEquals(1, closeApproachData.size());
+        assertEquals(LocalDate.of(1930, 6, 1), closeApproachData.get(0).getCloseApproachDate());
+        assertEquals("Earth", closeApproachData.get(0).getOrbitingBody());
+    }
+
+    @Test
+    void parseBrowsePage_ShouldReadPagingAndEveryAsteroid() throws IOException {
+        // Arrange
+        String json = """
+                {"links":{"next":"x"},"page":{"size":2,"total_elements":41,"total_pages":21,"number":3},
+                "near_earth_objects":[
+                {"id":"2000433","name":"433 Eros","close_approach_data":[{"close_approach_date":"1900-12-27","orbiting_body":"Earth"}]},
+                {"id":"2000719","name":"719 Albert","close_approach_data":[]}]}""";
+        byte[] payload = json.getBytes(StandardCharsets.UTF_8);
+
+        // Act
+        NasaBrowsePage page = parser.parseBrowsePage(new ByteArrayInputStream(payload));
+
+        // Assert
+        assertEquals(3, page.getNumber());
+        assertEquals(21, page.getTotalPages());
+        assertEquals(41, page.getTotalElements());
+        assertEquals(2, page.getNearEarthObjects().size());
+        assertEquals("2000433", page.getNearEarthObjects().get(0).getId());
+        assertEquals(1, page.getNearEarthObjects().get(0).size());
+        assertEquals("719 Albert", page.getNearEarthObjects().get(1).getName());
+        assertEquals(0, page.getNearEarthObjects().get(1).size());
+        assertEquals(payload.length, page.getPayloadBytes());
+    }
+
+    private InputStream fixture(String path) {
+        return getClass().getClassLoader().getResourceAsStream(path);
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.fabrick_interview_task1.client.transport;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompressedTransferInterceptorTest {
+
+    private static final String JSON = "{\"id\":\"2000433\",\"name\":\"433 Eros\",\"padding\":\"" + "x".repeat(2000) + "\"}";
+
+    private SimpleMeterRegistry meterRegistry;
+    private CompressedTransferInterceptor interceptor;
+    private MockClientHttpRequest request;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        interceptor = new CompressedTransferInterceptor(meterRegistry);
+        request = new MockClientHttpRequest(HttpMethod.GET, URI.create("https://api.nasa.gov/neo/rest/v1/neo/2000433"));
+    }
+
+    @Test
+    void intercept_ShouldAdvertiseGzipAndDeflate() throws IOException {
+        // Act
+        interceptor.intercept(request, new byte[0], (req, body) -> new MockClientHttpResponse(new byte[0], HttpStatus.OK));
+
+        // Assert
+        assertEquals(CompressedTransferInterceptor.ACCEPTED_ENCODINGS, request.getHeaders().getFirst(HttpHeaders.ACCEPT_ENCODING));
+    }
+
+    @Test
+    void intercept_WithGzipBody_ShouldDecodeAndRecordBothSizes() throws IOException {
+        // Arrange
+        byte[] compressed = gzip(JSON);
+        MockClientHttpResponse nasaResponse = new MockClientHttpResponse(compressed, HttpStatus.OK);
+        nasaResponse.getHeaders().set(HttpHeaders.CONTENT_ENCODING, "gzip");
+        nasaResponse.getHeaders().setContentLength(compressed.length);
+
+        // Act
+        String body;
+        try (ClientHttpResponse response = interceptor.intercept(request, new byte[0], (req, b) -> nasaResponse)) {
+            assertNull(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+            assertEquals(-1, response.getHeaders().getContentLength());
+            body = new String(response.getBody().readAllBytes(), StandardCharsets.UTF_8);
+        }
+
+        // Assert
+        assertEquals(JSON, body);
+        assertEquals(compressed.length, responseBytes("wire").totalAmount());
+        assertEquals(JSON.length(), responseBytes("decoded").totalAmount());
+        assertTrue(responseBytes("wire").totalAmount() < responseBytes("decoded").totalAmount());
+    }
+
+    @Test
+    void intercept_WithDeflateBody_ShouldDecode() throws IOException {
+        // Arrange
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (DeflaterOutputStream deflater = new DeflaterOutputStream(out)) {
+            deflater.write(JSON.getBytes(StandardCharsets.UTF_8));
+        }
+        MockClientHttpResponse nasaResponse = new MockClientHttpResponse(out.toByteArray(), HttpStatus.OK);
+        nasaResponse.getHeaders().set(HttpHeaders.CONTENT_ENCODING, "deflate");
+
+        // Act
+        String body;
+        try (ClientHttpResponse response = interceptor.intercept(request, new byte[0], (req, b) -> nasaResponse)) {
+            body = new String(response.getBody().readAllBytes(), StandardCharsets.UTF_8);
+        }
+
+        // Assert
+        assertEquals(JSON, body);
+    }
+
+    @Test
+    void intercept_WithIdentityBody_ShouldPassThrough() throws IOException {
+        // Arrange
+        byte[] plain = JSON.getBytes(StandardCharsets.UTF_8);
+        MockClientHttpResponse nasaResponse = new MockClientHttpResponse(plain, HttpStatus.OK);
+        nasaResponse.getHeaders().setContentLength(plain.length);
+
+        // Act
+        try (ClientHttpResponse response = interceptor.intercept(request, new byte[0], (req, b) -> nasaResponse)) {
+            assertEquals(plain.length, response.getHeaders().getContentLength());
+            response.getBody().readAllBytes();
+        }
+
+        // Assert
+        assertEquals(plain.length, responseBytes("wire").totalAmount());
+        assertEquals(plain.length, responseBytes("decoded").totalAmount());
+    }
+
+    @Test
+    void intercept_WithNotModified_ShouldNotDecodeEmptyBody() throws IOException {
+        // Arrange
+        MockClientHttpResponse nasaResponse = new MockClientHttpResponse(new byte[0], HttpStatus.NOT_MODIFIED);
+        nasaResponse.getHeaders().set(HttpHeaders.CONTENT_ENCODING, "gzip");
+
+        // Act
+        byte[] body;
+        try (ClientHttpResponse response = interceptor.intercept(request, new byte[0], (req, b) -> nasaResponse)) {
+            body = response.getBody().readAllBytes();
+        }
+
+        // Assert
+        assertEquals(0, body.length);
+    }
+
+    private DistributionSummary responseBytes(String stage) {
+        return meterRegistry.get("nasa.response.bytes").tag("stage", stage).summary();
+    }
+
+    private static byte[] gzip(String text) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(text.getBytes(StandardCharsets.UTF_8));
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,290 @@
+package com.example.fabrick_interview_task1.config.cache;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Local stand-in for a Redis server speaking RESP2, with the commands {@link RedisCacheStore} uses: {@code PING},
+ * {@code AUTH}, {@code SELECT}, {@code GET}, {@code SET} (with {@code PX}), {@code DEL}, {@code SCAN} (one page),
+ * {@code PUBLISH} and {@code SUBSCRIBE}. One thread per connection, on an ephemeral port of the loopback interface.
+ */
+class EmbeddedRedisServer implements Closeable {
+
+    private final ServerSocket serverSocket;
+    private final Map<String, Entry> data = new ConcurrentHashMap<>();
+    private final Map<String, Set<Client>> subscribers = new ConcurrentHashMap<>();
+    private final Set<Socket> sockets = ConcurrentHashMap.newKeySet();
+
+    EmbeddedRedisServer() throws IOException {
+        this.serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        Thread acceptor = new Thread(this::accept, "embedded-redis");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    boolean containsKey(String key) {
+        Entry entry = data.get(key);
+        return entry != null && !entry.isExpired();
+    }
+
+    Long ttlMillis(String key) {
+        Entry entry = data.get(key);
+        return entry != null && entry.expiresAt != Long.MAX_VALUE ? entry.expiresAt - System.currentTimeMillis() : null;
+    }
+
+    /**
+     * Drops every client connection, as a server restart would, keeping the data.
+     */
+    void disconnectClients() throws IOException {
+        for (Socket socket : sockets) {
+            socket.close();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        disconnectClients();
+    }
+
+    private void accept() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                sockets.add(socket);
+                Thread handler = new Thread(() -> serve(socket), "embedded-redis-client");
+                handler.setDaemon(true);
+                handler.start();
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        try (socket) {
+            Client client = new Client(socket, new BufferedInputStream(socket.getInputStream()),
+                    new BufferedOutputStream(socket.getOutputStream()));
+            List<byte[]> command;
+            while ((command = client.readCommand()) != null) {
+                execute(client, command);
+            }
+        } catch (IOException e) {
+            // client gone
+        } finally {
+            sockets.remove(socket);
+            subscribers.values().forEach(clients -> clients.removeIf(client -> client.socket == socket));
+        }
+    }
+
+    private void execute(Client client, List<byte[]> command) throws IOException {
+        String name = text(command.get(0)).toUpperCase();
+        switch (name) {
+            case "PING" -> client.simple("PONG");
+            case "AUTH", "SELECT" -> client.simple("OK");
+            case "GET" -> {
+                Entry entry = data.get(text(command.get(1)));
+                client.bulk(entry != null && !entry.isExpired() ? entry.value : null);
+            }
+            case "SET" -> {
+                long expiresAt = command.size() >= 5 && "PX".equalsIgnoreCase(text(command.get(3)))
+                        ? System.currentTimeMillis() + Long.parseLong(text(command.get(4)))
+                        : Long.MAX_VALUE;
+                data.put(text(command.get(1)), new Entry(command.get(2), expiresAt));
+                client.simple("OK");
+            }
+            case "DEL" -> {
+                long removed = 0;
+                for (int i = 1; i < command.size(); i++) {
+                    Entry entry = data.remove(text(command.get(i)));
+                    if (entry != null && !entry.isExpired()) {
+                        removed++;
+                    }
+                }
+                client.integer(removed);
+            }
+            case "SCAN" -> {
+                Pattern match = Pattern.compile(".*");
+                for (int i = 2; i + 1 < command.size(); i += 2) {
+                    if ("MATCH".equalsIgnoreCase(text(command.get(i)))) {
+                        match = glob(text(command.get(i + 1)));
+                    }
+                }
+                List<byte[]> keys = new ArrayList<>();
+                for (Map.Entry<String, Entry> entry : data.entrySet()) {
+                    if (!entry.getValue().isExpired() && match.matcher(entry.getKey()).matches()) {
+                        keys.add(entry.getKey().getBytes(StandardCharsets.UTF_8));
+                    }
+                }
+                client.scanPage(keys);
+            }
+            case "PUBLISH" -> {
+                Set<Client> clients = subscribers.getOrDefault(text(command.get(1)), Set.of());
+                for (Client subscriber : clients) {
+                    try {
+                        subscriber.message(command.get(1), command.get(2));
+                    } catch (IOException e) {
+                        // subscriber gone, removed when its handler ends
+                    }
+                }
+                client.integer(clients.size());
+            }
+            case "SUBSCRIBE" -> {
+                subscribers.computeIfAbsent(text(command.get(1)), channel -> ConcurrentHashMap.newKeySet()).add(client);
+                client.subscribed(command.get(1));
+            }
+            default -> client.error("ERR unknown command '" + name + "'");
+        }
+    }
+
+    private static Pattern glob(String glob) {
+        StringBuilder regex = new StringBuilder();
+        for (String part : glob.split("\\*", -1)) {
+            if (!regex.isEmpty()) {
+                regex.append(".*");
+            }
+            regex.append(Pattern.quote(part));
+        }
+        return Pattern.compile(regex.toString());
+    }
+
+    private static String text(byte[] bytes) {
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private record Entry(byte[] value, long expiresAt) {
+
+        boolean isExpired() {
+            return System.currentTimeMillis() >= expiresAt;
+        }
+    }
+
+    private static final class Client {
+
+        private final Socket socket;
+        private final InputStream in;
+        private final OutputStream out;
+
+        Client(Socket socket, InputStream in, OutputStream out) {
+            this.socket = socket;
+            this.in = in;
+            this.out = out;
+        }
+
+        List<byte[]> readCommand() throws IOException {
+            int type = in.read();
+            if (type < 0) {
+                return null;
+            }
+            if (type != '*') {
+                throw new IOException("Inline commands are not supported");
+            }
+            int count = Integer.parseInt(readLine());
+            List<byte[]> command = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                if (in.read() != '$') {
+                    throw new IOException("Bulk string expected");
+                }
+                int length = Integer.parseInt(readLine());
+                command.add(in.readNBytes(length));
+                in.skipNBytes(2);
+            }
+            return command;
+        }
+
+        synchronized void simple(String value) throws IOException {
+            writeLine("+" + value);
+            out.flush();
+        }
+
+        synchronized void error(String message) throws IOException {
+            writeLine("-" + message);
+            out.flush();
+        }
+
+        synchronized void integer(long value) throws IOException {
+            writeLine(":" + value);
+            out.flush();
+        }
+
+        synchronized void bulk(byte[] value) throws IOException {
+            writeBulk(value);
+            out.flush();
+        }
+
+        synchronized void scanPage(List<byte[]> keys) throws IOException {
+            writeLine("*2");
+            writeBulk("0".getBytes(StandardCharsets.US_ASCII));
+            writeLine("*" + keys.size());
+            for (byte[] key : keys) {
+                writeBulk(key);
+            }
+            out.flush();
+        }
+
+        synchronized void subscribed(byte[] channel) throws IOException {
+            writeLine("*3");
+            writeBulk("subscribe".getBytes(StandardCharsets.US_ASCII));
+            writeBulk(channel);
+            writeLine(":1");
+            out.flush();
+        }
+
+        synchronized void message(byte[] channel, byte[] payload) throws IOException {
+            writeLine("*3");
+            writeBulk("message".getBytes(StandardCharsets.US_ASCII));
+            writeBulk(channel);
+            writeBulk(payload);
+            out.flush();
+        }
+
+        private void writeBulk(byte[] value) throws IOException {
+            if (value == null) {
+                writeLine("$-1");
+                return;
+            }
+            writeLine("$" + value.length);
+            out.write(value);
+            writeLine("");
+        }
+
+        private void writeLine(String line) throws IOException {
+            out.write(line.getBytes(StandardCharsets.UTF_8));
+            out.write('\r');
+            out.write('\n');
+        }
+
+        private String readLine() throws IOException {
+            ByteArrayOutputStream line = new ByteArrayOutputStream(16);
+            int b;
+            while ((b = in.read()) != '\r') {
+                if (b < 0) {
+                    throw new EOFException();
+                }
+                line.write(b);
+            }
+            in.read();
+            return line.toString(StandardCharsets.UTF_8);
+        }
+    }
+}
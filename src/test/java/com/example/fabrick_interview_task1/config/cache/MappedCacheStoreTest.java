@@ -0,0 +1,150 @@
+package com.example.fabrick_interview_task1.config.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedCacheStoreTest {
+
+    private static final long TTL_MILLIS = 60_000;
+
+    @TempDir
+    Path directory;
+
+    private AtomicLong clock;
+    private SimpleMeterRegistry meterRegistry;
+    private MappedCacheStore store;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong(1_000_000);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (store != null) {
+            store.close();
+        }
+    }
+
+    @Test
+    void get_AfterPut_ShouldReturnLatestValue() throws IOException {
+        // Arrange
+        store = open(4096, 100);
+        store.put(1, new byte[]{1, 2, 3}, clock.get());
+        store.put(1, new byte[]{4, 5}, clock.get());
+
+        // Act
+        byte[] value = store.get(1);
+
+        // Assert
+        assertArrayEquals(new byte[]{4, 5}, value);
+        assertNull(store.get(2));
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    void open_AfterClose_ShouldRecoverLiveEntries() throws IOException {
+        // Arrange
+        store = open(4096, 100);
+        store.put(1, new byte[]{1}, clock.get());
+        store.put(2, new byte[]{2}, clock.get());
+        store.remove(1);
+        store.close();
+
+        // Act
+        store = open(4096, 100);
+
+        // Assert
+        assertNull(store.get(1));
+        assertArrayEquals(new byte[]{2}, store.get(2));
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    void open_WhenFileIsAlreadyOpen_ShouldFail() throws IOException {
+        // Arrange
+        store = open(4096, 100);
+
+        // Act & Assert
+        assertThrows(IOException.class, () -> open(4096, 100));
+    }
+
+    @Test
+    void get_WhenEntryOutlivesTtl_ShouldExpireIt() throws IOException {
+        // Arrange
+        store = open(4096, 100);
+        store.put(1, new byte[]{1}, clock.get() - TTL_MILLIS / 2);
+        clock.addAndGet(TTL_MILLIS / 2);
+
+        // Act
+        byte[] value = store.get(1);
+
+        // Assert
+        assertNull(value);
+        assertEquals(0, store.size());
+        assertEquals(1, meterRegistry.counter("cache.l2.evictions", "cache", "test", "cause", "expired").count());
+    }
+
+    @Test
+    void put_WhenEntryLimitIsReached_ShouldEvictOldestWritten() throws IOException {
+        // Arrange
+        store = open(4096, 2);
+        store.put(1, new byte[]{1}, clock.get());
+        store.put(2, new byte[]{2}, clock.get());
+
+        // Act
+        store.put(3, new byte[]{3}, clock.get());
+
+        // Assert
+        assertNull(store.get(1));
+        assertArrayEquals(new byte[]{2}, store.get(2));
+        assertArrayEquals(new byte[]{3}, store.get(3));
+        assertEquals(1, meterRegistry.counter("cache.l2.evictions", "cache", "test", "cause", "size").count());
+    }
+
+    @Test
+    void put_WhenFileIsFull_ShouldCompactAndKeepLiveEntries() throws IOException {
+        // Arrange: room for 4 records of 100 bytes after the file header
+        store = open(8 + 4 * 120, 100);
+        for (int key = 1; key <= 4; key++) {
+            store.put(key, filled(key), clock.get());
+        }
+        store.remove(2);
+        store.put(3, filled(33), clock.get());
+
+        // Act
+        store.put(5, filled(5), clock.get());
+        store.close();
+        store = open(8 + 4 * 120, 100);
+
+        // Assert
+        assertEquals(1, meterRegistry.counter("cache.l2.compactions", "cache", "test").count());
+        assertArrayEquals(filled(1), store.get(1));
+        assertNull(store.get(2));
+        assertArrayEquals(filled(33), store.get(3));
+        assertArrayEquals(filled(4), store.get(4));
+        assertArrayEquals(filled(5), store.get(5));
+    }
+
+    private MappedCacheStore open(int capacityBytes, long maximumEntries) throws IOException {
+        return new MappedCacheStore("test", directory.resolve("test.l2"), capacityBytes, maximumEntries, TTL_MILLIS,
+                meterRegistry, clock::get);
+    }
+
+    private static byte[] filled(int value) {
+        byte[] bytes = new byte[100];
+        Arrays.fill(bytes, (byte) value);
+        return bytes;
+    }
+}
@@ -0,0 +1,253 @@
+package com.example.fabrick_interview_task1.config.cache;
+
+import com.example.fabrick_interview_task1.model.AsteroidApproaches;
+import com.example.fabrick_interview_task1.model.AsteroidTimeline;
+import com.example.fabrick_interview_task1.model.PlanetDictionary;
+import com.example.fabrick_interview_task1.model.ResponseValidators;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RedisCacheStoreTest {
+
+    private static final long TTL_MILLIS = 60_000;
+
+    private final List<RedisCacheStore> stores = new ArrayList<>();
+    private SimpleMeterRegistry meterRegistry;
+    private EmbeddedRedisServer server;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        meterRegistry = new SimpleMeterRegistry();
+        server = new EmbeddedRedisServer();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        stores.forEach(RedisCacheStore::close);
+        server.close();
+    }
+
+    @Test
+    void put_ShouldStoreWithTimeToLiveLeftSinceLoad() {
+        // Arrange
+        RedisCacheStore store = open(server.getPort(), System::currentTimeMillis);
+        long loadedAt = System.currentTimeMillis() - 20_000;
+
+        // Act
+        store.put(7, new byte[]{1, 2, 3}, loadedAt);
+
+        // Assert
+        assertArrayEquals(new byte[]{1, 2, 3}, store.get(7));
+        assertNull(store.get(8));
+        long ttl = server.ttlMillis("test:asteroid:7");
+        assertTrue(ttl > 39_000 && ttl <= 40_000, "ttl " + ttl);
+    }
+
+    @Test
+    void put_WhenAlreadyExpired_ShouldNotStore() {
+        // Arrange
+        RedisCacheStore store = open(server.getPort(), System::currentTimeMillis);
+
+        // Act
+        store.put(7, new byte[]{1}, System.currentTimeMillis() - TTL_MILLIS);
+
+        // Assert
+        assertFalse(server.containsKey("test:asteroid:7"));
+    }
+
+    @Test
+    void removeAndClear_ShouldDeleteOnlyThisCacheKeys() {
+        // Arrange
+        RedisCacheStore store = open(server.getPort(), System::currentTimeMillis);
+        RedisCacheStore otherCache = track(new RedisCacheStore("other", properties(server.getPort()), meterRegistry));
+        long now = System.currentTimeMillis();
+        store.put(1, new byte[]{1}, now);
+        store.put(2, new byte[]{2}, now);
+        store.put(3, new byte[]{3}, now);
+        otherCache.put(1, new byte[]{9}, now);
+
+        // Act
+        boolean removed = store.remove(1);
+        boolean removedAgain = store.remove(1);
+        int cleared = store.clear();
+
+        // Assert
+        assertTrue(removed);
+        assertFalse(removedAgain);
+        assertEquals(2, cleared);
+        assertNull(store.get(2));
+        assertArrayEquals(new byte[]{9}, otherCache.get(1));
+    }
+
+    @Test
+    void invalidate_ShouldReachTheOtherInstancesOnly() throws InterruptedException {
+        // Arrange
+        RedisCacheStore first = open(server.getPort(), System::currentTimeMillis);
+        RedisCacheStore second = open(server.getPort(), System::currentTimeMillis);
+        RecordingListener firstListener = new RecordingListener();
+        RecordingListener secondListener = new RecordingListener();
+        first.setInvalidationListener(firstListener);
+        second.setInvalidationListener(secondListener);
+        awaitSubscribed(first, second);
+
+        // Act
+        first.invalidate(7);
+        first.clear();
+
+        // Assert
+        assertEquals("7", secondListener.events.poll(5, TimeUnit.SECONDS));
+        assertEquals("*", secondListener.events.poll(5, TimeUnit.SECONDS));
+        assertNull(firstListener.events.poll(200, TimeUnit.MILLISECONDS));
+        assertEquals(2, meterRegistry.counter("cache.l2.invalidations", "cache", "asteroid", "direction", "received")
+                .count());
+    }
+
+    @Test
+    void subscription_WhenLost_ShouldReportEverythingOutdatedOnceBack() throws Exception {
+        // Arrange
+        RedisCacheStore store = open(server.getPort(), System::currentTimeMillis);
+        RecordingListener listener = new RecordingListener();
+        store.setInvalidationListener(listener);
+        awaitSubscribed(store);
+
+        // Act
+        server.disconnectClients();
+
+        // Assert
+        assertEquals("*", listener.events.poll(5, TimeUnit.SECONDS));
+        assertTrue(store.isSubscribed());
+    }
+
+    @Test
+    void get_WhenServerIsDown_ShouldFailFastUntilTheReconnectDelay() throws IOException {
+        // Arrange
+        int closedPort;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            closedPort = socket.getLocalPort();
+        }
+        AtomicLong clock = new AtomicLong(1_000_000);
+        RedisCacheStore store = open(closedPort, clock::get);
+
+        // Act
+        UncheckedIOException connectFailure = assertThrows(UncheckedIOException.class, () -> store.get(7));
+        UncheckedIOException skipped = assertThrows(UncheckedIOException.class, () -> store.get(7));
+        clock.addAndGet(200);
+        UncheckedIOException retried = assertThrows(UncheckedIOException.class, () -> store.get(7));
+
+        // Assert
+        assertFalse(connectFailure.getMessage().contains("unavailable"));
+        assertTrue(skipped.getMessage().contains("unavailable"));
+        assertFalse(retried.getMessage().contains("unavailable"));
+        assertEquals(3, meterRegistry.counter("cache.l2.failures", "cache", "asteroid").count());
+    }
+
+    @Test
+    void tieredCaches_ShouldShareEntriesAndInvalidateRevalidatedOnes() throws InterruptedException {
+        // Arrange
+        RedisCacheStore firstStore = open(server.getPort(), System::currentTimeMillis);
+        RedisCacheStore secondStore = open(server.getPort(), System::currentTimeMillis);
+        ConcurrentMapCache secondL1 = new ConcurrentMapCache("asteroid");
+        TieredCache first = new TieredCache(new ConcurrentMapCache("asteroid"), firstStore, meterRegistry);
+        TieredCache second = new TieredCache(secondL1, secondStore, meterRegistry);
+        RecordingListener secondListener = new RecordingListener(second);
+        secondStore.setInvalidationListener(secondListener);
+        awaitSubscribed(firstStore, secondStore);
+        AsteroidTimeline loaded = timeline("3542519", "\"v1\"");
+        AsteroidTimeline revalidated = timeline("3542519", "\"v2\"");
+
+        // Act
+        first.get(3542519, () -> loaded);
+        AsteroidTimeline shared = second.get(3542519, () -> fail("NASA called by the second instance"));
+        first.revalidated(3542519, loaded, revalidated);
+        assertEquals("3542519", secondListener.events.poll(5, TimeUnit.SECONDS));
+        AsteroidTimeline refreshed = second.get(3542519, AsteroidTimeline.class);
+
+        // Assert
+        assertEquals("\"v1\"", shared.getValidators().getEtag());
+        assertEquals("\"v2\"", refreshed.getValidators().getEtag());
+        assertSame(refreshed, secondL1.get(3542519).get());
+    }
+
+    private RedisCacheStore open(int port, LongSupplier clock) {
+        return track(new RedisCacheStore("asteroid", properties(port), meterRegistry, clock));
+    }
+
+    private RedisCacheStore track(RedisCacheStore store) {
+        stores.add(store);
+        return store;
+    }
+
+    private static L2CacheProperties properties(int port) {
+        L2CacheProperties properties = new L2CacheProperties();
+        properties.setStore(L2CacheProperties.Store.REDIS);
+        properties.setExpireAfterWrite(TTL_MILLIS);
+        properties.getRedis().setHost("127.0.0.1");
+        properties.getRedis().setPort(port);
+        properties.getRedis().setKeyPrefix("test:");
+        properties.getRedis().setReconnectDelay(100);
+        return properties;
+    }
+
+    private static void awaitSubscribed(RedisCacheStore... stores) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        for (RedisCacheStore store : stores) {
+            while (!store.isSubscribed()) {
+                assertTrue(System.nanoTime() < deadline, "store not subscribed");
+                Thread.sleep(10);
+            }
+        }
+    }
+
+    private static AsteroidTimeline timeline(String id, String etag) {
+        int[] epochDays = {100, 200};
+        byte[] planetCodes = {PlanetDictionary.codeOf("Earth"), PlanetDictionary.codeOf("Mars")};
+        return AsteroidTimeline.of(new AsteroidApproaches(id, "(" + id + ")", epochDays, planetCodes),
+                new ResponseValidators(etag, null, "hash"));
+    }
+
+    private static final class RecordingListener implements CacheStore.InvalidationListener {
+
+        private final BlockingQueue<String> events = new LinkedBlockingQueue<>();
+        private final CacheStore.InvalidationListener delegate;
+
+        RecordingListener() {
+            this(null);
+        }
+
+        RecordingListener(CacheStore.InvalidationListener delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void invalidated(int key) {
+            if (delegate != null) {
+                delegate.invalidated(key);
+            }
+            events.add(Integer.toString(key));
+        }
+
+        @Override
+        public void cleared() {
+            if (delegate != null) {
+                delegate.cleared();
+            }
+            events.add("*");
+        }
+    }
+}
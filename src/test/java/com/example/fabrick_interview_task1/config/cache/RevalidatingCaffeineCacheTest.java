@@ -0,0 +1,201 @@
+package com.example.fabrick_interview_task1.config.cache;
+
+import com.example.fabrick_interview_task1.model.AsteroidApproaches;
+import com.example.fabrick_interview_task1.model.AsteroidTimeline;
+import com.example.fabrick_interview_task1.model.PlanetDictionary;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RevalidatingCaffeineCacheTest {
+
+    private static final Duration REVALIDATE_AFTER = Duration.ofHours(24);
+
+    private AtomicLong ticker;
+    private AsyncCache<Object, Object> nativeCache;
+    private AtomicInteger revalidations;
+
+    @BeforeEach
+    void setUp() {
+        ticker = new AtomicLong();
+        nativeCache = Caffeine.newBuilder()
+                .expireAfterWrite(7, TimeUnit.DAYS)
+                .ticker(ticker::get)
+                .executor(Runnable::run)
+                .buildAsync();
+        revalidations = new AtomicInteger();
+    }
+
+    @Test
+    void get_WhenEntryIsFresh_ShouldNotRevalidate() {
+        // Arrange
+        RevalidatingCaffeineCache cache = createCache((key, cached) -> "fresh");
+        cache.put(1, "cached");
+
+        // Act
+        Object value = cache.get(1).get();
+
+        // Assert
+        assertEquals("cached", value);
+        assertEquals(0, revalidations.get());
+    }
+
+    @Test
+    void get_WhenEntryIsStale_ShouldServeItAndReplaceInBackground() {
+        // Arrange
+        RevalidatingCaffeineCache cache = createCache((key, cached) -> "fresh");
+        cache.put(1, "cached");
+        ticker.addAndGet(REVALIDATE_AFTER.plusMinutes(1).toNanos());
+
+        // Act
+        Object served = cache.get(1).get();
+
+        // Assert
+        assertEquals("cached", served);
+        assertEquals(1, revalidations.get());
+        assertEquals("fresh", cache.get(1).get());
+    }
+
+    @Test
+    void retrieve_WhenRevalidatorKeepsValue_ShouldExtendEntry() {
+        // Arrange
+        RevalidatingCaffeineCache cache = createCache((key, cached) -> cached);
+        cache.put(1, "cached");
+        ticker.addAndGet(REVALIDATE_AFTER.plusMinutes(1).toNanos());
+
+        // Act
+        cache.retrieve(1).join();
+        ticker.addAndGet(Duration.ofHours(1).toNanos());
+        cache.retrieve(1).join();
+
+        // Assert
+        assertEquals(1, revalidations.get());
+        assertEquals(Duration.ofHours(1), nativeCache.synchronous().policy().expireAfterWrite().orElseThrow().ageOf(1).orElseThrow());
+    }
+
+    @Test
+    void get_WhenRevalidationFails_ShouldKeepStaleEntry() {
+        // Arrange
+        RevalidatingCaffeineCache cache = createCache((key, cached) -> {
+            throw new IllegalStateException("NASA down");
+        });
+        cache.put(1, "cached");
+        ticker.addAndGet(REVALIDATE_AFTER.plusMinutes(1).toNanos());
+
+        // Act
+        cache.get(1);
+        Object value = cache.get(1).get();
+
+        // Assert
+        assertEquals("cached", value);
+        assertEquals(2, revalidations.get());
+    }
+
+    @Test
+    void get_WhenRefreshIsPending_ShouldServeCachedValueWithoutWaiting() {
+        // Arrange
+        List<Runnable> scheduled = new ArrayList<>();
+        RevalidatingCaffeineCache cache = new RevalidatingCaffeineCache("test", nativeCache, true, REVALIDATE_AFTER,
+                (key, cached) -> "refreshed", scheduled::add);
+        cache.put(1, "cached");
+        ticker.addAndGet(REVALIDATE_AFTER.plusMinutes(1).toNanos());
+
+        // Act
+        Object served = cache.get(1).get();
+        Object servedAgain = cache.get(1).get();
+        scheduled.forEach(Runnable::run);
+
+        // Assert
+        assertEquals("cached", served);
+        assertEquals("cached", servedAgain);
+        assertEquals(1, scheduled.size());
+        assertEquals("refreshed", cache.get(1).get());
+    }
+
+    @Test
+    void put_WhenTimelineWasLoadedBeforeRevalidateAfter_ShouldRevalidateAtOnce() {
+        // Arrange
+        AsteroidTimeline refreshed = timeline(System.currentTimeMillis());
+        RevalidatingCaffeineCache cache = createCache((key, cached) -> refreshed);
+        AsteroidTimeline promoted = timeline(System.currentTimeMillis() - REVALIDATE_AFTER.plusMinutes(1).toMillis());
+
+        // Act
+        cache.put(1, promoted);
+
+        // Assert
+        assertEquals(1, revalidations.get());
+        assertSame(refreshed, cache.get(1).get());
+    }
+
+    @Test
+    void get_WhenLoaderReturnsTimelineLoadedBeforeRevalidateAfter_ShouldServeItAndRevalidate() {
+        // Arrange
+        List<Runnable> scheduled = new ArrayList<>();
+        AsteroidTimeline refreshed = timeline(System.currentTimeMillis());
+        RevalidatingCaffeineCache cache = new RevalidatingCaffeineCache("test", nativeCache, true, REVALIDATE_AFTER,
+                (key, cached) -> refreshed, scheduled::add);
+        AsteroidTimeline promoted = timeline(System.currentTimeMillis() - REVALIDATE_AFTER.plusMinutes(1).toMillis());
+
+        // Act
+        AsteroidTimeline served = cache.get(1, () -> promoted);
+        scheduled.forEach(Runnable::run);
+
+        // Assert
+        assertSame(promoted, served);
+        assertEquals(1, scheduled.size());
+        assertSame(refreshed, cache.get(1).get());
+    }
+
+    @Test
+    void put_WhenTimelineIsFresh_ShouldNotRevalidate() {
+        // Arrange
+        RevalidatingCaffeineCache cache = createCache((key, cached) -> "fresh");
+        AsteroidTimeline timeline = timeline(System.currentTimeMillis() - Duration.ofHours(1).toMillis());
+
+        // Act
+        cache.put(1, timeline);
+
+        // Assert
+        assertEquals(0, revalidations.get());
+        assertSame(timeline, cache.get(1).get());
+    }
+
+    @Test
+    void peek_WhenEntryIsStale_ShouldNotRevalidate() {
+        // Arrange
+        RevalidatingCaffeineCache cache = createCache((key, cached) -> "fresh");
+        cache.put(1, "cached");
+        ticker.addAndGet(REVALIDATE_AFTER.plusMinutes(1).toNanos());
+
+        // Act
+        Object value = TieredCache.peek(cache, 1);
+
+        // Assert
+        assertEquals("cached", value);
+        assertEquals(0, revalidations.get());
+    }
+
+    private static AsteroidTimeline timeline(long loadedAt) {
+        AsteroidApproaches approaches = new AsteroidApproaches("3542519", "(2010 PK9)", new int[]{100, 200},
+                new byte[]{PlanetDictionary.codeOf("Earth"), PlanetDictionary.codeOf("Mars")});
+        return AsteroidTimeline.of(approaches, null, loadedAt);
+    }
+
+    private RevalidatingCaffeineCache createCache(BiFunction<Object, Object, Object> revalidator) {
+        return new RevalidatingCaffeineCache("test", nativeCache, true, REVALIDATE_AFTER, (key, cached) -> {
+            revalidations.incrementAndGet();
+            return revalidator.apply(key, cached);
+        }, Runnable::run);
+    }
+}
@@ -0,0 +1,167 @@
+package com.example.fabrick_interview_task1.config.cache;
+
+import com.example.fabrick_interview_task1.model.AsteroidApproaches;
+import com.example.fabrick_interview_task1.model.AsteroidTimeline;
+import com.example.fabrick_interview_task1.model.PlanetDictionary;
+import com.example.fabrick_interview_task1.model.ResponseValidators;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TieredCacheTest {
+
+    @TempDir
+    Path directory;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConcurrentMapCache l1;
+    private MappedCacheStore l2;
+    private TieredCache cache;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        meterRegistry = new SimpleMeterRegistry();
+        l1 = new ConcurrentMapCache("asteroid");
+        l2 = new MappedCacheStore("asteroid", directory.resolve("asteroid.l2"), 64 * 1024, 100, 60_000, meterRegistry);
+        cache = new TieredCache(l1, l2, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        l2.close();
+    }
+
+    @Test
+    void put_ShouldWriteThroughToBothTiers() {
+        // Arrange
+        AsteroidTimeline timeline = timeline("3542519");
+
+        // Act
+        cache.put(3542519, timeline);
+
+        // Assert
+        assertSame(timeline, l1.get(3542519).get());
+        assertNotNull(l2.get(3542519));
+    }
+
+    @Test
+    void get_WhenOnlyInL2_ShouldPromoteToL1() {
+        // Arrange
+        AsteroidTimeline timeline = timeline("3542519");
+        cache.demote(3542519, timeline);
+
+        // Act
+        AsteroidTimeline promoted = cache.get(3542519, AsteroidTimeline.class);
+
+        // Assert
+        assertNotNull(promoted);
+        assertEquals("3542519", promoted.getId());
+        assertEquals(timeline.getLoadedAt(), promoted.getLoadedAt());
+        assertEquals("\"etag\"", promoted.getValidators().getEtag());
+        assertEquals(timeline.getPathCount(), promoted.getPathCount());
+        assertEquals(timeline.toPath(0), promoted.toPath(0));
+        assertSame(promoted, l1.get(3542519).get());
+        assertEquals(1, meterRegistry.counter("cache.tier.gets", "cache", "asteroid", "tier", "l2", "result", "hit")
+                .count());
+        assertEquals(1, meterRegistry.counter("cache.tier.demotions", "cache", "asteroid").count());
+    }
+
+    @Test
+    void get_WhenInNeitherTier_ShouldLoadAndStoreInBoth() {
+        // Arrange
+        AsteroidTimeline timeline = timeline("2000433");
+
+        // Act
+        AsteroidTimeline loaded = cache.get(2000433, () -> timeline);
+
+        // Assert
+        assertSame(timeline, loaded);
+        assertSame(timeline, l1.get(2000433).get());
+        assertNotNull(l2.get(2000433));
+        assertEquals(1, meterRegistry.counter("cache.tier.gets", "cache", "asteroid", "tier", "l2", "result", "miss")
+                .count());
+    }
+
+    @Test
+    void evict_ShouldRemoveFromBothTiers() {
+        // Arrange
+        cache.put(3542519, timeline("3542519"));
+
+        // Act
+        cache.evict(3542519);
+
+        // Assert
+        assertNull(cache.get(3542519));
+        assertNull(l2.get(3542519));
+    }
+
+    @Test
+    void peek_WhenOnlyInL2_ShouldReadItWithoutPromoting() {
+        // Arrange
+        AsteroidTimeline timeline = timeline("3542519");
+        cache.demote(3542519, timeline);
+
+        // Act
+        Object peeked = TieredCache.peek(cache, 3542519);
+
+        // Assert
+        assertEquals(timeline.getLoadedAt(), ((AsteroidTimeline) peeked).getLoadedAt());
+        assertNull(l1.get(3542519));
+        assertEquals(0, meterRegistry.counter("cache.tier.gets", "cache", "asteroid", "tier", "l1", "result", "miss")
+                .count());
+    }
+
+    @Test
+    void revalidated_WhenContentChanged_ShouldWriteToL2AndInvalidateOtherInstances() {
+        // Arrange
+        CacheStore store = spy(l2);
+        TieredCache tiered = new TieredCache(l1, store, meterRegistry);
+        AsteroidTimeline previous = timeline("3542519");
+        AsteroidTimeline changed = timeline("3542519");
+
+        // Act
+        tiered.revalidated(3542519, previous, changed);
+
+        // Assert
+        verify(store).put(eq(3542519), any(byte[].class), eq(changed.getLoadedAt()));
+        verify(store).invalidate(3542519);
+    }
+
+    @Test
+    void revalidated_WhenContentConfirmed_ShouldRestartL2TimeToLiveWithoutInvalidating() {
+        // Arrange
+        CacheStore store = spy(l2);
+        TieredCache tiered = new TieredCache(l1, store, meterRegistry);
+        long weekAgo = System.currentTimeMillis() - 7 * 24 * 60 * 60 * 1000L;
+        AsteroidTimeline previous = AsteroidTimeline.of(approaches("3542519"), null, weekAgo);
+        AsteroidTimeline confirmed = previous.withValidators(null);
+
+        // Act
+        tiered.revalidated(3542519, previous, confirmed);
+
+        // Assert
+        verify(store).put(eq(3542519), any(byte[].class), eq(confirmed.getLoadedAt()));
+        verify(store, never()).invalidate(anyInt());
+        assertEquals(confirmed.getLoadedAt(), tiered.get(3542519, AsteroidTimeline.class).getLoadedAt());
+    }
+
+    private static AsteroidTimeline timeline(String id) {
+        return AsteroidTimeline.of(approaches(id), new ResponseValidators("\"etag\"", null, "hash"));
+    }
+
+    private static AsteroidApproaches approaches(String id) {
+        int[] epochDays = {100, 200, 300};
+        byte[] planetCodes = {
+                PlanetDictionary.codeOf("Earth"), PlanetDictionary.codeOf("Mars"), PlanetDictionary.codeOf("Earth")};
+        return new AsteroidApproaches(id, "(" + id + ")", epochDays, planetCodes);
+    }
+}
@@ -1,7 +1,16 @@
 package com.example.fabrick_interview_task1.controller;
 
+import com.example.fabrick_interview_task1.constant.ApplicationError;
+import com.example.fabrick_interview_task1.exception.GlobalExceptionHandler;
+import com.example.fabrick_interview_task1.exception.NasaApiException;
 import com.example.fabrick_interview_task1.model.AsteroidPath;
-import com.example.fabrick_interview_task1.model.GenericResponse;
+import com.example.fabrick_interview_task1.model.AsteroidPathPage;
+import com.example.fabrick_interview_task1.model.AsteroidPaths;
+import com.example.fabrick_interview_task1.model.AsteroidPathsResponse;
+import com.example.fabrick_interview_task1.model.AsteroidTimeline;
+import com.example.fabrick_interview_task1.model.CloseApproachData;
+import com.example.fabrick_interview_task1.model.NasaAsteroidResponse;
+import com.example.fabrick_interview_task1.model.PathCursor;
 import com.example.fabrick_interview_task1.service.AsteroidService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -10,16 +19,31 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ExtendWith(MockitoExtension.class)
 class AsteroidControllerTest {
@@ -41,10 +65,10 @@ class AsteroidControllerTest {
         LocalDate toDate = LocalDate.now();
         List<AsteroidPath> expectedPaths = new ArrayList<>();
 
-        when(asteroidService.getAsteroidPaths(eq(asteroidId), any(LocalDate.class), any(LocalDate.class)))
-                .thenReturn(expectedPaths);
+        when(asteroidService.getAsteroidPathsAsync(eq(asteroidId), any(LocalDate.class), any(LocalDate.class)))
+                .thenReturn(CompletableFuture.completedFuture(expectedPaths));
 
-        ResponseEntity<GenericResponse<List<AsteroidPath>>> response = asteroidController.getAsteroidPaths(asteroidId, fromDate, toDate);
+        ResponseEntity<AsteroidPathsResponse> response = asteroidController.getAsteroidPaths(asteroidId, fromDate, toDate, null, null).join();
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
@@ -57,7 +81,7 @@ class AsteroidControllerTest {
         LocalDate toDate = LocalDate.now().minusDays(10);
 
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
-            asteroidController.getAsteroidPaths(asteroidId, fromDate, toDate);
+            asteroidController.getAsteroidPaths(asteroidId, fromDate, toDate, null, null);
         });
 
         assertEquals("fromDate cannot be greater than toDate", exception.getMessage());
@@ -69,10 +93,10 @@ class AsteroidControllerTest {
         int asteroidId = 123;
         List<AsteroidPath> expectedPaths = new ArrayList<>();
 
-        when(asteroidService.getAsteroidPaths(eq(asteroidId), any(LocalDate.class), any(LocalDate.class)))
-                .thenReturn(expectedPaths);
+        when(asteroidService.getAsteroidPathsAsync(eq(asteroidId), any(LocalDate.class), any(LocalDate.class)))
+                .thenReturn(CompletableFuture.completedFuture(expectedPaths));
 
-        ResponseEntity<GenericResponse<List<AsteroidPath>>> response = asteroidController.getAsteroidPaths(asteroidId, null, null);
+        ResponseEntity<AsteroidPathsResponse> response = asteroidController.getAsteroidPaths(asteroidId, null, null, null, null).join();
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
@@ -85,12 +109,172 @@ class AsteroidControllerTest {
         LocalDate sameDate = LocalDate.now().minusDays(5);
         List<AsteroidPath> expectedPaths = new ArrayList<>();
 
-        when(asteroidService.getAsteroidPaths(eq(asteroidId), any(LocalDate.class), any(LocalDate.class)))
-                .thenReturn(expectedPaths);
+        when(asteroidService.getAsteroidPathsAsync(eq(asteroidId), any(LocalDate.class), any(LocalDate.class)))
+                .thenReturn(CompletableFuture.completedFuture(expectedPaths));
 
-        ResponseEntity<GenericResponse<List<AsteroidPath>>> response = asteroidController.getAsteroidPaths(asteroidId, sameDate, sameDate);
+        ResponseEntity<AsteroidPathsResponse> response = asteroidController.getAsteroidPaths(asteroidId, sameDate, sameDate, null, null).join();
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
     }
-}
\ No newline at end of file
+
+    @Test
+    void getAsteroidPaths_WhenServiceFails_ShouldCompleteExceptionally() {
+        // Arrange
+        int asteroidId = 123;
+        NasaApiException failure = new NasaApiException(null, HttpStatus.NOT_FOUND, ApplicationError.NASA_ASTEROID_NOT_FOUND);
+
+        when(asteroidService.getAsteroidPathsAsync(eq(asteroidId), any(LocalDate.class), any(LocalDate.class)))
+                .thenReturn(CompletableFuture.failedFuture(failure));
+
+        // Act
+        CompletableFuture<ResponseEntity<AsteroidPathsResponse>> response = asteroidController.getAsteroidPaths(asteroidId, null, null, null, null);
+
+        // Assert
+        CompletionException exception = assertThrows(CompletionException.class, response::join);
+        assertSame(failure, exception.getCause());
+    }
+
+    @Test
+    void getAsteroidPaths_WithLimit_ShouldReturnFirstPageAndCursor() {
+        // Arrange
+        int asteroidId = 123;
+        LocalDate fromDate = LocalDate.of(2000, 1, 1);
+        LocalDate toDate = LocalDate.of(2020, 1, 1);
+        PathCursor first = PathCursor.first(fromDate.toEpochDay(), toDate.toEpochDay());
+        PathCursor next = first.at(LocalDate.of(2010, 1, 1).toEpochDay(), 0);
+        List<AsteroidPath> paths = List.of(new AsteroidPath("Earth", "Mars", fromDate, fromDate.plusYears(1)));
+
+        when(asteroidService.getAsteroidPathPageAsync(asteroidId, first, 1))
+                .thenReturn(CompletableFuture.completedFuture(new AsteroidPathPage(paths, next)));
+
+        // Act
+        ResponseEntity<AsteroidPathsResponse> response = asteroidController.getAsteroidPaths(asteroidId, fromDate, toDate, 1, null).join();
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(paths, response.getBody().getData());
+        assertEquals(next.encode(), response.getBody().getNextCursor());
+    }
+
+    @Test
+    void getAsteroidPaths_WithCursor_ShouldKeepTheRangeOfTheCursor() {
+        // Arrange
+        int asteroidId = 123;
+        PathCursor position = PathCursor.first(LocalDate.of(1925, 1, 1).toEpochDay(), LocalDate.of(2025, 1, 1).toEpochDay())
+                .at(LocalDate.of(1990, 1, 1).toEpochDay(), 1);
+
+        when(asteroidService.getAsteroidPathPageAsync(asteroidId, position, AsteroidController.DEFAULT_PAGE_SIZE))
+                .thenReturn(CompletableFuture.completedFuture(AsteroidPathPage.empty()));
+
+        // Act
+        ResponseEntity<AsteroidPathsResponse> response = asteroidController.getAsteroidPaths(asteroidId, null, null, null, position.encode()).join();
+
+        // Assert
+        assertEquals(List.of(), response.getBody().getData());
+        assertNull(response.getBody().getNextCursor());
+    }
+
+    @Test
+    void getAsteroidPaths_WithInvalidPaging_ShouldThrowException() {
+        // Arrange
+        int asteroidId = 123;
+        LocalDate fromDate = LocalDate.of(2000, 1, 1);
+        LocalDate toDate = LocalDate.of(2020, 1, 1);
+        String cursor = PathCursor.first(fromDate.toEpochDay(), toDate.toEpochDay()).encode();
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> asteroidController.getAsteroidPaths(asteroidId, fromDate, toDate, 0, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> asteroidController.getAsteroidPaths(asteroidId, fromDate, toDate, AsteroidController.MAX_PAGE_SIZE + 1, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> asteroidController.getAsteroidPaths(asteroidId, null, null, 10, "not-a-cursor"));
+        assertThrows(IllegalArgumentException.class,
+                () -> asteroidController.getAsteroidPaths(asteroidId, fromDate.plusDays(1), null, 10, cursor));
+        verifyNoInteractions(asteroidService);
+    }
+
+    @Test
+    void streamAsteroidPaths_ShouldWriteOnePathPerLine() throws Exception {
+        // Arrange
+        int asteroidId = 123;
+        LocalDate fromDate = LocalDate.of(1900, 1, 1);
+        LocalDate toDate = LocalDate.of(2100, 1, 1);
+        List<CloseApproachData> approaches = new ArrayList<>();
+        for (int year = 1900; year < 2000; year++) {
+            CloseApproachData approach = new CloseApproachData();
+            approach.setCloseApproachDate(LocalDate.of(year, 6, 1));
+            approach.setOrbitingBody(year % 2 == 0 ? "Earth" : "Mars");
+            approaches.add(approach);
+        }
+        NasaAsteroidResponse asteroid = new NasaAsteroidResponse();
+        asteroid.setCloseApproachData(approaches);
+        AsteroidPaths paths = AsteroidPaths.within(AsteroidTimeline.of(asteroid, null),
+                fromDate.toEpochDay(), toDate.toEpochDay());
+
+        when(asteroidService.getAsteroidPathViewAsync(asteroidId, fromDate, toDate))
+                .thenReturn(CompletableFuture.completedFuture(paths));
+
+        // Act
+        ResponseEntity<StreamingResponseBody> response = asteroidController.streamAsteroidPaths(asteroidId, fromDate, toDate).join();
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        response.getBody().writeTo(body);
+
+        // Assert
+        assertEquals(MediaType.APPLICATION_NDJSON, response.getHeaders().getContentType());
+        String[] lines = body.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(99, lines.length);
+        assertEquals("{\"fromPlanet\":\"Earth\",\"toPlanet\":\"Mars\",\"fromDate\":\"1900-06-01\",\"toDate\":\"1901-06-01\"}", lines[0]);
+        assertEquals("{\"fromPlanet\":\"Earth\",\"toPlanet\":\"Mars\",\"fromDate\":\"1998-06-01\",\"toDate\":\"1999-06-01\"}", lines[98]);
+        assertTrue(body.toString(StandardCharsets.UTF_8).endsWith("}\n"));
+    }
+
+    @Test
+    void streamAsteroidPaths_WithFromDateAfterToDate_ShouldThrowException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> asteroidController.streamAsteroidPaths(123, LocalDate.now(), LocalDate.now().minusDays(1)));
+        verifyNoInteractions(asteroidService);
+    }
+
+    @Test
+    void streamAsteroidPaths_WhenAsteroidNotFound_ShouldAnswerJsonError() throws Exception {
+        // Arrange
+        when(asteroidService.getAsteroidPathViewAsync(eq(123), any(LocalDate.class), any(LocalDate.class)))
+                .thenReturn(CompletableFuture.failedFuture(
+                        new NasaApiException(null, HttpStatus.NOT_FOUND, ApplicationError.NASA_ASTEROID_NOT_FOUND)));
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(asteroidController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+
+        // Act
+        MvcResult started = mockMvc.perform(get("/api/fabrick/v1.0/asteroids/123/paths")
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isNotFound())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.errorCode").value(ApplicationError.NASA_ASTEROID_NOT_FOUND.getErrorCode()));
+    }
+
+    @Test
+    void streamAsteroidPaths_WithFromDateAfterToDate_ShouldAnswerJsonError() throws Exception {
+        // Arrange
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(asteroidController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+
+        // Act & Assert
+        mockMvc.perform(get("/api/fabrick/v1.0/asteroids/123/paths")
+                        .param("fromDate", "2020-01-01")
+                        .param("toDate", "2010-01-01")
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.errorCode").value(ApplicationError.VALIDATION_ERROR.getErrorCode()));
+        verifyNoInteractions(asteroidService);
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.fabrick_interview_task1.controller;
+
+import com.example.fabrick_interview_task1.constant.Status;
+import com.example.fabrick_interview_task1.model.CacheJob;
+import com.example.fabrick_interview_task1.model.CacheJobRequest;
+import com.example.fabrick_interview_task1.model.GenericResponse;
+import com.example.fabrick_interview_task1.service.CacheAdminService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CacheAdminControllerTest {
+
+    @Mock
+    private CacheAdminService cacheAdminService;
+
+    @InjectMocks
+    private CacheAdminController cacheAdminController;
+
+    @Test
+    void preload_ShouldReturnAcceptedWithTheJob() {
+        // Arrange
+        CacheJobRequest request = new CacheJobRequest(List.of(1, 2), null, null);
+        CacheJob job = job(CacheJob.Operation.PRELOAD, CacheJob.State.RUNNING);
+        when(cacheAdminService.submit(CacheJob.Operation.PRELOAD, request)).thenReturn(job);
+
+        // Act
+        ResponseEntity<GenericResponse<CacheJob>> response = cacheAdminController.preload(request);
+
+        // Assert
+        assertEquals(HttpStatus.ACCEPTED, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(Status.SUCCESS, response.getBody().getStatus());
+        assertSame(job, response.getBody().getData());
+    }
+
+    @Test
+    void evict_ShouldSubmitAnEvictJob() {
+        // Arrange
+        CacheJobRequest request = new CacheJobRequest(null, 1, 10);
+        CacheJob job = job(CacheJob.Operation.EVICT, CacheJob.State.RUNNING);
+        when(cacheAdminService.submit(CacheJob.Operation.EVICT, request)).thenReturn(job);
+
+        // Act
+        ResponseEntity<GenericResponse<CacheJob>> response = cacheAdminController.evict(request);
+
+        // Assert
+        assertEquals(HttpStatus.ACCEPTED, response.getStatusCode());
+        assertSame(job, response.getBody().getData());
+    }
+
+    @Test
+    void cancel_ShouldReturnTheJob() {
+        // Arrange
+        CacheJob job = job(CacheJob.Operation.REFRESH, CacheJob.State.CANCELLED);
+        when(cacheAdminService.cancel(1)).thenReturn(job);
+
+        // Act
+        ResponseEntity<GenericResponse<CacheJob>> response = cacheAdminController.cancel(1);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(CacheJob.State.CANCELLED, response.getBody().getData().getState());
+    }
+
+    private static CacheJob job(CacheJob.Operation operation, CacheJob.State state) {
+        return new CacheJob(1, operation, state, 10, 0, 0, 0, Map.of(), LocalDateTime.now(), 0);
+    }
+}
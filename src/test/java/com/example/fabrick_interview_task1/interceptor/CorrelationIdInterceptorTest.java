@@ -95,6 +95,33 @@ class CorrelationIdInterceptorTest {
         assertNull(MDC.get(CorrelationIdInterceptor.CORRELATION_ID_KEY));
     }
 
+    @Test
+    void preHandle_OnAsyncDispatch_ShouldReuseGeneratedId() {
+        // Arrange
+        interceptor.preHandle(request, response, new Object());
+        String initialCorrelationId = MDC.get(CorrelationIdInterceptor.CORRELATION_ID_KEY);
+        interceptor.afterConcurrentHandlingStarted(request, response, new Object());
+
+        // Act
+        interceptor.preHandle(request, response, new Object());
+
+        // Assert
+        assertEquals(initialCorrelationId, MDC.get(CorrelationIdInterceptor.CORRELATION_ID_KEY));
+        assertEquals(initialCorrelationId, response.getHeader(CorrelationIdInterceptor.CORRELATION_ID_HEADER));
+    }
+
+    @Test
+    void afterConcurrentHandlingStarted_ShouldRemoveCorrelationIdFromMdc() {
+        // Arrange
+        MDC.put(CorrelationIdInterceptor.CORRELATION_ID_KEY, "test-id");
+
+        // Act
+        interceptor.afterConcurrentHandlingStarted(request, response, new Object());
+
+        // Assert
+        assertNull(MDC.get(CorrelationIdInterceptor.CORRELATION_ID_KEY));
+    }
+
     @Test
     void generatedCorrelationId_ShouldBeValidUuid() {
         // Act
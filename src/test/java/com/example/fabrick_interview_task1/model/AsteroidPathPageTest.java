@@ -0,0 +1,110 @@
+package com.example.fabrick_interview_task1.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsteroidPathPageTest {
+
+    private static final String[] BODIES = {"Earth", "Mars", "Earth", "Venus", "Venus", "Juptr"};
+
+    @Test
+    void of_PagingThroughTheRange_ShouldReturnEveryPathOnce() {
+        // Arrange
+        AsteroidTimeline timeline = timeline(1900, 2100);
+        long fromDay = LocalDate.of(1950, 3, 1).toEpochDay();
+        long toDay = LocalDate.of(2050, 3, 1).toEpochDay();
+
+        for (int limit = 1; limit <= 7; limit++) {
+            // Act
+            List<AsteroidPath> paged = new ArrayList<>();
+            PathCursor position = PathCursor.first(fromDay, toDay);
+            while (position != null) {
+                AsteroidPathPage page = AsteroidPathPage.of(timeline, PathCursor.decode(position.encode()), limit);
+                assertTrue(page.getPaths().size() <= limit);
+                paged.addAll(page.getPaths());
+                position = page.getNext();
+            }
+
+            // Assert
+            assertEquals(AsteroidPaths.within(timeline, fromDay, toDay), paged, "limit " + limit);
+        }
+    }
+
+    @Test
+    void of_AfterARefreshAppendedApproaches_ShouldContinueWithoutRepeatsOrGaps() {
+        // Arrange
+        AsteroidTimeline cached = timeline(1900, 2000);
+        AsteroidTimeline refreshed = timeline(1900, 2030);
+        long fromDay = LocalDate.of(1900, 1, 1).toEpochDay();
+        long toDay = LocalDate.of(2100, 1, 1).toEpochDay();
+        AsteroidPathPage firstPage = AsteroidPathPage.of(cached, PathCursor.first(fromDay, toDay), 50);
+
+        // Act
+        List<AsteroidPath> paged = new ArrayList<>(firstPage.getPaths());
+        PathCursor position = firstPage.getNext();
+        while (position != null) {
+            AsteroidPathPage page = AsteroidPathPage.of(refreshed, position, 50);
+            paged.addAll(page.getPaths());
+            position = page.getNext();
+        }
+
+        // Assert
+        assertEquals(AsteroidPaths.within(refreshed, fromDay, toDay), paged);
+    }
+
+    @Test
+    void of_WithSkipBeyondThePathsOfTheDay_ShouldContinueFromTheNextDay() {
+        // Arrange
+        AsteroidTimeline timeline = timeline(1900, 2000);
+        long fromDay = LocalDate.of(1900, 1, 1).toEpochDay();
+        long toDay = LocalDate.of(2000, 1, 1).toEpochDay();
+        long startDay = LocalDate.of(1950, 1, 1).toEpochDay();
+        PathCursor position = PathCursor.decode(PathCursor.first(fromDay, toDay).at(startDay, Integer.MAX_VALUE).encode());
+
+        // Act
+        AsteroidPathPage page = AsteroidPathPage.of(timeline, position, 5);
+
+        // Assert
+        AsteroidPaths afterTheDay = AsteroidPaths.within(timeline, startDay + 1, toDay);
+        assertEquals(afterTheDay.subList(0, 5), page.getPaths());
+        assertNotNull(page.getNext());
+    }
+
+    @Test
+    void decode_WithTamperedCursor_ShouldThrowException() {
+        // Arrange
+        String cursor = PathCursor.first(100, 200).at(150, 2).encode();
+
+        // Act & Assert
+        assertEquals(PathCursor.first(100, 200).at(150, 2), PathCursor.decode(cursor));
+        assertThrows(IllegalArgumentException.class, () -> PathCursor.decode("%%%"));
+        assertThrows(IllegalArgumentException.class, () -> PathCursor.decode(cursor.substring(1)));
+        assertThrows(IllegalArgumentException.class, () -> PathCursor.decode(PathCursor.first(100, 200).at(300, 0).encode()));
+    }
+
+    private static AsteroidTimeline timeline(int fromYear, int toYear) {
+        List<CloseApproachData> closeApproachData = new ArrayList<>();
+        for (int year = fromYear; year < toYear; year++) {
+            // two approaches on the same day every year, so several paths can start on one day
+            closeApproachData.add(approach(year, BODIES[year % BODIES.length]));
+            closeApproachData.add(approach(year, BODIES[(year + 1) % BODIES.length]));
+        }
+        NasaAsteroidResponse response = new NasaAsteroidResponse();
+        response.setId("3542519");
+        response.setName("(2010 PK9)");
+        response.setCloseApproachData(closeApproachData);
+        return AsteroidTimeline.of(response, null);
+    }
+
+    private static CloseApproachData approach(int year, String orbitingBody) {
+        CloseApproachData approach = new CloseApproachData();
+        approach.setCloseApproachDate(LocalDate.of(year, 1, 1));
+        approach.setOrbitingBody(orbitingBody);
+        return approach;
+    }
+}
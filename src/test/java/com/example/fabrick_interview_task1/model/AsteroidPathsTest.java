@@ -0,0 +1,96 @@
+package com.example.fabrick_interview_task1.model;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsteroidPathsTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @Test
+    void within_ShouldHoldThePathsOfTheRange() {
+        // Arrange
+        AsteroidTimeline timeline = timeline(LocalDate.of(2000, 1, 1), 10);
+
+        // Act
+        AsteroidPaths paths = AsteroidPaths.within(timeline,
+                LocalDate.of(2002, 1, 1).toEpochDay(), LocalDate.of(2005, 1, 1).toEpochDay());
+
+        // Assert
+        assertEquals(3, paths.size());
+        assertEquals(timeline.toPath(2), paths.get(0));
+        assertEquals(timeline.toPath(4), paths.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> paths.get(3));
+        assertThrows(UnsupportedOperationException.class, () -> paths.add(timeline.toPath(0)));
+    }
+
+    @Test
+    void within_WithRangeBeforeAnyPath_ShouldBeEmpty() {
+        // Arrange
+        AsteroidTimeline timeline = timeline(LocalDate.of(2000, 1, 1), 10);
+
+        // Act
+        AsteroidPaths paths = AsteroidPaths.within(timeline,
+                LocalDate.of(2003, 6, 1).toEpochDay(), LocalDate.of(2003, 7, 1).toEpochDay());
+
+        // Assert
+        assertTrue(paths.isEmpty());
+        assertEquals(List.of(), paths);
+    }
+
+    @Test
+    void serialize_ShouldWriteTheSameJsonAsTheMaterializedPaths() throws Exception {
+        // Arrange
+        // every 97 days for two centuries, across leap days and the turn of 1900 and 2000
+        AsteroidTimeline timeline = timeline(LocalDate.of(1899, 2, 27), 800);
+        AsteroidPaths paths = AsteroidPaths.within(timeline, Long.MIN_VALUE, Long.MAX_VALUE);
+        List<AsteroidPath> materialized = new ArrayList<>(paths);
+
+        // Act
+        String json = objectMapper.writeValueAsString(paths);
+
+        // Assert
+        assertEquals(799, paths.size());
+        assertEquals(objectMapper.writeValueAsString(materialized), json);
+    }
+
+    @Test
+    void serialize_WithDatesBeforeTheEpochAndBeyondYear9999_ShouldMatchLocalDate() throws Exception {
+        // Arrange
+        AsteroidTimeline timeline = AsteroidTimeline.of(new AsteroidApproaches("1", "(1)",
+                new int[]{(int) LocalDate.of(1, 1, 1).toEpochDay(), -1, 0, (int) LocalDate.of(10000, 3, 1).toEpochDay()},
+                new byte[]{PlanetDictionary.codeOf("Earth"), PlanetDictionary.codeOf("Mars"),
+                        PlanetDictionary.codeOf("Earth"), PlanetDictionary.codeOf("Mars")}), null);
+        AsteroidPaths paths = AsteroidPaths.within(timeline, Long.MIN_VALUE, Long.MAX_VALUE);
+
+        // Act
+        String json = objectMapper.writeValueAsString(paths);
+
+        // Assert
+        assertTrue(json.contains("\"fromDate\":\"0001-01-01\",\"toDate\":\"1969-12-31\""));
+        assertTrue(json.contains("\"fromDate\":\"1970-01-01\",\"toDate\":\"+10000-03-01\""));
+    }
+
+    private static AsteroidTimeline timeline(LocalDate start, int approaches) {
+        String[] bodies = {"Earth", "Mars", "Venus", "Juptr"};
+        List<CloseApproachData> closeApproachData = new ArrayList<>();
+        for (int i = 0; i < approaches; i++) {
+            CloseApproachData approach = new CloseApproachData();
+            approach.setCloseApproachDate(approaches > 10 ? start.plusDays(97L * i) : start.plusYears(i));
+            approach.setOrbitingBody(bodies[i % bodies.length]);
+            closeApproachData.add(approach);
+        }
+        NasaAsteroidResponse response = new NasaAsteroidResponse();
+        response.setId("3542519");
+        response.setName("(2010 PK9)");
+        response.setCloseApproachData(closeApproachData);
+        return AsteroidTimeline.of(response, null);
+    }
+}
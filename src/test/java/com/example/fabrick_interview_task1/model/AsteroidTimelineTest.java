@@ -0,0 +1,251 @@
+package com.example.fabrick_interview_task1.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsteroidTimelineTest {
+
+    @Test
+    void of_WithUnsortedApproaches_ShouldSortByDateKeepingTiesInDocumentOrder() {
+        // Arrange
+        NasaAsteroidResponse response = response(
+                approach(2025, 6, 15, "Juptr"),
+                approach(1930, 6, 1, "Earth"),
+                approach(2025, 6, 15, "Mars"),
+                approach(1999, 1, 1, "Venus"));
+
+        // Act
+        AsteroidTimeline timeline = AsteroidTimeline.of(response, null);
+
+        // Assert
+        List<CloseApproachData> approaches = timeline.toNasaAsteroidResponse().getCloseApproachData();
+        assertEquals(List.of("Earth", "Venus", "Juptr", "Mars"),
+                approaches.stream().map(CloseApproachData::getOrbitingBody).toList());
+        assertEquals(LocalDate.of(1930, 6, 1), approaches.get(0).getCloseApproachDate());
+        assertEquals(LocalDate.of(2025, 6, 15), approaches.get(3).getCloseApproachDate());
+    }
+
+    @Test
+    void of_WithRepeatedBodies_ShouldBuildOnlyTransitions() {
+        // Arrange
+        NasaAsteroidResponse response = response(
+                approach(2020, 1, 1, "Earth"),
+                approach(2021, 1, 1, "Earth"),
+                approach(2022, 1, 1, "Mars"),
+                approach(2023, 1, 1, "Mars"),
+                approach(2024, 1, 1, "Earth"));
+
+        // Act
+        AsteroidTimeline timeline = AsteroidTimeline.of(response, null);
+
+        // Assert
+        assertEquals(2, timeline.getPathCount());
+        assertEquals(new AsteroidPath("Earth", "Mars", LocalDate.of(2021, 1, 1), LocalDate.of(2022, 1, 1)),
+                timeline.toPath(0));
+        assertEquals(new AsteroidPath("Mars", "Earth", LocalDate.of(2023, 1, 1), LocalDate.of(2024, 1, 1)),
+                timeline.toPath(1));
+        assertEquals(LocalDate.of(2023, 1, 1).toEpochDay(), timeline.pathFromEpochDay(1));
+        assertEquals(LocalDate.of(2024, 1, 1).toEpochDay(), timeline.pathToEpochDay(1));
+    }
+
+    @Test
+    void of_WithoutCloseApproachData_ShouldBeEmpty() {
+        // Arrange
+        NasaAsteroidResponse response = new NasaAsteroidResponse();
+        response.setId("123");
+
+        // Act
+        AsteroidTimeline timeline = AsteroidTimeline.of(response, null);
+
+        // Assert
+        assertEquals(0, timeline.size());
+        assertEquals(0, timeline.getPathCount());
+        assertEquals("123", timeline.getId());
+    }
+
+    @Test
+    void withValidators_ShouldKeepContentAndReplaceValidators() {
+        // Arrange
+        AsteroidTimeline timeline = AsteroidTimeline.of(
+                response(approach(2020, 1, 1, "Earth"), approach(2021, 1, 1, "Venus")),
+                new ResponseValidators("\"v1\"", null, "hash"));
+        ResponseValidators fresh = new ResponseValidators("\"v2\"", null, "hash");
+
+        // Act
+        AsteroidTimeline revalidated = timeline.withValidators(fresh);
+
+        // Assert
+        assertSame(fresh, revalidated.getValidators());
+        assertEquals("\"v1\"", timeline.getValidators().getEtag());
+        assertEquals(timeline.toPath(0), revalidated.toPath(0));
+    }
+
+    @Test
+    void estimatedBytes_ShouldGrowWithApproaches() {
+        // Arrange
+        AsteroidTimeline small = AsteroidTimeline.of(
+                response(approach(2020, 1, 1, "Earth"), approach(2021, 1, 1, "Venus")), null);
+        List<CloseApproachData> approaches = new ArrayList<>();
+        for (int year = 1900; year < 2100; year++) {
+            approaches.add(approach(year, 1, 1, year % 2 == 0 ? "Earth" : "Mars"));
+        }
+        AsteroidTimeline large = AsteroidTimeline.of(response(approaches.toArray(CloseApproachData[]::new)), null);
+
+        // Act
+        long smallBytes = small.estimatedBytes();
+        long largeBytes = large.estimatedBytes();
+
+        // Assert
+        // header, arrays and strings: 48 + 24 + 24 + 48 (id) + 56 (name) + 24 (one transition)
+        assertEquals(224, smallBytes);
+        // 4 bytes of epoch day, 1 of planet code and 4 of transition per approach, 199 transitions
+        assertEquals(224 + 792 + 192 + 792, largeBytes);
+    }
+
+    @Test
+    void pathRange_ShouldBoundThePathsWithinEveryDateRange() {
+        // Arrange
+        List<CloseApproachData> approaches = new ArrayList<>();
+        String[] bodies = {"Earth", "Earth", "Mars", "Venus", "Venus", "Venus", "Earth"};
+        for (int year = 1900; year < 2100; year++) {
+            // same day twice per year, so paths can start and end on the same day as their neighbours
+            approaches.add(approach(year, 1, 1, bodies[year % bodies.length]));
+            approaches.add(approach(year, 1, 1, bodies[(year + 3) % bodies.length]));
+        }
+        AsteroidTimeline timeline = AsteroidTimeline.of(response(approaches.toArray(CloseApproachData[]::new)), null);
+        long firstDay = LocalDate.of(1899, 6, 1).toEpochDay();
+        long lastDay = LocalDate.of(2100, 6, 1).toEpochDay();
+
+        for (long fromDay = firstDay; fromDay <= lastDay; fromDay += 97) {
+            for (long toDay = fromDay - 200; toDay <= lastDay; toDay += 89) {
+                // Act
+                int first = timeline.firstPathFrom(fromDay);
+                int end = timeline.pathsEndingBy(toDay);
+
+                // Assert
+                List<Integer> expected = new ArrayList<>();
+                for (int path = 0; path < timeline.getPathCount(); path++) {
+                    if (timeline.pathFromEpochDay(path) >= fromDay && timeline.pathToEpochDay(path) <= toDay) {
+                        expected.add(path);
+                    }
+                }
+                List<Integer> actual = new ArrayList<>();
+                for (int path = first; path < end; path++) {
+                    actual.add(path);
+                }
+                assertEquals(expected, actual, "range " + fromDay + " to " + toDay);
+            }
+        }
+    }
+
+    @Test
+    void pathRange_WithoutPaths_ShouldBeEmpty() {
+        // Arrange
+        AsteroidTimeline timeline = AsteroidTimeline.of(response(approach(2020, 1, 1, "Earth")), null);
+
+        // Act & Assert
+        assertEquals(0, timeline.firstPathFrom(Long.MIN_VALUE));
+        assertEquals(0, timeline.pathsEndingBy(Long.MAX_VALUE));
+    }
+
+    @Test
+    void mergedWith_ShouldBuildTheSameTimelineAsAFullRebuild() {
+        // Arrange
+        Random random = new Random(42);
+        for (int run = 0; run < 500; run++) {
+            AsteroidApproaches original = approaches(random, random.nextInt(40));
+            AsteroidTimeline cached = AsteroidTimeline.of(original, null);
+            AsteroidApproaches refreshed = changed(random, original);
+            ResponseValidators validators = new ResponseValidators("\"v2\"", null, "hash");
+
+            // Act
+            AsteroidTimeline merged = cached.mergedWith(refreshed, validators);
+
+            // Assert
+            AsteroidTimeline rebuilt = AsteroidTimeline.of(refreshed, validators);
+            assertEquals(rebuilt.toNasaAsteroidResponse(), merged.toNasaAsteroidResponse(), "run " + run);
+            assertEquals(paths(rebuilt), paths(merged), "run " + run);
+            assertSame(validators, merged.getValidators());
+        }
+    }
+
+    @Test
+    void mergedWith_WhenApproachesAppended_ShouldKeepTheCachedPaths() {
+        // Arrange
+        AsteroidTimeline cached = AsteroidTimeline.of(response(
+                approach(2020, 1, 1, "Earth"), approach(2021, 1, 1, "Mars"), approach(2022, 1, 1, "Mars")), null);
+        AsteroidApproaches refreshed = new AsteroidApproaches("3542519", "(2010 PK9)",
+                new int[]{day(2020, 1, 1), day(2021, 1, 1), day(2022, 1, 1), day(2023, 1, 1)},
+                new byte[]{PlanetDictionary.codeOf("Earth"), PlanetDictionary.codeOf("Mars"),
+                        PlanetDictionary.codeOf("Mars"), PlanetDictionary.codeOf("Venus")});
+
+        // Act
+        AsteroidTimeline merged = cached.mergedWith(refreshed, null);
+
+        // Assert
+        assertEquals(4, merged.size());
+        assertEquals(List.of(cached.toPath(0),
+                        new AsteroidPath("Mars", "Venus", LocalDate.of(2022, 1, 1), LocalDate.of(2023, 1, 1))),
+                paths(merged));
+    }
+
+    private static AsteroidApproaches approaches(Random random, int size) {
+        int[] epochDays = new int[size];
+        byte[] planetCodes = new byte[size];
+        int day = day(1900, 1, 1);
+        for (int i = 0; i < size; i++) {
+            day += random.nextInt(3) == 0 ? 0 : random.nextInt(400);
+            epochDays[i] = day;
+            planetCodes[i] = (byte) random.nextInt(3);
+        }
+        return new AsteroidApproaches("3542519", "(2010 PK9)", epochDays, planetCodes);
+    }
+
+    private static AsteroidApproaches changed(Random random, AsteroidApproaches original) {
+        int kept = random.nextInt(original.size() + 1);
+        int added = random.nextInt(10);
+        int[] epochDays = Arrays.copyOf(original.getEpochDays(), kept + added);
+        byte[] planetCodes = Arrays.copyOf(original.getPlanetCodes(), kept + added);
+        int last = kept > 0 ? epochDays[kept - 1] : day(1900, 1, 1);
+        for (int i = kept; i < kept + added; i++) {
+            // mostly appended, sometimes dated before kept approaches or out of order
+            epochDays[i] = last + random.nextInt(2000) - (random.nextInt(4) == 0 ? 3000 : 0);
+            planetCodes[i] = (byte) random.nextInt(3);
+        }
+        return new AsteroidApproaches("3542519", "(2010 PK9)", epochDays, planetCodes);
+    }
+
+    private static List<AsteroidPath> paths(AsteroidTimeline timeline) {
+        List<AsteroidPath> paths = new ArrayList<>();
+        for (int path = 0; path < timeline.getPathCount(); path++) {
+            paths.add(timeline.toPath(path));
+        }
+        return paths;
+    }
+
+    private static int day(int year, int month, int day) {
+        return (int) LocalDate.of(year, month, day).toEpochDay();
+    }
+
+    private static NasaAsteroidResponse response(CloseApproachData... approaches) {
+        NasaAsteroidResponse response = new NasaAsteroidResponse();
+        response.setId("3542519");
+        response.setName("(2010 PK9)");
+        response.setCloseApproachData(new ArrayList<>(List.of(approaches)));
+        return response;
+    }
+
+    private static CloseApproachData approach(int year, int month, int day, String orbitingBody) {
+        CloseApproachData approach = new CloseApproachData();
+        approach.setCloseApproachDate(LocalDate.of(year, month, day));
+        approach.setOrbitingBody(orbitingBody);
+        return approach;
+    }
+}
@@ -0,0 +1,177 @@
+package com.example.fabrick_interview_task1.resilience;
+
+import com.example.fabrick_interview_task1.config.NasaCircuitBreakerProperties;
+import com.example.fabrick_interview_task1.constant.ApplicationError;
+import com.example.fabrick_interview_task1.exception.NasaApiException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NasaCircuitBreakerTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long SLOW = TimeUnit.SECONDS.toNanos(5);
+
+    private NasaCircuitBreakerProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicLong clock;
+    private NasaCircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        properties = new NasaCircuitBreakerProperties();
+        properties.setWindowSize(10);
+        properties.setMinimumCalls(4);
+        properties.setFailureRateThreshold(50);
+        properties.setSlowCallRateThreshold(75);
+        properties.setSlowCallDuration(1000);
+        properties.setOpenDuration(30000);
+        properties.setHalfOpenCalls(2);
+        meterRegistry = new SimpleMeterRegistry();
+        clock = new AtomicLong();
+        circuitBreaker = new NasaCircuitBreaker(properties, meterRegistry, clock::get);
+    }
+
+    @Test
+    void onError_WhenFailureRateCrossesThreshold_ShouldOpenAndRejectCalls() {
+        // Arrange
+        succeed(2);
+
+        // Act
+        fail(2);
+
+        // Assert
+        assertEquals(NasaCircuitBreaker.State.OPEN, circuitBreaker.getState());
+        NasaApiException exception = assertThrows(NasaApiException.class, circuitBreaker::acquirePermission);
+        assertEquals(ApplicationError.NASA_SERVICE_UNAVAILABLE, exception.getError());
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exception.getHttpStatus());
+        assertEquals(1, meterRegistry.get("nasa.circuit.breaker.rejected").counter().count());
+        assertEquals(1, meterRegistry.get("nasa.circuit.breaker.state").gauge().value());
+    }
+
+    @Test
+    void onSuccess_WhenSlowCallRateCrossesThreshold_ShouldOpen() {
+        // Act
+        for (int i = 0; i < 4; i++) {
+            circuitBreaker.acquirePermission();
+            circuitBreaker.onSuccess(SLOW);
+        }
+
+        // Assert
+        assertEquals(NasaCircuitBreaker.State.OPEN, circuitBreaker.getState());
+    }
+
+    @Test
+    void onError_WithClientErrors_ShouldNotOpen() {
+        // Act
+        for (int i = 0; i < 10; i++) {
+            circuitBreaker.acquirePermission();
+            circuitBreaker.onError(FAST, new NasaApiException(null, HttpStatus.NOT_FOUND, ApplicationError.NASA_ASTEROID_NOT_FOUND));
+        }
+
+        // Assert
+        assertEquals(NasaCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    void onError_WithForbiddenOrUnreadableResponses_ShouldNotOpen() {
+        // Act
+        for (int i = 0; i < 10; i++) {
+            circuitBreaker.acquirePermission();
+            circuitBreaker.onError(FAST, new NasaApiException(
+                    HttpClientErrorException.create(HttpStatus.FORBIDDEN, "Forbidden", null, null, null),
+                    HttpStatus.BAD_GATEWAY, ApplicationError.NASA_UNABLE_TO_RETRIEVE_DATA));
+            circuitBreaker.acquirePermission();
+            circuitBreaker.onError(FAST, new NasaApiException(new IOException("Unexpected end of input"),
+                    HttpStatus.INTERNAL_SERVER_ERROR, ApplicationError.GENERIC_ERROR));
+        }
+
+        // Assert
+        assertEquals(NasaCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    void onError_WithIoErrors_ShouldOpen() {
+        // Act
+        for (int i = 0; i < 4; i++) {
+            circuitBreaker.acquirePermission();
+            circuitBreaker.onError(FAST, new NasaApiException(new ResourceAccessException("Read timed out"),
+                    HttpStatus.INTERNAL_SERVER_ERROR, ApplicationError.GENERIC_ERROR));
+        }
+
+        // Assert
+        assertEquals(NasaCircuitBreaker.State.OPEN, circuitBreaker.getState());
+    }
+
+    @Test
+    void acquirePermission_AfterOpenDuration_ShouldAllowTrialCallsAndClose() {
+        // Arrange
+        fail(4);
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(30));
+
+        // Act
+        succeed(2);
+
+        // Assert
+        assertEquals(NasaCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        assertEquals(1, meterRegistry.get("nasa.circuit.breaker.transitions").tag("state", "half_open").counter().count());
+        assertEquals(1, meterRegistry.get("nasa.circuit.breaker.transitions").tag("state", "closed").counter().count());
+    }
+
+    @Test
+    void releasePermission_WhenHalfOpenPermitsAreTaken_ShouldAllowAnotherTrialCall() {
+        // Arrange
+        fail(4);
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(30));
+        circuitBreaker.acquirePermission();
+        circuitBreaker.acquirePermission();
+        assertThrows(NasaApiException.class, circuitBreaker::acquirePermission);
+
+        // Act
+        circuitBreaker.releasePermission();
+
+        // Assert
+        assertDoesNotThrow(circuitBreaker::acquirePermission);
+        assertThrows(NasaApiException.class, circuitBreaker::acquirePermission);
+    }
+
+    @Test
+    void onError_WhenTrialCallFails_ShouldReopen() {
+        // Arrange
+        fail(4);
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(30));
+
+        // Act
+        fail(1);
+
+        // Assert
+        assertEquals(NasaCircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertEquals(2, meterRegistry.get("nasa.circuit.breaker.transitions").tag("state", "open").counter().count());
+    }
+
+    private void succeed(int calls) {
+        for (int i = 0; i < calls; i++) {
+            circuitBreaker.acquirePermission();
+            circuitBreaker.onSuccess(FAST);
+        }
+    }
+
+    private void fail(int calls) {
+        for (int i = 0; i < calls; i++) {
+            circuitBreaker.acquirePermission();
+            circuitBreaker.onError(FAST, new NasaApiException(
+                    HttpServerErrorException.create(HttpStatus.SERVICE_UNAVAILABLE, "Service Unavailable", null, null, null),
+                    HttpStatus.INTERNAL_SERVER_ERROR, ApplicationError.GENERIC_ERROR));
+        }
+    }
+}
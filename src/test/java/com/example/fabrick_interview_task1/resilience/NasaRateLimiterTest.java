@@ -0,0 +1,169 @@
+package com.example.fabrick_interview_task1.resilience;
+
+import com.example.fabrick_interview_task1.config.NasaRateLimitProperties;
+import com.example.fabrick_interview_task1.constant.ApplicationError;
+import com.example.fabrick_interview_task1.exception.NasaApiException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NasaRateLimiterTest {
+
+    private NasaRateLimitProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicLong clock;
+
+    @BeforeEach
+    void setUp() {
+        properties = new NasaRateLimitProperties();
+        properties.setHourlyLimit(3600); // one call per second
+        properties.setBurst(2);
+        properties.setInteractiveReserve(10);
+        properties.setInteractiveMaxWait(100);
+        meterRegistry = new SimpleMeterRegistry();
+        clock = new AtomicLong();
+    }
+
+    @Test
+    void acquire_WithinBurst_ShouldNotWait() {
+        // Arrange
+        NasaRateLimiter rateLimiter = createRateLimiter();
+
+        // Act
+        rateLimiter.acquire(CallPriority.INTERACTIVE);
+        rateLimiter.acquire(CallPriority.INTERACTIVE);
+
+        // Assert
+        assertEquals(2, calls("interactive", "immediate"));
+        assertEquals(3598, rateLimiter.getRemaining());
+    }
+
+    @Test
+    void acquire_WhenNextTokenIsDueTooLate_ShouldFailFast() {
+        // Arrange
+        NasaRateLimiter rateLimiter = createRateLimiter();
+        rateLimiter.acquire(CallPriority.INTERACTIVE);
+        rateLimiter.acquire(CallPriority.INTERACTIVE);
+
+        // Act
+        NasaApiException exception = assertThrows(NasaApiException.class,
+                () -> rateLimiter.acquire(CallPriority.INTERACTIVE));
+
+        // Assert
+        assertEquals(ApplicationError.NASA_RATE_LIMITER_EXCEEDED, exception.getError());
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, exception.getHttpStatus());
+        assertEquals(1, calls("interactive", "rejected"));
+    }
+
+    @Test
+    void acquire_AfterRefill_ShouldSucceed() {
+        // Arrange
+        NasaRateLimiter rateLimiter = createRateLimiter();
+        rateLimiter.acquire(CallPriority.INTERACTIVE);
+        rateLimiter.acquire(CallPriority.INTERACTIVE);
+
+        // Act
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        rateLimiter.acquire(CallPriority.INTERACTIVE);
+
+        // Assert
+        assertEquals(3, calls("interactive", "immediate"));
+    }
+
+    @Test
+    void acquire_WhenTokenIsDueSoon_ShouldWaitForIt() {
+        // Arrange
+        properties.setHourlyLimit(36000); // one call every 100 ms
+        properties.setBurst(1);
+        properties.setInteractiveMaxWait(1000);
+        NasaRateLimiter rateLimiter = new NasaRateLimiter(properties, meterRegistry);
+        rateLimiter.acquire(CallPriority.INTERACTIVE);
+
+        // Act
+        long start = System.nanoTime();
+        rateLimiter.acquire(CallPriority.INTERACTIVE);
+        long waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // Assert
+        assertTrue(waitedMillis >= 50, "waited " + waitedMillis + " ms");
+        assertEquals(1, calls("interactive", "delayed"));
+    }
+
+    @Test
+    void acquire_Background_ShouldNotSpendInteractiveReserve() {
+        // Arrange
+        NasaRateLimiter rateLimiter = createRateLimiter();
+        rateLimiter.onResponse(HttpStatus.OK, rateLimitHeaders(3600, 10));
+
+        // Act
+        assertThrows(NasaApiException.class, () -> rateLimiter.acquire(CallPriority.BACKGROUND));
+        rateLimiter.acquire(CallPriority.INTERACTIVE);
+
+        // Assert
+        assertEquals(1, calls("background", "rejected"));
+        assertEquals(1, calls("interactive", "immediate"));
+    }
+
+    @Test
+    void onResponse_WithRateLimitHeaders_ShouldResyncBudget() {
+        // Arrange
+        NasaRateLimiter rateLimiter = createRateLimiter();
+
+        // Act
+        rateLimiter.onResponse(HttpStatus.OK, rateLimitHeaders(1000, 42));
+
+        // Assert
+        assertEquals(1000, rateLimiter.getLimit());
+        assertEquals(42, rateLimiter.getRemaining());
+        assertEquals(42, meterRegistry.get("nasa.rate.limit.remaining").gauge().value());
+    }
+
+    @Test
+    void onResponse_WithTooManyRequests_ShouldExhaustBudget() {
+        // Arrange
+        NasaRateLimiter rateLimiter = createRateLimiter();
+
+        // Act
+        rateLimiter.onResponse(HttpStatus.TOO_MANY_REQUESTS, new HttpHeaders());
+
+        // Assert
+        assertEquals(0, rateLimiter.getRemaining());
+        assertThrows(NasaApiException.class, () -> rateLimiter.acquire(CallPriority.INTERACTIVE));
+    }
+
+    @Test
+    void acquire_WhenDisabled_ShouldNeverReject() {
+        // Arrange
+        properties.setEnabled(false);
+        NasaRateLimiter rateLimiter = createRateLimiter();
+        rateLimiter.onResponse(HttpStatus.TOO_MANY_REQUESTS, new HttpHeaders());
+
+        // Act
+        rateLimiter.acquire(CallPriority.INTERACTIVE);
+
+        // Assert
+        assertEquals(0, calls("interactive", "rejected"));
+    }
+
+    private NasaRateLimiter createRateLimiter() {
+        return new NasaRateLimiter(properties, meterRegistry, clock::get);
+    }
+
+    private HttpHeaders rateLimitHeaders(int limit, int remaining) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(NasaRateLimiter.LIMIT_HEADER, String.valueOf(limit));
+        headers.set(NasaRateLimiter.REMAINING_HEADER, String.valueOf(remaining));
+        return headers;
+    }
+
+    private double calls(String priority, String outcome) {
+        return meterRegistry.get("nasa.rate.limit.calls").tag("priority", priority).tag("outcome", outcome).counter().count();
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.fabrick_interview_task1.resilience;
+
+import com.example.fabrick_interview_task1.config.NasaRetryProperties;
+import com.example.fabrick_interview_task1.constant.ApplicationError;
+import com.example.fabrick_interview_task1.exception.NasaApiException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NasaRetrierTest {
+
+    private NasaRetryProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private List<Long> backoffs;
+
+    @BeforeEach
+    void setUp() {
+        properties = new NasaRetryProperties();
+        properties.setMaxAttempts(3);
+        properties.setInitialBackoff(100);
+        properties.setMaxBackoff(150);
+        meterRegistry = new SimpleMeterRegistry();
+        backoffs = new ArrayList<>();
+    }
+
+    @Test
+    void execute_WhenTransientFailureThenSuccess_ShouldRetryWithJitteredBackoff() {
+        // Arrange
+        NasaRetrier retrier = createRetrier();
+        AtomicInteger attempts = new AtomicInteger();
+
+        // Act
+        String result = retrier.execute("test", () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw serverError(HttpStatus.SERVICE_UNAVAILABLE);
+            }
+            return "answer";
+        });
+
+        // Assert
+        assertEquals("answer", result);
+        assertEquals(3, attempts.get());
+        assertEquals(2, backoffs.size());
+        assertTrue(backoffs.get(0) <= 100);
+        assertTrue(backoffs.get(1) <= 150);
+        assertEquals(2, meterRegistry.get("nasa.retry.retries").counter().count());
+        assertEquals(1, meterRegistry.get("nasa.call.attempts").tag("attempt", "retry").tag("outcome", "success").timer().count());
+    }
+
+    @Test
+    void execute_WhenFailureIsNotRetryable_ShouldThrowAtOnce() {
+        // Arrange
+        NasaRetrier retrier = createRetrier();
+        AtomicInteger attempts = new AtomicInteger();
+        NasaApiException notFound = new NasaApiException(
+                HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", null, null, null),
+                HttpStatus.NOT_FOUND, ApplicationError.NASA_ASTEROID_NOT_FOUND);
+
+        // Act
+        NasaApiException exception = assertThrows(NasaApiException.class, () -> retrier.execute("test", () -> {
+            attempts.incrementAndGet();
+            throw notFound;
+        }));
+
+        // Assert
+        assertSame(notFound, exception);
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    void execute_WhenAttemptsAreExhausted_ShouldThrowLastFailure() {
+        // Arrange
+        NasaRetrier retrier = createRetrier();
+        AtomicInteger attempts = new AtomicInteger();
+
+        // Act
+        assertThrows(NasaApiException.class, () -> retrier.execute("test", () -> {
+            attempts.incrementAndGet();
+            throw ioError();
+        }));
+
+        // Assert
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    void execute_WhenBudgetIsEmpty_ShouldStopRetrying() {
+        // Arrange
+        properties.setBudgetMaxTokens(2);
+        properties.setBudgetRatio(0);
+        NasaRetrier retrier = createRetrier();
+        AtomicInteger attempts = new AtomicInteger();
+
+        // Act
+        for (int i = 0; i < 3; i++) {
+            assertThrows(NasaApiException.class, () -> retrier.execute("test", () -> {
+                attempts.incrementAndGet();
+                throw serverError(HttpStatus.BAD_GATEWAY);
+            }));
+        }
+
+        // Assert
+        assertEquals(3 + 2, attempts.get());
+        assertEquals(2, meterRegistry.get("nasa.retry.budget.exhausted").counter().count());
+        assertEquals(0, meterRegistry.get("nasa.retry.budget.tokens").gauge().value());
+    }
+
+    @Test
+    void isRetryable_ShouldOnlyAcceptConfiguredStatusesAndIoErrors() {
+        // Arrange
+        NasaRetrier retrier = createRetrier();
+
+        // Assert
+        assertTrue(retrier.isRetryable(serverError(HttpStatus.GATEWAY_TIMEOUT)));
+        assertTrue(retrier.isRetryable(ioError()));
+        assertFalse(retrier.isRetryable(serverError(HttpStatus.INTERNAL_SERVER_ERROR)));
+        assertFalse(retrier.isRetryable(new NasaApiException(null, HttpStatus.SERVICE_UNAVAILABLE, ApplicationError.NASA_SERVICE_UNAVAILABLE)));
+    }
+
+    private NasaRetrier createRetrier() {
+        return new NasaRetrier(properties, meterRegistry, backoffs::add);
+    }
+
+    private static NasaApiException serverError(HttpStatus status) {
+        return new NasaApiException(HttpServerErrorException.create(status, status.getReasonPhrase(), null, null, null),
+                HttpStatus.INTERNAL_SERVER_ERROR, ApplicationError.GENERIC_ERROR);
+    }
+
+    private static NasaApiException ioError() {
+        return new NasaApiException(new ResourceAccessException("Read timed out"),
+                HttpStatus.INTERNAL_SERVER_ERROR, ApplicationError.GENERIC_ERROR);
+    }
+}
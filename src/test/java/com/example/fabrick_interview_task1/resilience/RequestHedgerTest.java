@@ -0,0 +1,159 @@
+package com.example.fabrick_interview_task1.resilience;
+
+import com.example.fabrick_interview_task1.config.NasaHedgingProperties;
+import com.example.fabrick_interview_task1.constant.ApplicationError;
+import com.example.fabrick_interview_task1.exception.NasaApiException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestHedgerTest {
+
+    private NasaHedgingProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        properties = new NasaHedgingProperties();
+        properties.setEnabled(true);
+        properties.setMinimumSamples(5);
+        properties.setMinimumDelay(10);
+        meterRegistry = new SimpleMeterRegistry();
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void execute_BeforeEnoughSamples_ShouldNotHedge() {
+        // Arrange
+        RequestHedger hedger = new RequestHedger(properties, () -> true, executor, meterRegistry);
+
+        // Act
+        String result = hedger.execute(() -> "answer");
+
+        // Assert
+        assertEquals("answer", result);
+        assertEquals(0, hedger.getHedgeDelayNanos());
+        assertEquals(0, calls("not_needed"));
+    }
+
+    @Test
+    void execute_WhenPrimaryIsSlow_ShouldReturnHedgeAnswer() throws InterruptedException {
+        // Arrange
+        RequestHedger hedger = warmedUpHedger(() -> true);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger attempts = new AtomicInteger();
+        Supplier<String> attempt = () -> {
+            if (attempts.incrementAndGet() == 1) {
+                await(release);
+                return "primary";
+            }
+            return "hedge";
+        };
+
+        // Act
+        String result = hedger.execute(attempt);
+        release.countDown();
+
+        // Assert
+        assertEquals("hedge", result);
+        assertEquals(2, attempts.get());
+        assertEquals(1, calls("hedge_won"));
+    }
+
+    @Test
+    void execute_WhenNoSpareBudget_ShouldWaitForPrimary() {
+        // Arrange
+        RequestHedger hedger = warmedUpHedger(() -> false);
+        AtomicInteger attempts = new AtomicInteger();
+
+        // Act
+        String result = hedger.execute(() -> {
+            attempts.incrementAndGet();
+            sleep(50);
+            return "primary";
+        });
+
+        // Assert
+        assertEquals("primary", result);
+        assertEquals(1, attempts.get());
+        assertEquals(1, calls("skipped"));
+    }
+
+    @Test
+    void execute_WhenBothAttemptsFail_ShouldThrowOriginalException() {
+        // Arrange
+        RequestHedger hedger = warmedUpHedger(() -> true);
+        NasaApiException failure = new NasaApiException(null, HttpStatus.INTERNAL_SERVER_ERROR, ApplicationError.GENERIC_ERROR);
+
+        // Act
+        NasaApiException exception = assertThrows(NasaApiException.class, () -> hedger.execute(() -> {
+            sleep(50);
+            throw failure;
+        }));
+
+        // Assert
+        assertSame(failure, exception);
+    }
+
+    @Test
+    void execute_WhenPrimaryIsFast_ShouldNotHedge() {
+        // Arrange
+        RequestHedger hedger = warmedUpHedger(() -> true);
+        AtomicInteger attempts = new AtomicInteger();
+
+        // Act
+        hedger.execute(attempts::incrementAndGet);
+
+        // Assert
+        assertEquals(1, attempts.get());
+        assertEquals(1, calls("not_needed"));
+    }
+
+    private RequestHedger warmedUpHedger(BooleanSupplier hedgeBudget) {
+        properties.setEnabled(false);
+        RequestHedger hedger = new RequestHedger(properties, hedgeBudget, executor, meterRegistry);
+        for (int i = 0; i < properties.getMinimumSamples(); i++) {
+            hedger.execute(() -> "warm-up");
+        }
+        properties.setEnabled(true);
+        return hedger;
+    }
+
+    private double calls(String outcome) {
+        return meterRegistry.get("nasa.hedging.calls").tag("outcome", outcome).counter().count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
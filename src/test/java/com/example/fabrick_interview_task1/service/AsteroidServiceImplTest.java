@@ -4,6 +4,7 @@ import com.example.fabrick_interview_task1.client.impl.NasaApiClient;
 import com.example.fabrick_interview_task1.constant.ApplicationError;
 import com.example.fabrick_interview_task1.exception.NasaApiException;
 import com.example.fabrick_interview_task1.model.AsteroidPath;
+import com.example.fabrick_interview_task1.model.AsteroidTimeline;
 import com.example.fabrick_interview_task1.model.CloseApproachData;
 import com.example.fabrick_interview_task1.model.NasaAsteroidResponse;
 import com.example.fabrick_interview_task1.service.impl.AsteroidServiceImpl;
@@ -11,12 +12,13 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.when;
@@ -27,33 +29,11 @@ class AsteroidServiceImplTest {
     @Mock
     private NasaApiClient nasaApiClient;
 
-    @Spy
-    private AsteroidPathMapper asteroidPathMapper = new AsteroidPathMapperImpl();
-
     @InjectMocks
     private AsteroidServiceImpl asteroidService;
 
     @Test
-    void getAsteroidPaths_WithValidData_ShouldReturnPaths() {
-        // Arrange
-        int asteroidId = 1234567;
-        LocalDate fromDate = LocalDate.of(2024, 1, 1);
-        LocalDate toDate = LocalDate.of(2025, 12, 31);
-
-        NasaAsteroidResponse mockResponse = createMockResponse();
-        when(nasaApiClient.getAsteroidData(asteroidId))
-                .thenReturn(mockResponse);
-
-        // Act
-        List<AsteroidPath> result = asteroidService.getAsteroidPaths(asteroidId, fromDate, toDate);
-
-        // Assert
-        assertNotNull(result);
-        assertFalse(result.isEmpty());
-    }
-
-    @Test
-    void getAsteroidPaths_WithConsecutiveDifferentPlanets_ShouldCreatePaths() {
+    void getAsteroidPathsAsync_WithConsecutiveDifferentPlanets_ShouldCreatePaths() {
         // Arrange
         int asteroidId = 123;
         LocalDate fromDate = LocalDate.of(2024, 1, 1);
@@ -79,11 +59,11 @@ class AsteroidServiceImplTest {
 
         mockResponse.setCloseApproachData(approaches);
 
-        when(nasaApiClient.getAsteroidData(asteroidId))
-                .thenReturn(mockResponse);
+        when(nasaApiClient.getAsteroidDataAsync(asteroidId))
+                .thenReturn(CompletableFuture.completedFuture(AsteroidTimeline.of(mockResponse, null)));
 
         // Act
-        List<AsteroidPath> result = asteroidService.getAsteroidPaths(asteroidId, fromDate, toDate);
+        List<AsteroidPath> result = asteroidService.getAsteroidPathsAsync(asteroidId, fromDate, toDate).join();
 
         // Assert
         assertEquals(2, result.size());
@@ -102,7 +82,7 @@ class AsteroidServiceImplTest {
     }
 
     @Test
-    void getAsteroidPaths_WithSamePlanetConsecutive_ShouldNotCreatePath() {
+    void getAsteroidPathsAsync_WithSamePlanetConsecutive_ShouldNotCreatePath() {
         // Arrange
         int asteroidId = 123;
         LocalDate fromDate = LocalDate.of(2020, 1, 1);
@@ -123,18 +103,18 @@ class AsteroidServiceImplTest {
 
         mockResponse.setCloseApproachData(approaches);
 
-        when(nasaApiClient.getAsteroidData(asteroidId))
-                .thenReturn(mockResponse);
+        when(nasaApiClient.getAsteroidDataAsync(asteroidId))
+                .thenReturn(CompletableFuture.completedFuture(AsteroidTimeline.of(mockResponse, null)));
 
         // Act
-        List<AsteroidPath> result = asteroidService.getAsteroidPaths(asteroidId, fromDate, toDate);
+        List<AsteroidPath> result = asteroidService.getAsteroidPathsAsync(asteroidId, fromDate, toDate).join();
 
         // Assert
         assertTrue(result.isEmpty());
     }
 
     @Test
-    void getAsteroidPaths_FilterByDateRange_ShouldReturnOnlyPathsInRange() {
+    void getAsteroidPathsAsync_FilterByDateRange_ShouldReturnOnlyPathsInRange() {
         // Arrange
         int asteroidId = 123;
         LocalDate fromDate = LocalDate.of(2023, 5, 1);
@@ -173,11 +153,11 @@ class AsteroidServiceImplTest {
 
         mockResponse.setCloseApproachData(approaches);
 
-        when(nasaApiClient.getAsteroidData(asteroidId))
-                .thenReturn(mockResponse);
+        when(nasaApiClient.getAsteroidDataAsync(asteroidId))
+                .thenReturn(CompletableFuture.completedFuture(AsteroidTimeline.of(mockResponse, null)));
 
         // Act
-        List<AsteroidPath> result = asteroidService.getAsteroidPaths(asteroidId, fromDate, toDate);
+        List<AsteroidPath> result = asteroidService.getAsteroidPathsAsync(asteroidId, fromDate, toDate).join();
 
         // Assert
         assertEquals(1, result.size());
@@ -186,17 +166,17 @@ class AsteroidServiceImplTest {
     }
 
     @Test
-    void getAsteroidPaths_WithNullResponse_ShouldReturnEmptyList() {
+    void getAsteroidPathsAsync_WithNullResponse_ShouldReturnEmptyList() {
         // Arrange
         int asteroidId = 123;
         LocalDate fromDate = LocalDate.of(2023, 1, 1);
         LocalDate toDate = LocalDate.of(2025, 12, 31);
 
-        when(nasaApiClient.getAsteroidData(asteroidId))
-                .thenReturn(null);
+        when(nasaApiClient.getAsteroidDataAsync(asteroidId))
+                .thenReturn(CompletableFuture.completedFuture(null));
 
         // Act
-        List<AsteroidPath> result = asteroidService.getAsteroidPaths(asteroidId, fromDate, toDate);
+        List<AsteroidPath> result = asteroidService.getAsteroidPathsAsync(asteroidId, fromDate, toDate).join();
 
         // Assert
         assertNotNull(result);
@@ -204,7 +184,7 @@ class AsteroidServiceImplTest {
     }
 
     @Test
-    void getAsteroidPaths_WithEmptyCloseApproachData_ShouldReturnEmptyList() {
+    void getAsteroidPathsAsync_WithEmptyCloseApproachData_ShouldReturnEmptyList() {
         // Arrange
         int asteroidId = 123;
         LocalDate fromDate = LocalDate.of(2023, 1, 1);
@@ -213,11 +193,11 @@ class AsteroidServiceImplTest {
         NasaAsteroidResponse mockResponse = new NasaAsteroidResponse();
         mockResponse.setCloseApproachData(new ArrayList<>());
 
-        when(nasaApiClient.getAsteroidData(asteroidId))
-                .thenReturn(mockResponse);
+        when(nasaApiClient.getAsteroidDataAsync(asteroidId))
+                .thenReturn(CompletableFuture.completedFuture(AsteroidTimeline.of(mockResponse, null)));
 
         // Act
-        List<AsteroidPath> result = asteroidService.getAsteroidPaths(asteroidId, fromDate, toDate);
+        List<AsteroidPath> result = asteroidService.getAsteroidPathsAsync(asteroidId, fromDate, toDate).join();
 
         // Assert
         assertNotNull(result);
@@ -225,25 +205,7 @@ class AsteroidServiceImplTest {
     }
 
     @Test
-    void getAsteroidPaths_WithException_ShouldThrowNasaApiException() {
-        // Arrange
-        int asteroidId = 123;
-        LocalDate fromDate = LocalDate.of(2020, 1, 1);
-        LocalDate toDate = LocalDate.of(2020, 12, 31);
-
-        when(nasaApiClient.getAsteroidData(asteroidId))
-                .thenThrow(new NasaApiException(null, null, ApplicationError.NASA_UNABLE_TO_RETRIEVE_DATA));
-
-        // Act & Assert
-        NasaApiException nasaApiException = assertThrows(NasaApiException.class, () -> {
-            asteroidService.getAsteroidPaths(asteroidId, fromDate, toDate);
-        });
-
-        assertEquals(ApplicationError.NASA_UNABLE_TO_RETRIEVE_DATA, nasaApiException.getError());
-    }
-
-    @Test
-    void getAsteroidPaths_WithUnsortedDates_ShouldSortAndCreatePaths() {
+    void getAsteroidPathsAsync_WithUnsortedDates_ShouldSortAndCreatePaths() {
         // Arrange
         int asteroidId = 123;
         LocalDate fromDate = LocalDate.of(2023, 1, 1);
@@ -270,11 +232,11 @@ class AsteroidServiceImplTest {
 
         mockResponse.setCloseApproachData(approaches);
 
-        when(nasaApiClient.getAsteroidData(asteroidId))
-                .thenReturn(mockResponse);
+        when(nasaApiClient.getAsteroidDataAsync(asteroidId))
+                .thenReturn(CompletableFuture.completedFuture(AsteroidTimeline.of(mockResponse, null)));
 
         // Act
-        List<AsteroidPath> result = asteroidService.getAsteroidPaths(asteroidId, fromDate, toDate);
+        List<AsteroidPath> result = asteroidService.getAsteroidPathsAsync(asteroidId, fromDate, toDate).join();
 
         // Assert
         assertEquals(2, result.size());
@@ -285,6 +247,44 @@ class AsteroidServiceImplTest {
         assertEquals("Jupiter", result.get(1).getToPlanet());
     }
 
+    @Test
+    void getAsteroidPathsAsync_WithValidData_ShouldCompleteWithPaths() {
+        // Arrange
+        int asteroidId = 1234567;
+        LocalDate fromDate = LocalDate.of(2024, 1, 1);
+        LocalDate toDate = LocalDate.of(2025, 12, 31);
+
+        when(nasaApiClient.getAsteroidDataAsync(asteroidId))
+                .thenReturn(CompletableFuture.completedFuture(AsteroidTimeline.of(createMockResponse(), null)));
+
+        // Act
+        List<AsteroidPath> result = asteroidService.getAsteroidPathsAsync(asteroidId, fromDate, toDate).join();
+
+        // Assert
+        assertEquals(1, result.size());
+        assertEquals("Earth", result.getFirst().getFromPlanet());
+        assertEquals("Jupiter", result.getFirst().getToPlanet());
+    }
+
+    @Test
+    void getAsteroidPathsAsync_WithException_ShouldCompleteExceptionally() {
+        // Arrange
+        int asteroidId = 123;
+        LocalDate fromDate = LocalDate.of(2020, 1, 1);
+        LocalDate toDate = LocalDate.of(2020, 12, 31);
+        NasaApiException failure = new NasaApiException(null, null, ApplicationError.NASA_UNABLE_TO_RETRIEVE_DATA);
+
+        when(nasaApiClient.getAsteroidDataAsync(asteroidId))
+                .thenReturn(CompletableFuture.failedFuture(failure));
+
+        // Act & Assert
+        CompletionException exception = assertThrows(CompletionException.class, () -> {
+            asteroidService.getAsteroidPathsAsync(asteroidId, fromDate, toDate).join();
+        });
+
+        assertSame(failure, exception.getCause());
+    }
+
     private NasaAsteroidResponse createMockResponse() {
         NasaAsteroidResponse response = new NasaAsteroidResponse();
         List<CloseApproachData> approaches = new ArrayList<>();
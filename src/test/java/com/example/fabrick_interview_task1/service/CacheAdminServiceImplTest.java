@@ -0,0 +1,245 @@
+package com.example.fabrick_interview_task1.service;
+
+import com.example.fabrick_interview_task1.client.NasaApiClient;
+import com.example.fabrick_interview_task1.config.CacheAdminProperties;
+import com.example.fabrick_interview_task1.config.cache.CacheConfig;
+import com.example.fabrick_interview_task1.constant.ApplicationError;
+import com.example.fabrick_interview_task1.exception.ApplicationException;
+import com.example.fabrick_interview_task1.exception.NasaApiException;
+import com.example.fabrick_interview_task1.model.AsteroidApproaches;
+import com.example.fabrick_interview_task1.model.AsteroidRevalidation;
+import com.example.fabrick_interview_task1.model.AsteroidTimeline;
+import com.example.fabrick_interview_task1.model.CacheJob;
+import com.example.fabrick_interview_task1.model.CacheJobRequest;
+import com.example.fabrick_interview_task1.model.PlanetDictionary;
+import com.example.fabrick_interview_task1.service.impl.CacheAdminServiceImpl;
+import com.example.fabrick_interview_task1.support.NegativeCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CacheAdminServiceImplTest {
+
+    @Mock
+    private NasaApiClient nasaApiClient;
+
+    private ConcurrentMapCacheManager cacheManager;
+    private NegativeCache<Integer> asteroidNotFound;
+    private CacheAdminProperties cacheAdminProperties;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager(CacheConfig.ASTEROID_CACHE);
+        meterRegistry = new SimpleMeterRegistry();
+        asteroidNotFound = new NegativeCache<>(CacheConfig.ASTEROID_NOT_FOUND_CACHE, true, 100,
+                Duration.ofMinutes(10), meterRegistry);
+        cacheAdminProperties = new CacheAdminProperties();
+        cacheAdminProperties.setConcurrency(2);
+        cacheAdminProperties.setMaxAsteroidsPerJob(100);
+    }
+
+    @Test
+    void submit_PreloadOfRange_ShouldLoadEveryAsteroid() {
+        // Arrange
+        CacheAdminService service = createService(new SyncTaskExecutor());
+
+        // Act
+        CacheJob submitted = service.submit(CacheJob.Operation.PRELOAD, new CacheJobRequest(null, 10, 13));
+
+        // Assert
+        CacheJob job = service.getJob(submitted.getId());
+        assertEquals(CacheJob.State.COMPLETED, job.getState());
+        assertEquals(4, job.getRequested());
+        assertEquals(4, job.getSucceeded());
+        assertEquals(1.0, job.getProgress());
+        for (int asteroidId = 10; asteroidId <= 13; asteroidId++) {
+            verify(nasaApiClient).preloadAsteroidData(asteroidId);
+        }
+        assertEquals(4, meterRegistry.get("cache.admin.asteroids").tag("operation", "preload")
+                .tag("outcome", "succeeded").counter().count());
+    }
+
+    @Test
+    void submit_RefreshOfChangedAsteroid_ShouldReplaceTheCachedCopy() {
+        // Arrange
+        AsteroidTimeline cached = timeline("1");
+        AsteroidTimeline changed = timeline("1");
+        cache().put(1, cached);
+        asteroidNotFound.recordMissing(2);
+        when(nasaApiClient.revalidateAsteroidData(1, cached))
+                .thenReturn(new AsteroidRevalidation(changed, AsteroidRevalidation.Outcome.CHANGED, 100));
+        CacheAdminService service = createService(new SyncTaskExecutor());
+
+        // Act
+        CacheJob job = service.submit(CacheJob.Operation.REFRESH, new CacheJobRequest(List.of(1, 2), null, null));
+
+        // Assert
+        assertSame(changed, cache().get(1).get());
+        // not cached and no longer reported missing: loaded again
+        verify(nasaApiClient).preloadAsteroidData(2);
+        assertFalse(asteroidNotFound.isMissing(2));
+        assertEquals(2, service.getJob(job.getId()).getSucceeded());
+    }
+
+    @Test
+    void submit_RefreshOfAsteroidGoneFromNasa_ShouldEvictItAndReportTheFailure() {
+        // Arrange
+        AsteroidTimeline cached = timeline("1");
+        cache().put(1, cached);
+        when(nasaApiClient.revalidateAsteroidData(1, cached)).thenThrow(
+                new NasaApiException(null, HttpStatus.NOT_FOUND, ApplicationError.NASA_ASTEROID_NOT_FOUND));
+        CacheAdminService service = createService(new SyncTaskExecutor());
+
+        // Act
+        CacheJob job = service.submit(CacheJob.Operation.REFRESH, new CacheJobRequest(List.of(1), null, null));
+
+        // Assert
+        CacheJob finished = service.getJob(job.getId());
+        assertNull(cache().get(1));
+        assertEquals(1, finished.getFailed());
+        assertEquals("Asteroid not found", finished.getErrors().get(1));
+    }
+
+    @Test
+    void submit_Evict_ShouldDropCachedAndMissingEntries() {
+        // Arrange
+        cache().put(1, timeline("1"));
+        cache().put(3, timeline("3"));
+        asteroidNotFound.recordMissing(2);
+        CacheAdminService service = createService(new SyncTaskExecutor());
+
+        // Act
+        CacheJob job = service.submit(CacheJob.Operation.EVICT, new CacheJobRequest(List.of(1, 2, 1), null, null));
+
+        // Assert
+        assertEquals(2, service.getJob(job.getId()).getRequested());
+        assertNull(cache().get(1));
+        assertNotNull(cache().get(3));
+        assertFalse(asteroidNotFound.isMissing(2));
+        verifyNoInteractions(nasaApiClient);
+    }
+
+    @Test
+    void submit_WhenRateLimited_ShouldAbortAndSkipTheRest() {
+        // Arrange
+        when(nasaApiClient.preloadAsteroidData(anyInt())).thenAnswer(invocation -> {
+            if ((int) invocation.getArgument(0) == 2) {
+                throw new NasaApiException(null, HttpStatus.TOO_MANY_REQUESTS, ApplicationError.NASA_RATE_LIMITER_EXCEEDED);
+            }
+            return null;
+        });
+        CacheAdminService service = createService(new SyncTaskExecutor());
+
+        // Act
+        CacheJob job = service.submit(CacheJob.Operation.PRELOAD, new CacheJobRequest(null, 1, 5));
+
+        // Assert
+        CacheJob finished = service.getJob(job.getId());
+        assertEquals(CacheJob.State.ABORTED, finished.getState());
+        assertEquals(1, finished.getSucceeded());
+        assertEquals(1, finished.getFailed());
+        assertEquals(3, finished.getSkipped());
+        verify(nasaApiClient, never()).preloadAsteroidData(3);
+    }
+
+    @Test
+    void submit_WhileAnotherJobRuns_ShouldBeRefused() {
+        // Arrange
+        QueuedExecutor executor = new QueuedExecutor();
+        CacheAdminService service = createService(executor);
+        service.submit(CacheJob.Operation.PRELOAD, new CacheJobRequest(List.of(1), null, null));
+
+        // Act
+        ApplicationException exception = assertThrows(ApplicationException.class,
+                () -> service.submit(CacheJob.Operation.EVICT, new CacheJobRequest(List.of(2), null, null)));
+
+        // Assert
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, exception.getHttpStatus());
+        assertEquals(ApplicationError.CACHE_JOBS_LIMIT_EXCEEDED, exception.getError());
+        assertEquals(1, service.getJobs().size());
+    }
+
+    @Test
+    void cancel_BeforeTheJobStarts_ShouldSkipEveryAsteroid() {
+        // Arrange
+        QueuedExecutor executor = new QueuedExecutor();
+        CacheAdminService service = createService(executor);
+        CacheJob job = service.submit(CacheJob.Operation.PRELOAD, new CacheJobRequest(null, 1, 3));
+
+        // Act
+        service.cancel(job.getId());
+        executor.runAll();
+
+        // Assert
+        CacheJob finished = service.getJob(job.getId());
+        assertEquals(CacheJob.State.CANCELLED, finished.getState());
+        assertEquals(3, finished.getSkipped());
+        verifyNoInteractions(nasaApiClient);
+    }
+
+    @Test
+    void submit_WithInvalidRequests_ShouldThrowException() {
+        // Arrange
+        CacheAdminService service = createService(new SyncTaskExecutor());
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> service.submit(CacheJob.Operation.PRELOAD, new CacheJobRequest(List.of(1), 1, 2)));
+        assertThrows(IllegalArgumentException.class,
+                () -> service.submit(CacheJob.Operation.PRELOAD, new CacheJobRequest(null, null, null)));
+        assertThrows(IllegalArgumentException.class,
+                () -> service.submit(CacheJob.Operation.PRELOAD, new CacheJobRequest(null, 5, 1)));
+        assertThrows(IllegalArgumentException.class,
+                () -> service.submit(CacheJob.Operation.PRELOAD, new CacheJobRequest(null, 1, 101)));
+        ApplicationException notFound = assertThrows(ApplicationException.class, () -> service.getJob(42));
+        assertEquals(HttpStatus.NOT_FOUND, notFound.getHttpStatus());
+    }
+
+    private CacheAdminService createService(Executor executor) {
+        return new CacheAdminServiceImpl(nasaApiClient, cacheManager, asteroidNotFound, cacheAdminProperties,
+                executor, meterRegistry);
+    }
+
+    private Cache cache() {
+        return cacheManager.getCache(CacheConfig.ASTEROID_CACHE);
+    }
+
+    private static AsteroidTimeline timeline(String id) {
+        return AsteroidTimeline.of(new AsteroidApproaches(id, "(" + id + ")", new int[]{100},
+                new byte[]{PlanetDictionary.codeOf("Earth")}), null);
+    }
+
+    private static final class QueuedExecutor implements Executor {
+
+        private final List<Runnable> tasks = new ArrayList<>();
+
+        @Override
+        public void execute(Runnable task) {
+            tasks.add(task);
+        }
+
+        void runAll() {
+            while (!tasks.isEmpty()) {
+                tasks.remove(0).run();
+            }
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.fabrick_interview_task1.service;
+
+import com.example.fabrick_interview_task1.client.NasaApiClient;
+import com.example.fabrick_interview_task1.config.WarmUpProperties;
+import com.example.fabrick_interview_task1.config.cache.CacheConfig;
+import com.example.fabrick_interview_task1.constant.ApplicationError;
+import com.example.fabrick_interview_task1.exception.NasaApiException;
+import com.example.fabrick_interview_task1.model.WarmUpReport;
+import com.example.fabrick_interview_task1.service.impl.CacheWarmUpServiceImpl;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.http.HttpStatus;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CacheWarmUpServiceImplTest {
+
+    @Mock
+    private NasaApiClient nasaApiClient;
+
+    @TempDir
+    private Path tempDir;
+
+    private CaffeineCacheManager cacheManager;
+    private WarmUpProperties warmUpProperties;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new CaffeineCacheManager(CacheConfig.ASTEROID_CACHE);
+        cacheManager.setCaffeine(Caffeine.newBuilder().maximumSize(100).executor(Runnable::run));
+        meterRegistry = new SimpleMeterRegistry();
+        warmUpProperties = new WarmUpProperties();
+        warmUpProperties.setEnabled(true);
+        warmUpProperties.setConcurrency(2);
+        warmUpProperties.setHotKeysFile(tempDir.resolve("hot-keys").toString());
+    }
+
+    @Test
+    void warmUp_WithConfiguredAndRecordedKeys_ShouldLoadEachOnceConfiguredFirst() throws Exception {
+        // Arrange
+        warmUpProperties.setAsteroidIds(List.of(3, 1));
+        Files.writeString(tempDir.resolve("hot-keys"), "1\n2\n");
+        CacheWarmUpService service = createService();
+
+        // Act
+        WarmUpReport report = service.warmUp();
+
+        // Assert
+        assertEquals(3, report.getKeysRequested());
+        assertEquals(3, report.getAsteroidsLoaded());
+        assertEquals(1.0, report.getCoverage());
+        var order = inOrder(nasaApiClient);
+        order.verify(nasaApiClient).preloadAsteroidData(3);
+        order.verify(nasaApiClient).preloadAsteroidData(1);
+        order.verify(nasaApiClient).preloadAsteroidData(2);
+        assertTrue(service.isReady());
+        assertEquals(3, meterRegistry.get("warmup.asteroids").tag("outcome", "loaded").counter().count());
+    }
+
+    @Test
+    void warmUp_WhenRateLimited_ShouldStopAndReportPartialCoverage() {
+        // Arrange
+        warmUpProperties.setAsteroidIds(List.of(1, 2, 3, 4));
+        warmUpProperties.setConcurrency(1);
+        when(nasaApiClient.preloadAsteroidData(anyInt())).thenAnswer(invocation -> {
+            if ((int) invocation.getArgument(0) == 2) {
+                throw new NasaApiException(null, HttpStatus.TOO_MANY_REQUESTS,
+                        ApplicationError.NASA_RATE_LIMITER_EXCEEDED);
+            }
+            return null;
+        });
+
+        // Act
+        WarmUpReport report = createService().warmUp();
+
+        // Assert
+        assertEquals(4, report.getKeysRequested());
+        assertEquals(1, report.getAsteroidsLoaded());
+        assertEquals(1, report.getAsteroidsFailed());
+        assertEquals(0.25, report.getCoverage());
+        verify(nasaApiClient, never()).preloadAsteroidData(3);
+        verify(nasaApiClient, never()).preloadAsteroidData(4);
+    }
+
+    @Test
+    void isReady_BeforeWarmUp_ShouldBeFalseUnlessDisabled() {
+        // Arrange
+        CacheWarmUpService service = createService();
+
+        // Act
+        boolean readyWhenEnabled = service.isReady();
+        warmUpProperties.setEnabled(false);
+        boolean readyWhenDisabled = service.isReady();
+
+        // Assert
+        assertFalse(readyWhenEnabled);
+        assertTrue(readyWhenDisabled);
+        assertNull(service.getProgress());
+    }
+
+    @Test
+    void recordHotKeys_WithCachedAsteroids_ShouldPersistKeysForNextWarmUp() {
+        // Arrange
+        Cache cache = cacheManager.getCache(CacheConfig.ASTEROID_CACHE);
+        cache.put(10, "ten");
+        cache.put(20, "twenty");
+        CacheWarmUpService service = createService();
+
+        // Act
+        int recorded = service.recordHotKeys();
+        WarmUpReport report = createService().warmUp();
+
+        // Assert
+        assertEquals(2, recorded);
+        assertEquals(2, report.getKeysRequested());
+        verify(nasaApiClient).preloadAsteroidData(10);
+        verify(nasaApiClient).preloadAsteroidData(20);
+        verify(nasaApiClient, times(2)).preloadAsteroidData(anyInt());
+    }
+
+    private CacheWarmUpService createService() {
+        return new CacheWarmUpServiceImpl(nasaApiClient, cacheManager, warmUpProperties, new SyncTaskExecutor(),
+                meterRegistry);
+    }
+}
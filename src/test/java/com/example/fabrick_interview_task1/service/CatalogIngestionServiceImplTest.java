@@ -0,0 +1,186 @@
+package com.example.fabrick_interview_task1.service;
+
+import com.example.fabrick_interview_task1.client.NasaApiClient;
+import com.example.fabrick_interview_task1.config.IngestionProperties;
+import com.example.fabrick_interview_task1.config.cache.CacheConfig;
+import com.example.fabrick_interview_task1.constant.ApplicationError;
+import com.example.fabrick_interview_task1.exception.NasaApiException;
+import com.example.fabrick_interview_task1.model.AsteroidApproaches;
+import com.example.fabrick_interview_task1.model.IngestionReport;
+import com.example.fabrick_interview_task1.model.AsteroidTimeline;
+import com.example.fabrick_interview_task1.model.NasaBrowsePage;
+import com.example.fabrick_interview_task1.model.PlanetDictionary;
+import com.example.fabrick_interview_task1.model.ResponseValidators;
+import com.example.fabrick_interview_task1.service.impl.CatalogIngestionServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.http.HttpStatus;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogIngestionServiceImplTest {
+
+    private static final int TOTAL_PAGES = 5;
+    private static final int PAGE_SIZE = 2;
+
+    @Mock
+    private NasaApiClient nasaApiClient;
+
+    @TempDir
+    private Path tempDir;
+
+    private ConcurrentMapCacheManager cacheManager;
+    private IngestionProperties ingestionProperties;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager(CacheConfig.ASTEROID_CACHE);
+        meterRegistry = new SimpleMeterRegistry();
+        ingestionProperties = new IngestionProperties();
+        ingestionProperties.setPageSize(PAGE_SIZE);
+        ingestionProperties.setConcurrency(2);
+        ingestionProperties.setProgressFile(tempDir.resolve("progress").toString());
+    }
+
+    @Test
+    void ingest_WithFullBudget_ShouldCacheEveryAsteroidAndRestartSweep() {
+        // Arrange
+        when(nasaApiClient.getBrowsePage(anyInt(), eq(PAGE_SIZE))).thenAnswer(invocation -> page(invocation.getArgument(0)));
+
+        // Act
+        IngestionReport report = createService().ingest();
+
+        // Assert
+        assertEquals(TOTAL_PAGES, report.getPagesLoaded());
+        assertEquals(TOTAL_PAGES * PAGE_SIZE, report.getAsteroidsLoaded());
+        assertEquals(0, report.getNextPage());
+        AsteroidTimeline cached = cacheManager.getCache(CacheConfig.ASTEROID_CACHE).get(4001, AsteroidTimeline.class);
+        assertNotNull(cached);
+        assertEquals("Earth", cached.toNasaAsteroidResponse().getCloseApproachData().get(0).getOrbitingBody());
+        assertEquals(TOTAL_PAGES * PAGE_SIZE, meterRegistry.get("ingestion.asteroids").counter().count());
+    }
+
+    @Test
+    void ingest_WhenAsteroidAlreadyCached_ShouldKeepTheCachedEntry() {
+        // Arrange
+        when(nasaApiClient.getBrowsePage(anyInt(), eq(PAGE_SIZE))).thenAnswer(invocation -> page(invocation.getArgument(0)));
+        AsteroidTimeline validated = AsteroidTimeline.of(asteroid(1001), new ResponseValidators("\"v1\"", null, "hash"));
+        cacheManager.getCache(CacheConfig.ASTEROID_CACHE).put(1001, validated);
+
+        // Act
+        IngestionReport report = createService().ingest();
+
+        // Assert
+        assertSame(validated, cacheManager.getCache(CacheConfig.ASTEROID_CACHE).get(1001, AsteroidTimeline.class));
+        assertEquals(TOTAL_PAGES * PAGE_SIZE - 1, report.getAsteroidsLoaded());
+    }
+
+    @Test
+    void ingest_WithLimitedBudget_ShouldResumeFromPersistedPage() {
+        // Arrange
+        ingestionProperties.setMaxRequestsPerRun(2);
+        when(nasaApiClient.getBrowsePage(anyInt(), eq(PAGE_SIZE))).thenAnswer(invocation -> page(invocation.getArgument(0)));
+
+        // Act
+        IngestionReport firstRun = createService().ingest();
+        IngestionReport secondRun = createService().ingest();
+
+        // Assert
+        assertEquals(0, firstRun.getStartPage());
+        assertEquals(2, firstRun.getNextPage());
+        assertEquals(2, secondRun.getStartPage());
+        assertEquals(4, secondRun.getNextPage());
+        verify(nasaApiClient, times(4)).getBrowsePage(anyInt(), eq(PAGE_SIZE));
+    }
+
+    @Test
+    void ingest_WhenCatalogShrank_ShouldCountTheProbeAgainstTheBudget() throws Exception {
+        // Arrange
+        ingestionProperties.setMaxRequestsPerRun(3);
+        Files.writeString(tempDir.resolve("progress"), "7");
+        when(nasaApiClient.getBrowsePage(anyInt(), eq(PAGE_SIZE))).thenAnswer(invocation -> page(invocation.getArgument(0)));
+
+        // Act
+        IngestionReport report = createService().ingest();
+
+        // Assert
+        assertEquals(0, report.getStartPage());
+        assertEquals(2, report.getNextPage());
+        verify(nasaApiClient).getBrowsePage(7, PAGE_SIZE);
+        verify(nasaApiClient, times(3)).getBrowsePage(anyInt(), eq(PAGE_SIZE));
+    }
+
+    @Test
+    void ingest_WhenPageFails_ShouldNotAdvancePastIt() throws Exception {
+        // Arrange
+        when(nasaApiClient.getBrowsePage(anyInt(), eq(PAGE_SIZE))).thenAnswer(invocation -> {
+            int number = invocation.getArgument(0);
+            if (number == 2) {
+                throw new NasaApiException(null, HttpStatus.INTERNAL_SERVER_ERROR, ApplicationError.GENERIC_ERROR);
+            }
+            return page(number);
+        });
+
+        // Act
+        IngestionReport report = createService().ingest();
+
+        // Assert
+        assertEquals(4, report.getPagesLoaded());
+        assertEquals(1, report.getPagesFailed());
+        assertEquals(2, report.getNextPage());
+        assertEquals("2", Files.readString(tempDir.resolve("progress")));
+        assertEquals(1, meterRegistry.get("ingestion.pages").tag("outcome", "failed").counter().count());
+    }
+
+    @Test
+    void ingest_WhenRateLimited_ShouldStopSubmittingPages() {
+        // Arrange
+        ingestionProperties.setConcurrency(1);
+        when(nasaApiClient.getBrowsePage(anyInt(), eq(PAGE_SIZE))).thenAnswer(invocation -> {
+            int number = invocation.getArgument(0);
+            if (number == 1) {
+                throw new NasaApiException(null, HttpStatus.TOO_MANY_REQUESTS, ApplicationError.NASA_RATE_LIMITER_EXCEEDED);
+            }
+            return page(number);
+        });
+
+        // Act
+        IngestionReport report = createService().ingest();
+
+        // Assert
+        assertEquals(1, report.getPagesLoaded());
+        assertEquals(1, report.getPagesFailed());
+        assertEquals(1, report.getNextPage());
+        verify(nasaApiClient, times(2)).getBrowsePage(anyInt(), eq(PAGE_SIZE));
+    }
+
+    private CatalogIngestionServiceImpl createService() {
+        return new CatalogIngestionServiceImpl(nasaApiClient, cacheManager, ingestionProperties,
+                new SyncTaskExecutor(), meterRegistry);
+    }
+
+    private NasaBrowsePage page(int number) {
+        List<AsteroidApproaches> asteroids = List.of(asteroid(number * 1000 + 1000 + 1), asteroid(number * 1000 + 1000 + 2));
+        return new NasaBrowsePage(number, TOTAL_PAGES, (long) TOTAL_PAGES * PAGE_SIZE, asteroids, 100);
+    }
+
+    private AsteroidApproaches asteroid(int id) {
+        return new AsteroidApproaches(String.valueOf(id), "Asteroid " + id,
+                new int[]{0}, new byte[]{PlanetDictionary.codeOf("Earth")});
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.fabrick_interview_task1.support;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NegativeCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void isMissing_AfterRecordMissing_ShouldAnswerLocallyAndCountHit() {
+        // Arrange
+        NegativeCache<Integer> cache = new NegativeCache<>("asteroidNotFound", true, 100, Duration.ofMinutes(10),
+                meterRegistry);
+        cache.recordMissing(1);
+
+        // Act
+        boolean missing = cache.isMissing(1);
+        boolean unknown = cache.isMissing(2);
+
+        // Assert
+        assertTrue(missing);
+        assertFalse(unknown);
+        assertEquals(1, meterRegistry.counter("negative.cache.lookups", "name", "asteroidNotFound", "result", "hit")
+                .count());
+        assertEquals(1, meterRegistry.counter("negative.cache.lookups", "name", "asteroidNotFound", "result", "miss")
+                .count());
+    }
+
+    @Test
+    void isMissing_AfterForget_ShouldLeaveKeyToSource() {
+        // Arrange
+        NegativeCache<Integer> cache = new NegativeCache<>("asteroidNotFound", true, 100, Duration.ofMinutes(10),
+                meterRegistry);
+        cache.recordMissing(1);
+
+        // Act
+        cache.forget(1);
+
+        // Assert
+        assertFalse(cache.isMissing(1));
+    }
+
+    @Test
+    void isMissing_WhenDisabled_ShouldNeverAnswer() {
+        // Arrange
+        NegativeCache<Integer> cache = new NegativeCache<>("asteroidNotFound", false, 100, Duration.ofMinutes(10),
+                meterRegistry);
+        cache.recordMissing(1);
+
+        // Act
+        boolean missing = cache.isMissing(1);
+
+        // Assert
+        assertFalse(missing);
+        assertEquals(0, cache.getNativeCache().estimatedSize());
+    }
+}
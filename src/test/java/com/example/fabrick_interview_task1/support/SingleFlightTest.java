@@ -0,0 +1,126 @@
+package com.example.fabrick_interview_task1.support;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SingleFlight<Integer, String> singleFlight;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        singleFlight = new SingleFlight<>("asteroid", meterRegistry);
+        executor = Executors.newFixedThreadPool(CALLERS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void execute_WithConcurrentCallersOnSameKey_ShouldLoadOnce() throws Exception {
+        // Arrange
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        // Act
+        List<Future<String>> results = submitCallers(() -> {
+            loads.incrementAndGet();
+            await(release);
+            return "asteroid-123";
+        });
+        waitForCoalescedCallers(CALLERS - 1);
+        release.countDown();
+
+        // Assert
+        for (Future<String> result : results) {
+            assertEquals("asteroid-123", result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+        assertEquals(1.0, loadCount("leader"));
+        assertEquals(CALLERS - 1.0, loadCount("coalesced"));
+    }
+
+    @Test
+    void execute_WhenLoaderFails_ShouldPropagateToEveryWaiterAndNotRetainFailure() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        IllegalStateException failure = new IllegalStateException("NASA unavailable");
+
+        // Act
+        List<Future<String>> results = submitCallers(() -> {
+            await(release);
+            throw failure;
+        });
+        waitForCoalescedCallers(CALLERS - 1);
+        release.countDown();
+
+        // Assert
+        for (Future<String> result : results) {
+            ExecutionException exception = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertSame(failure, exception.getCause());
+        }
+        assertEquals("recovered", singleFlight.execute(123, () -> "recovered"));
+    }
+
+    @Test
+    void execute_WithDifferentKeys_ShouldNotCoalesce() {
+        // Act
+        String first = singleFlight.execute(1, () -> "first");
+        String second = singleFlight.execute(2, () -> "second");
+
+        // Assert
+        assertEquals("first", first);
+        assertEquals("second", second);
+        assertEquals(2.0, loadCount("leader"));
+        assertEquals(0.0, loadCount("coalesced"));
+    }
+
+    private List<Future<String>> submitCallers(Supplier<String> loader) {
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> singleFlight.execute(123, loader)));
+        }
+        return results;
+    }
+
+    private void waitForCoalescedCallers(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (loadCount("coalesced") < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private double loadCount(String role) {
+        return meterRegistry.get("single.flight.loads").tag("role", role).counter().count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}